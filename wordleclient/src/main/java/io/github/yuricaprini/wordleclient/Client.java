@@ -32,6 +32,7 @@ import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.SecretWordDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
@@ -41,6 +42,7 @@ import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
 import io.github.yuricaprini.wordleprotocol.exceptions.ResponseTooLargeException;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.Top3NotificationRemoteService;
@@ -61,6 +63,7 @@ public class Client implements Top3NotifyEventRemote {
   private static final String RED = Ansi.ansi().fg(Color.RED).bg(Color.BLACK).toString();
   private static final String RESET = Ansi.ansi().reset().toString();
   private static final int MAX_ATTEMPTS = 12;
+  private static final int RANKING_PAGEDIM = 15; // the server serves at most 19 players a page
   private static final char GREEN_SIMBOL = '+';
   private static final char YELLOW_SIMBOL = '?';
   private static final char RED_SIMBOL = 'X';
@@ -89,8 +92,6 @@ public class Client implements Top3NotifyEventRemote {
     this.appStrings = appStrings;
     this.outputQueue = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
     this.inputQueue = ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(1024);
-    this.requestFactory = ProtocolFactoryProvider.newWordleRequestFactory();
-    this.responseFactory = ProtocolFactoryProvider.newWordleResponseFactory();
     this.sharedResults = new ArrayBlockingQueue<SharedGameResultDTO>(100);
   }
 
@@ -139,6 +140,11 @@ public class Client implements Top3NotifyEventRemote {
       this.clientChannel = SocketChannel.open();
       clientChannel.connect(new InetSocketAddress(config.serverAddress, config.serverPort));
 
+      WireFormat wireFormat = config.wireFormat != null ? config.wireFormat : WireFormat.HTTP;
+      this.requestFactory = ProtocolFactoryProvider.newWordleRequestFactory(wireFormat);
+      this.responseFactory = ProtocolFactoryProvider.newWordleResponseFactory(wireFormat);
+      wireFormat.announceTo(outputQueue); // sent along with the first request
+
       printOutWordleBanner();
       printlnOutValueOf("WELCOME");
 
@@ -296,6 +302,13 @@ public class Client implements Top3NotifyEventRemote {
               printlnOutValueOf("ERR_LOGOUT_NOTLOGGED");
             } else {
 
+              WordleResponse logoutResponse =
+                  sendRequest(requestFactory.createLogoutRequest(authToken));
+
+              // an invalid token means that the session is already over
+              if (logoutResponse.getType() != LOGOUT_OK && logoutResponse.getType() != LOGOUT_NO)
+                printlnErrValueOf("ERR_INVALID_RESPONSE");
+
               notificationService.unsubscribe(stub);
               sharedResultsThread.terminate();
               sharedResultsThread = null;
@@ -457,26 +470,28 @@ public class Client implements Top3NotifyEventRemote {
               LinkedList<PlayerDTO> ranking = new LinkedList<PlayerDTO>();
               HashSet<PlayerDTO> seenPlayerDTOs = new HashSet<PlayerDTO>();
 
-              WordleResponse showMeRankingResponse =
-                  sendRequest(requestFactory.createShowMeRankingRequest(authToken, null));
+              WordleResponse showMeRankingResponse = sendRequest(requestFactory
+                  .createShowMeRankingRequest(authToken,
+                      RankingCursorDTO.newInstance(null, true, RANKING_PAGEDIM)));
 
               if (showMeRankingResponse.getType() == SHOWMERANKING_OK) {
 
-                PlayerDTO[] playerDTOs = showMeRankingResponse.getPlayerDTOs();
-
-                while (playerDTOs != null) {
-                  for (PlayerDTO playerDTO : playerDTOs) {
-                    if (seenPlayerDTOs.add(playerDTO))
-                      ranking.addFirst(playerDTO);
-                  }
-
-                  showMeRankingResponse = sendRequest(requestFactory
-                      .createShowMeRankingRequest(authToken, playerDTOs[playerDTOs.length - 1]));
-
-                  if (showMeRankingResponse.getType() != SHOWMERANKING_OK)
-                    break;
-                  playerDTOs = showMeRankingResponse.getPlayerDTOs();
-                }
+                String nextCursor;
+                do {
+                  PlayerDTO[] playerDTOs = showMeRankingResponse.getPlayerDTOs();
+                  if (playerDTOs != null)
+                    for (PlayerDTO playerDTO : playerDTOs) {
+                      if (seenPlayerDTOs.add(playerDTO))
+                        ranking.addLast(playerDTO);
+                    }
+
+                  nextCursor = showMeRankingResponse.getNextRankingCursor();
+                  if (nextCursor != null)
+                    showMeRankingResponse = sendRequest(requestFactory
+                        .createShowMeRankingRequest(authToken,
+                            RankingCursorDTO.newInstance(nextCursor, true, RANKING_PAGEDIM)));
+
+                } while (nextCursor != null && showMeRankingResponse.getType() == SHOWMERANKING_OK);
 
                 if (showMeRankingResponse.getType() == SHOWMERANKING_OK) {
                   printlnOutValueOf("OUT_SHOWMERANKING_OK");
@@ -1,5 +1,7 @@
 package io.github.yuricaprini.wordleclient;
 
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+
 /**
   * The {@code ClientConfiguration} class represents the configuration settings for the client.
   * These configuration settings are used to establish the connection with the remote server.
@@ -15,4 +17,5 @@ public class ClientConfiguration {
   public String multicastGroup;
   public Integer multicastPort;
   public String multicastIF;
+  public WireFormat wireFormat; // HTTP if not configured
 }
@@ -9,9 +9,9 @@ import java.net.NetworkInterface;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.BlockingQueue;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
+import io.github.yuricaprini.wordleprotocol.json.JsonCodec;
 
 public class SharedResultsListener extends Thread {
 
@@ -52,8 +52,8 @@ public class SharedResultsListener extends Thread {
 
         try {
           SharedGameResultDTO sharedGameResultDTO =
-              new Gson().fromJson(new String(packet.getData(), StandardCharsets.UTF_8).trim(),
-                  SharedGameResultDTO.class);
+              JsonCodec.fromJson(new String(packet.getData(), 0, packet.getLength(),
+                  StandardCharsets.UTF_8).trim(), SharedGameResultDTO.class);
 
           if (!sharedResultsQueue.offer(sharedGameResultDTO)) {
             sharedResultsQueue.poll(); // discard oldest
@@ -1,22 +1,37 @@
 package io.github.yuricaprini.wordleprotocol;
 
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.implementations.factories.BufferPoolFactory;
 import io.github.yuricaprini.wordleprotocol.implementations.factories.InputQueueFactory;
 import io.github.yuricaprini.wordleprotocol.implementations.factories.OutputQueueFactory;
+import io.github.yuricaprini.wordleprotocol.implementations.factories.WordleBinaryRequestFactory;
+import io.github.yuricaprini.wordleprotocol.implementations.factories.WordleBinaryResponseFactory;
 import io.github.yuricaprini.wordleprotocol.implementations.factories.WordleRequestFactory;
 import io.github.yuricaprini.wordleprotocol.implementations.factories.WordleResponseFactory;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 
 /**
  * The {@code ProtocolFactoryProvider} interface provides static factory methods for creating
- * instances of various protocol-related classes such as InputQueue, OutputQueue, WordleRequest,
- * and WordleResponse.
+ * instances of various protocol-related classes such as BufferPool, InputQueue, OutputQueue,
+ * WordleRequest, and WordleResponse.
  * Implementations of these factories are provided by concrete classes.
  */
 public interface ProtocolFactoryProvider {
 
+  /**
+   * Creates a new instance of BufferPool.Factory.
+   *
+   * @return a factory for creating BufferPool instances.
+   */
+  public static BufferPool.Factory newBufferPoolFactory() {
+    return new BufferPoolFactory();
+  }
+
   /**
    * Creates a new instance of InputQueue.Factory.
    *
@@ -44,6 +59,22 @@ public interface ProtocolFactoryProvider {
     return new WordleRequestFactory();
   }
 
+  /**
+   * Creates a new instance of WordleRequest.Factory for the specified wire format.
+   *
+   * @param wireFormat the wire format of the created requests.
+   * @return a factory for creating WordleRequest instances exchanged in {@code wireFormat}.
+   * @throws NullPointerException if {@code wireFormat == null}
+   */
+  public static WordleRequest.Factory newWordleRequestFactory(WireFormat wireFormat) {
+    switch (Objects.requireNonNull(wireFormat)) {
+      case BINARY:
+        return new WordleBinaryRequestFactory();
+      default:
+        return new WordleRequestFactory();
+    }
+  }
+
   /**
    * Creates a new instance of WordleResponse.Factory.
    *
@@ -52,5 +83,21 @@ public interface ProtocolFactoryProvider {
   public static WordleResponse.Factory newWordleResponseFactory() {
     return new WordleResponseFactory();
   }
+
+  /**
+   * Creates a new instance of WordleResponse.Factory for the specified wire format.
+   *
+   * @param wireFormat the wire format of the created responses.
+   * @return a factory for creating WordleResponse instances exchanged in {@code wireFormat}.
+   * @throws NullPointerException if {@code wireFormat == null}
+   */
+  public static WordleResponse.Factory newWordleResponseFactory(WireFormat wireFormat) {
+    switch (Objects.requireNonNull(wireFormat)) {
+      case BINARY:
+        return new WordleBinaryResponseFactory();
+      default:
+        return new WordleResponseFactory();
+    }
+  }
 }
 
@@ -5,13 +5,21 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
 /**
  * A {@code AuthToken} represents an authentication token used for user authentication.
  * It allows the creation of tokens with user-related claims and provides token verification.
+ * <p>
+ * Tokens issued or successfully verified are remembered until they expire: validating them again
+ * takes a single lock-free hash lookup instead of decoding, parsing and verifying the signature
+ * once more. At most {@value #MAX_VERIFIED_TOKENS} tokens are remembered: when that many are,
+ * the expired ones are forgotten before remembering another one, and if none has expired the new
+ * one is simply not remembered.
  */
 public class AuthToken implements Serializable {
 
@@ -19,6 +27,10 @@ public class AuthToken implements Serializable {
   private static String secretKey;
   private static int expirationTimeInterval;
 
+  static final int MAX_VERIFIED_TOKENS = 4096;
+  private static final Map<String, VerifiedToken> verifiedTokens =
+      new ConcurrentHashMap<String, VerifiedToken>();
+
   private final String token;
 
   /**
@@ -34,6 +46,7 @@ public class AuthToken implements Serializable {
     if (expirationInterval < 0)
       throw new IllegalArgumentException();
     expirationTimeInterval = expirationInterval;
+    verifiedTokens.clear();
   }
 
   /**
@@ -57,8 +70,13 @@ public class AuthToken implements Serializable {
     Date now = new Date();
     Date expirationDate = new Date(now.getTime() + expirationTimeInterval);
 
-    return new AuthToken(Jwts.builder().setClaims(claims).setIssuedAt(now)
+    AuthToken authToken = new AuthToken(Jwts.builder().setClaims(claims).setIssuedAt(now)
         .setExpiration(expirationDate).signWith(SignatureAlgorithm.HS256, secretKey).compact());
+
+    // the encoded expiration has a resolution of seconds
+    authToken.remember(userID, expirationDate.getTime() / 1000 * 1000);
+
+    return authToken;
   }
 
   /**
@@ -92,13 +110,49 @@ public class AuthToken implements Serializable {
     if (secretKey == null)
       throw new IllegalStateException();
 
+    if (token == null)
+      throw new InvalidTokenException();
+
+    VerifiedToken verifiedToken = verifiedTokens.get(token);
+    if (verifiedToken != null) {
+      if (System.currentTimeMillis() < verifiedToken.expiration)
+        return verifiedToken.userID;
+      verifiedTokens.remove(token, verifiedToken);
+    }
+
+    String userID;
+    Date expirationDate;
     try {
-      return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody()
-          .get(USERID_CLAME_NAME, String.class);
+      Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+      userID = claims.get(USERID_CLAME_NAME, String.class);
+      expirationDate = claims.getExpiration();
 
     } catch (Exception e) {
       throw new InvalidTokenException();
     }
+
+    if (userID != null && expirationDate != null)
+      remember(userID, expirationDate.getTime());
+
+    return userID;
+  }
+
+  /**
+   * Remembers this token as verified, for the specified user and until the specified time. If
+   * the maximum number of remembered tokens has been reached, the expired ones are forgotten
+   * first; if none of them has expired, this token is not remembered.
+   *
+   * @param userID the user ID associated with this token.
+   * @param expiration the expiration time of this token in milliseconds.
+   */
+  private void remember(String userID, long expiration) {
+    if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+      long now = System.currentTimeMillis();
+      verifiedTokens.values().removeIf(verifiedToken -> now >= verifiedToken.expiration);
+      if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS)
+        return;
+    }
+    verifiedTokens.put(token, new VerifiedToken(userID, expiration));
   }
 
   @Override
@@ -121,4 +175,18 @@ public class AuthToken implements Serializable {
   public String toString() {
     return token;
   }
+
+  /**
+   * The user ID and the expiration time of a token whose signature has been verified.
+   */
+  private static final class VerifiedToken {
+
+    private final String userID;
+    private final long expiration;
+
+    private VerifiedToken(String userID, long expiration) {
+      this.userID = userID;
+      this.expiration = expiration;
+    }
+  }
 }
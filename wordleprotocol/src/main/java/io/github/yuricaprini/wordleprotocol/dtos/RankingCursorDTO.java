@@ -0,0 +1,88 @@
+package io.github.yuricaprini.wordleprotocol.dtos;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A {@code RankingCursorDTO} represents an immutable data transfer object describing a requested
+ * ranking page. It includes the opaque cursor returned with the previous page, the browsing
+ * direction and the desired page size.
+ */
+public class RankingCursorDTO implements Serializable {
+
+  private final String cursor;
+  private final boolean descending;
+  private final int pageSize;
+
+  /**
+   * Private constructor to create a {@code RankingCursorDTO} object with the specified
+   * {@code cursor}, {@code descending} and {@code pageSize}.
+   *
+   * @param cursor the cursor returned with the previous page, {@code null} for the first page.
+   * @param descending {@code true} to browse the ranking from the top down.
+   * @param pageSize the desired page size.
+   */
+  private RankingCursorDTO(String cursor, boolean descending, int pageSize) {
+    this.cursor = cursor;
+    this.descending = descending;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Static factory method to create a new instance of {@code RankingCursorDTO} with the specified
+   * {@code cursor}, {@code descending} and {@code pageSize}.
+   *
+   * @param cursor the cursor returned with the previous page, {@code null} for the first page.
+   * @param descending {@code true} to browse the ranking from the top down.
+   * @param pageSize the desired page size.
+   * @return a new {@code RankingCursorDTO} instance.
+   */
+  public static RankingCursorDTO newInstance(String cursor, boolean descending, int pageSize) {
+    return new RankingCursorDTO(cursor, descending, pageSize);
+  }
+
+  /**
+   * Returns the cursor returned with the previous page.
+   *
+   * @return the cursor returned with the previous page or {@code null} for the first page.
+   */
+  public String getCursor() {
+    return cursor;
+  }
+
+  /**
+   * Returns whether the ranking is browsed from the top down.
+   *
+   * @return {@code true} if the ranking is browsed from the top down, {@code false} otherwise.
+   */
+  public boolean isDescending() {
+    return descending;
+  }
+
+  /**
+   * Returns the desired page size.
+   *
+   * @return the desired page size.
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(cursor, descending, pageSize);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    RankingCursorDTO rankingCursorDTO = (RankingCursorDTO) obj;
+    return descending == rankingCursorDTO.descending && pageSize == rankingCursorDTO.pageSize
+        && Objects.equals(cursor, rankingCursorDTO.cursor);
+  }
+}
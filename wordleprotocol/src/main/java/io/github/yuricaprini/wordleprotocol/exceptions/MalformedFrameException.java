@@ -0,0 +1,12 @@
+package io.github.yuricaprini.wordleprotocol.exceptions;
+
+public class MalformedFrameException extends Exception {
+
+  public MalformedFrameException() {
+
+  }
+
+  public MalformedFrameException(Throwable e) {
+    super(e);
+  }
+}
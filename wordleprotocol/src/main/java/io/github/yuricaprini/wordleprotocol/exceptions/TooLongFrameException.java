@@ -0,0 +1,5 @@
+package io.github.yuricaprini.wordleprotocol.exceptions;
+
+public class TooLongFrameException extends Exception {
+
+}
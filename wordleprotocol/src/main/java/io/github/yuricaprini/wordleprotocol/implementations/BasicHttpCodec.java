@@ -2,9 +2,12 @@ package io.github.yuricaprini.wordleprotocol.implementations;
 
 import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map.Entry;
+import java.util.Objects;
 import io.github.yuricaprini.wordleprotocol.exceptions.MalformedHttpMessageException;
 import io.github.yuricaprini.wordleprotocol.exceptions.TooLongHttpMessageException;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
@@ -13,36 +16,77 @@ import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
 /**
  * The {@code BasicHttpCodec} class provides functionality for encoding and decoding HTTP messages.
  * It can parse HTTP messages from an input queue and encode HTTP messages to an output queue.
+ * <p>
+ * Decoding scans the bytes of the input queue in place, through {@link InputQueue#peek()}. A line
+ * entirely available in the queue is parsed where it lies, while the bytes of a line or body split
+ * across several reads are gathered in a section buffer, allocated the first time it is needed.
+ * Start-line tokens and header names and values equal to a known token (the protocol constants of
+ * {@link BasicHttpMessage} and the ones of the {@link KnownTokens} given at construction) are
+ * compared as byte slices and mapped to the constant itself, so that only the other tokens and the
+ * body are materialized as new strings.
  */
 class BasicHttpCodec {
 
-  private final int DEFAULT_INIT_SEC_SIZE = 128;
-  private final Charset ISO_8859_1 = StandardCharsets.ISO_8859_1;
+  private static final int DEFAULT_INIT_SEC_SIZE = 128;
+  private static final Charset ISO_8859_1 = StandardCharsets.ISO_8859_1;
+
+  private static final byte CR_BYTE = BasicHttpMessage.CR.getBytes(StandardCharsets.ISO_8859_1)[0];
+  private static final byte LF_BYTE = BasicHttpMessage.LF.getBytes(StandardCharsets.ISO_8859_1)[0];
+  private static final byte SP_BYTE = BasicHttpMessage.SP.getBytes(StandardCharsets.ISO_8859_1)[0];
+  private static final byte COLON_BYTE =
+      BasicHttpMessage.COLON.getBytes(StandardCharsets.ISO_8859_1)[0];
+  private static final byte[] SP_BYTES = BasicHttpMessage.SP.getBytes(StandardCharsets.ISO_8859_1);
+  private static final byte[] COLON_BYTES =
+      BasicHttpMessage.COLON.getBytes(StandardCharsets.ISO_8859_1);
+  private static final byte[] CRLF_BYTES =
+      BasicHttpMessage.CRLF.getBytes(StandardCharsets.ISO_8859_1);
+
+  private static final String[] PROTOCOL_TOKENS = {BasicHttpMessage.GET, BasicHttpMessage.POST,
+      BasicHttpMessage.VERSION, BasicHttpMessage.VERSION_1_0, BasicHttpMessage.SUCCESS_CODE,
+      BasicHttpMessage.SUCCESS_DESC, BasicHttpMessage.UNAUTHORIZED_CODE,
+      BasicHttpMessage.UNAUTHORIZED_DESC, BasicHttpMessage.BADREQUEST_CODE,
+      BasicHttpMessage.BADREQUEST_DESC, BasicHttpMessage.REQUESTTOOLARGE_CODE,
+      BasicHttpMessage.REQUESTTOOLARGE_DESC, BasicHttpMessage.CONTENTTYPE_HKEY,
+      BasicHttpMessage.CONTENTLEN_HKEY, BasicHttpMessage.AUTH_HKEY,
+      BasicHttpMessage.CONNECTION_HKEY, BasicHttpMessage.CLOSE_HVAL,
+      BasicHttpMessage.KEEPALIVE_HVAL, BasicHttpMessage.CONTENTTYPE_JSON_HVAL,
+      BasicHttpMessage.CONTENTTYPE_TEXT_HVAL};
 
   private int maxHttpMsgSize;
   private int httpMsgSize;
   private DecodeState decodeState;
   private DecodeLineState decodeLineState;
-  private ByteArrayOutputStream section;
+  private byte[] section;
+  private int sectionLength;
+  private ByteBuffer line;
+  private int lineFrom;
+  private int lineTo;
   private int bodyLength;
   private String bodyCharset;
   private BasicHttpMessage basicHttpMessage;
+  private KnownTokens knownTokens;
 
   /**
    * Constructs a new {@code BasicHttpCodec} able to decode and encode HTTP messages of maximum
    * length {@code maxHttpMsgSize}.
    *
    * @param maxHttpMsgSize the maximum size allowed for HTTP messages to encode and decode.
+   * @param knownTokens the tokens which decoded messages are expected to contain, mapped to
+   * themselves when decoded.
+   * @throws NullPointerException if {@code knownTokens == null}.
    */
-  BasicHttpCodec(int maxHttpMsgSize) {
+  BasicHttpCodec(int maxHttpMsgSize, KnownTokens knownTokens) {
     this.maxHttpMsgSize = maxHttpMsgSize;
     this.httpMsgSize = 0;
     this.decodeState = DecodeState.STARTLINE;
     this.decodeLineState = DecodeLineState.READ_CR;
-    this.section = new ByteArrayOutputStream(DEFAULT_INIT_SEC_SIZE);
+    this.section = null;
+    this.sectionLength = 0;
+    this.line = null;
     this.bodyLength = 0;
     this.bodyCharset = null;
     this.basicHttpMessage = new BasicHttpMessage();
+    this.knownTokens = Objects.requireNonNull(knownTokens);
   }
 
   /**
@@ -57,22 +101,46 @@ class BasicHttpCodec {
   BasicHttpMessage decode(InputQueue inputQueue)
       throws MalformedHttpMessageException, TooLongHttpMessageException {
 
+    ByteBuffer input = inputQueue.peek();
+    int inputStart = input.position();
 
-    String startLine, headerLine, body = null;
+    try {
+      return decode(input);
+    } finally {
+      inputQueue.skip(input.position() - inputStart);
+    }
+  }
+
+  /**
+   * Private helper method to decode an HTTP message from {@code input}, a view of the input queue
+   * whose position is advanced past the consumed bytes.
+   *
+   * @param input the view of the input queue containing the HTTP message in bytes.
+   * @return a {@code BasicHttpMessage} if the HTTP message is successfully decoded, or 
+   * {@code null} if the message is not fully available yet.
+   * @throws MalformedHttpMessageException if the HTTP message is malformed.
+   * @throws TooLongHttpMessageException if the HTTP message exceeds the maximum allowed size.
+   */
+  private BasicHttpMessage decode(ByteBuffer input)
+      throws MalformedHttpMessageException, TooLongHttpMessageException {
+
+    String[] tokens;
+    String body = null;
     switch (decodeState) {
 
       case STARTLINE:
-        if ((startLine = decodeLine(inputQueue)) == null)
+        if (!decodeLine(input))
           return null;
 
-        String[] tokens = startLine.split(BasicHttpMessage.SP, 3);
+        int firstSP = indexOf(SP_BYTE, lineFrom, lineTo);
+        int secondSP = firstSP < 0 ? -1 : indexOf(SP_BYTE, firstSP + 1, lineTo);
 
-        if (tokens.length < 3)
+        if (secondSP < 0)
           throw new MalformedHttpMessageException();
 
-        basicHttpMessage.setStartLineFirstToken(tokens[0]);
-        basicHttpMessage.setStartLineSecondToken(tokens[1]);
-        basicHttpMessage.setStartLineThirdToken(tokens[2]);
+        basicHttpMessage.setStartLineFirstToken(toToken(lineFrom, firstSP));
+        basicHttpMessage.setStartLineSecondToken(toToken(firstSP + 1, secondSP));
+        basicHttpMessage.setStartLineThirdToken(toToken(secondSP + 1, lineTo));
 
         decodeState = DecodeState.HEADER;
 
@@ -80,18 +148,25 @@ class BasicHttpCodec {
 
         while (decodeState == DecodeState.HEADER) {
 
-          if ((headerLine = decodeLine(inputQueue)) == null)
+          if (!decodeLine(input))
             return null;
 
-          if (headerLine.isEmpty())
+          if (lineFrom == lineTo)
             decodeState = DecodeState.BODY;
           else {
-            tokens = headerLine.split(BasicHttpMessage.COLON, 2);
+            int colon = indexOf(COLON_BYTE, lineFrom, lineTo);
 
-            if (tokens.length < 2)
+            if (colon < 0)
               throw new MalformedHttpMessageException();
 
-            basicHttpMessage.addHeader(tokens[0], tokens[1].trim());
+            int valueFrom = colon + 1;
+            int valueTo = lineTo;
+            while (valueFrom < valueTo && (line.get(valueFrom) & 0xFF) <= ' ')
+              valueFrom++;
+            while (valueTo > valueFrom && (line.get(valueTo - 1) & 0xFF) <= ' ')
+              valueTo--;
+
+            basicHttpMessage.addHeader(toToken(lineFrom, colon), toToken(valueFrom, valueTo));
           }
         }
 
@@ -126,7 +201,7 @@ class BasicHttpCodec {
 
         }
 
-        if ((body = decodeBody(inputQueue)) == null)
+        if ((body = decodeBody(input)) == null)
           return null;
 
         basicHttpMessage.setBody(body);
@@ -146,73 +221,86 @@ class BasicHttpCodec {
   void encode(BasicHttpMessage httpMessage, OutputQueue outputQueue) {
 
     outputQueue.enqueue(httpMessage.getStartLineFirstToken().getBytes(ISO_8859_1));
-    outputQueue.enqueue(BasicHttpMessage.SP.getBytes(ISO_8859_1));
+    outputQueue.enqueue(SP_BYTES);
     outputQueue.enqueue(httpMessage.getStartLineSecondToken().getBytes(ISO_8859_1));
-    outputQueue.enqueue(BasicHttpMessage.SP.getBytes(ISO_8859_1));
+    outputQueue.enqueue(SP_BYTES);
     outputQueue.enqueue(httpMessage.getStartLineThirdToken().getBytes(ISO_8859_1));
-    outputQueue.enqueue(BasicHttpMessage.CRLF.getBytes(ISO_8859_1));
+    outputQueue.enqueue(CRLF_BYTES);
 
     for (Entry<String, String> header : httpMessage.getHeaders()) {
       outputQueue.enqueue(header.getKey().getBytes(ISO_8859_1));
-      outputQueue.enqueue(BasicHttpMessage.COLON.getBytes(ISO_8859_1));
+      outputQueue.enqueue(COLON_BYTES);
       outputQueue.enqueue(header.getValue().getBytes(ISO_8859_1));
-      outputQueue.enqueue(BasicHttpMessage.CRLF.getBytes(ISO_8859_1));
+      outputQueue.enqueue(CRLF_BYTES);
     }
-    outputQueue.enqueue(BasicHttpMessage.CRLF.getBytes(ISO_8859_1));
+    outputQueue.enqueue(CRLF_BYTES);
 
     if (httpMessage.getCachedEncodedBody() != null)
       outputQueue.enqueue(httpMessage.getCachedEncodedBody());
   }
 
   /**
-   * Private helper method to decode a line from the input queue.
+   * Encodes a {@code BasicHttpMessage} object to a byte array, in the same form it would be
+   * written to an output queue by {@link #encode(BasicHttpMessage, OutputQueue)}.
    *
-   * @param inputQueue the input queue containing the HTTP message line in bytes.
-   * @return the decoded line if successfully decoded, or {@code null} if not complete yet.
-   * @throws TooLongHttpMessageException if the HTTP message exceeds the maximum allowed size.
+   * @param httpMessage the {@code BasicHttpMessage} to encode.
+   * @return the encoded message.
    */
-  private String decodeLine(InputQueue inputQueue) throws TooLongHttpMessageException {
+  byte[] encode(BasicHttpMessage httpMessage) {
 
-    byte CRbyte = BasicHttpMessage.CR.getBytes(ISO_8859_1)[0];
-    byte LFbyte = BasicHttpMessage.LF.getBytes(ISO_8859_1)[0];
-    boolean CRLFFound = false;
-    String decodedLine = null;
+    ByteArrayOutputStream output = new ByteArrayOutputStream(DEFAULT_INIT_SEC_SIZE);
 
-    while (!inputQueue.isEmpty() && !CRLFFound) {
-      byte dequeuedByte = inputQueue.dequeue();
+    writeBytes(output, httpMessage.getStartLineFirstToken().getBytes(ISO_8859_1));
+    writeBytes(output, SP_BYTES);
+    writeBytes(output, httpMessage.getStartLineSecondToken().getBytes(ISO_8859_1));
+    writeBytes(output, SP_BYTES);
+    writeBytes(output, httpMessage.getStartLineThirdToken().getBytes(ISO_8859_1));
+    writeBytes(output, CRLF_BYTES);
 
-      httpMsgSize++;
+    for (Entry<String, String> header : httpMessage.getHeaders()) {
+      writeBytes(output, header.getKey().getBytes(ISO_8859_1));
+      writeBytes(output, COLON_BYTES);
+      writeBytes(output, header.getValue().getBytes(ISO_8859_1));
+      writeBytes(output, CRLF_BYTES);
+    }
+    writeBytes(output, CRLF_BYTES);
+
+    if (httpMessage.getCachedEncodedBody() != null)
+      writeBytes(output, httpMessage.getCachedEncodedBody());
+
+    return output.toByteArray();
+  }
+
+  /**
+   * Private helper method to decode a line from {@code input}, scanning it in place for the
+   * terminating CRLF. On success, the line content (CRLF excluded) is left in {@code line}, from
+   * {@code lineFrom} to {@code lineTo}: it is a slice of {@code input} if the whole line was
+   * available at once, of the section buffer otherwise. A line not complete yet is moved to the
+   * section buffer, so that it can be longer than the input queue.
+   *
+   * @param input the view of the input queue containing the HTTP message line in bytes.
+   * @return {@code true} if a line has been decoded, {@code false} if not complete yet.
+   * @throws TooLongHttpMessageException if the HTTP message exceeds the maximum allowed size.
+   */
+  private boolean decodeLine(ByteBuffer input) throws TooLongHttpMessageException {
+
+    int from = input.position();
+    int limit = input.limit();
+    int lfIndex = -1;
+
+    for (int i = from; i < limit && lfIndex < 0; i++) {
+      byte inputByte = input.get(i);
 
-      if (httpMsgSize > maxHttpMsgSize) {
-        throw new TooLongHttpMessageException();
-      }
       switch (decodeLineState) {
 
         case READ_CR:
-
-          if (dequeuedByte == CRbyte)
+          if (inputByte == CR_BYTE)
             decodeLineState = DecodeLineState.READ_LF;
-          else
-            section.write(dequeuedByte);
-
           break;
 
         case READ_LF:
-
-          if (dequeuedByte == LFbyte) {
-            try {
-              decodedLine = section.toString(ISO_8859_1.name());
-              section.reset();
-            } catch (UnsupportedEncodingException e) {
-              e.printStackTrace();
-            } //never occurs
-            CRLFFound = true;
-
-          } else {
-            section.write(CRbyte);
-            section.write(dequeuedByte);
-          }
-
+          if (inputByte == LF_BYTE)
+            lfIndex = i;
           decodeLineState = DecodeLineState.READ_CR;
           break;
 
@@ -221,36 +309,58 @@ class BasicHttpCodec {
       }
     }
 
-    return decodedLine;
+    int end = lfIndex < 0 ? limit : lfIndex + 1;
+    httpMsgSize += end - from;
+    if (httpMsgSize > maxHttpMsgSize)
+      throw new TooLongHttpMessageException();
+
+    if (lfIndex < 0) {
+      appendToSection(input, end - from);
+      return false;
+    }
+
+    if (sectionLength == 0) {
+      line = input;
+      lineFrom = from;
+      lineTo = lfIndex - 1;
+      input.position(end);
+    } else {
+      appendToSection(input, end - from);
+      line = ByteBuffer.wrap(section);
+      lineFrom = 0;
+      lineTo = sectionLength - 2;
+      sectionLength = 0;
+    }
+
+    return true;
   }
 
   /**
-   * Private helper method to decode the message body from the input queue.
+   * Private helper method to decode the message body from {@code input}, copying it in bulk.
    *
-   * @param inputQueue the input queue containing the HTTP message body in bytes.
+   * @param input the view of the input queue containing the HTTP message body in bytes.
    * @return the decoded body if successfully decoded, or {@code null} if not complete yet.
    * @throws MalformedHttpMessageException if the HTTP message body is malformed.
    * @throws TooLongHttpMessageException if the HTTP message exceeds the maximum allowed size.
    */
-  private String decodeBody(InputQueue inputQueue)
+  private String decodeBody(ByteBuffer input)
       throws MalformedHttpMessageException, TooLongHttpMessageException {
 
-    while (bodyLength > 0) {
-      if (inputQueue.isEmpty())
-        return null;
+    int availableLength = Math.min(bodyLength, input.remaining());
+    httpMsgSize += availableLength;
+    if (httpMsgSize > maxHttpMsgSize)
+      throw new TooLongHttpMessageException();
 
-      section.write(inputQueue.dequeue());
-      bodyLength--;
+    appendToSection(input, availableLength);
+    bodyLength -= availableLength;
 
-      httpMsgSize++;
-      if (httpMsgSize > maxHttpMsgSize)
-        throw new TooLongHttpMessageException();
-    }
+    if (bodyLength > 0)
+      return null;
 
     try {
 
-      String body = section.toString(bodyCharset);
-      section.reset();
+      String body = new String(section, 0, sectionLength, bodyCharset);
+      sectionLength = 0;
       return body;
 
     } catch (UnsupportedEncodingException e) {
@@ -258,6 +368,91 @@ class BasicHttpCodec {
     }
   }
 
+  /**
+   * Private helper method to move the next {@code length} bytes of {@code input} to the end of the
+   * section buffer, allocating or growing it if needed.
+   */
+  private void appendToSection(ByteBuffer input, int length) {
+    if (section == null)
+      section = new byte[Math.max(DEFAULT_INIT_SEC_SIZE, length)];
+    else if (sectionLength + length > section.length)
+      section = Arrays.copyOf(section, Math.max(2 * section.length, sectionLength + length));
+
+    input.get(section, sectionLength, length);
+    sectionLength += length;
+  }
+
+  /**
+   * Private helper method returning the index of the first {@code target} byte of {@code line}
+   * between {@code from} (inclusive) and {@code to} (exclusive), or {@code -1} if not found.
+   */
+  private int indexOf(byte target, int from, int to) {
+    for (int i = from; i < to; i++)
+      if (line.get(i) == target)
+        return i;
+    return -1;
+  }
+
+  /**
+   * Private helper method returning the token of {@code line} between {@code from} (inclusive) and
+   * {@code to} (exclusive): the matching known token if any, a new string otherwise.
+   */
+  private String toToken(int from, int to) {
+    int length = to - from;
+    byte[][] knownTokenBytes = knownTokens.bytes;
+
+    for (int t = 0; t < knownTokenBytes.length; t++) {
+      byte[] knownToken = knownTokenBytes[t];
+      if (knownToken.length != length)
+        continue;
+
+      int i = 0;
+      while (i < length && line.get(from + i) == knownToken[i])
+        i++;
+      if (i == length)
+        return knownTokens.tokens[t];
+    }
+
+    byte[] token = new byte[length];
+    for (int i = 0; i < length; i++)
+      token[i] = line.get(from + i);
+    return new String(token, ISO_8859_1);
+  }
+
+  /**
+   * Private helper method to append {@code bytes} to {@code output}.
+   */
+  private static void writeBytes(ByteArrayOutputStream output, byte[] bytes) {
+    output.write(bytes, 0, bytes.length);
+  }
+
+  /**
+   * The tokens a {@code BasicHttpCodec} maps to themselves when decoded: the protocol constants of
+   * {@link BasicHttpMessage} plus the ones specific to a kind of message, together with their
+   * encoded form. Being immutable, the same {@code KnownTokens} is meant to be built once per kind
+   * of message and shared by all its codecs.
+   */
+  static final class KnownTokens {
+
+    private final String[] tokens;
+    private final byte[][] bytes;
+
+    /**
+     * Constructs a new {@code KnownTokens} made of the protocol constants and the specified ones.
+     *
+     * @param tokens the tokens, besides the protocol constants, which decoded messages are expected
+     * to contain (e.g. paths and custom header names).
+     * @throws NullPointerException if {@code tokens} or any of its elements is {@code null}.
+     */
+    KnownTokens(String... tokens) {
+      this.tokens = Arrays.copyOf(PROTOCOL_TOKENS, PROTOCOL_TOKENS.length + tokens.length);
+      System.arraycopy(tokens, 0, this.tokens, PROTOCOL_TOKENS.length, tokens.length);
+      this.bytes = new byte[this.tokens.length][];
+      for (int i = 0; i < this.tokens.length; i++)
+        this.bytes[i] = this.tokens[i].getBytes(ISO_8859_1);
+    }
+  }
+
   /**
    * Enum defining the possible states during the line decoding.
    */
@@ -39,7 +39,8 @@ public class BasicHttpMessage {
   static final String COLON = ":";
   static final String EQ = "=";
   static final String CRLF = "\r\n";
-  static final String VERSION = "HTTP/1.0";
+  static final String VERSION = "HTTP/1.1";
+  static final String VERSION_1_0 = "HTTP/1.0";
 
   static final String SUCCESS_CODE = "200";
   static final String SUCCESS_DESC = "OK";
@@ -56,6 +57,9 @@ public class BasicHttpMessage {
   static final String CONTENTTYPE_HKEY = "Content-Type";
   static final String CONTENTLEN_HKEY = "Content-Length";
   static final String AUTH_HKEY = "Authorization";
+  static final String CONNECTION_HKEY = "Connection";
+  static final String CLOSE_HVAL = "close";
+  static final String KEEPALIVE_HVAL = "keep-alive";
   static final String BEARER_HVAL = "Bearer";
   static final String CONTENTTYPE_JSON_HVAL = "application/json; charset=UTF-8";
   static final String CONTENTTYPE_TEXT_HVAL = "text/plain";
@@ -140,6 +144,16 @@ public class BasicHttpMessage {
     this.headers.put(name, value);
   }
 
+  /**
+   * Removes the specified header from the message.
+   *
+   * @param name the name of the header.
+   * @return the value of the removed header, or null if the header was not present.
+   */
+  String removeHeader(String name) {
+    return this.headers.remove(name);
+  }
+
   /**
    * Gets the value of the specified header.
    *
@@ -193,6 +207,29 @@ public class BasicHttpMessage {
     this.addHeader(CONTENTLEN_HKEY, String.valueOf(this.cachedEncodedBody.length));
   }
 
+  /**
+   * Sets the already encoded message body along with the corrisponding content-length and
+   * content-type headers, the body being written as is when the message is encoded. The body
+   * string is not materialized.
+   *
+   * @param encodedBody the message body, encoded in the charset of {@code contentType}.
+   * @param contentType the content type of the body (e.g., JSON or plain text).
+   */
+  void setBody(byte[] encodedBody, ContentType contentType) {
+    this.body = null;
+    switch (contentType) {
+
+      case JSON:
+        this.addHeader(CONTENTTYPE_HKEY, CONTENTTYPE_JSON_HVAL);
+        break;
+
+      default:
+        break;
+    }
+    this.cachedEncodedBody = encodedBody;
+    this.addHeader(CONTENTLEN_HKEY, String.valueOf(this.cachedEncodedBody.length));
+  }
+
   /**
    * Gets the message body.
    *
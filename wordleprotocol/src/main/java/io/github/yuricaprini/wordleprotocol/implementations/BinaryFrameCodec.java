@@ -0,0 +1,257 @@
+package io.github.yuricaprini.wordleprotocol.implementations;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import io.github.yuricaprini.wordleprotocol.exceptions.MalformedFrameException;
+import io.github.yuricaprini.wordleprotocol.exceptions.TooLongFrameException;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+
+/**
+ * A {@code BinaryFrameCodec} provides encoding and decoding of length-prefixed binary frames.
+ * A frame is made of its payload length, as an unsigned varint, followed by the payload itself.
+ * <p>
+ * Payloads are written through a {@link Writer} and read back through a {@link Reader}, which
+ * share the following field encodings:
+ * <ul>
+ * <li>a count is an unsigned varint;</li>
+ * <li>an int is a zigzag varint, so that small negative values stay short too;</li>
+ * <li>a string is the count of its UTF-8 bytes plus one, followed by those bytes, zero standing
+ * for {@code null};</li>
+ * <li>an array or map starts with the count of its elements plus one, zero standing for
+ * {@code null}.</li>
+ * </ul>
+ */
+class BinaryFrameCodec {
+
+  private static final int MAX_VARINT_BYTES = 5;
+
+  private int maxFrameSize;
+  private int frameLength;
+  private int frameLengthShift;
+  private byte[] frame;
+  private int frameFill;
+
+  /**
+   * Constructs a new {@code BinaryFrameCodec} able to decode frames of maximum payload length
+   * {@code maxFrameSize}.
+   *
+   * @param maxFrameSize the maximum size allowed for frame payloads to decode.
+   */
+  BinaryFrameCodec(int maxFrameSize) {
+    this.maxFrameSize = maxFrameSize;
+    resetDecodeState();
+  }
+
+  /**
+   * Decodes a frame from the input queue, returning its payload. The bytes of a frame split
+   * across several reads are gathered in a frame buffer, so that a frame can be longer than the
+   * input queue.
+   *
+   * @param inputQueue the input queue containing the frame in bytes.
+   * @return the payload of the frame if it is fully available, or {@code null} otherwise.
+   * @throws MalformedFrameException if the frame length is malformed or the payload is empty.
+   * @throws TooLongFrameException if the frame payload exceeds the maximum allowed size.
+   */
+  ByteBuffer decode(InputQueue inputQueue) throws MalformedFrameException, TooLongFrameException {
+
+    ByteBuffer input = inputQueue.peek();
+    int from = input.position();
+
+    try {
+      while (frame == null && input.hasRemaining()) {
+        if (frameLengthShift == 7 * MAX_VARINT_BYTES)
+          throw new MalformedFrameException();
+
+        byte inputByte = input.get();
+        frameLength |= (inputByte & 0x7F) << frameLengthShift;
+        frameLengthShift += 7;
+
+        if ((inputByte & 0x80) == 0) {
+          if (frameLength <= 0)
+            throw new MalformedFrameException();
+          if (frameLength > maxFrameSize)
+            throw new TooLongFrameException();
+          frame = new byte[frameLength];
+        }
+      }
+
+      if (frame == null)
+        return null;
+
+      int length = Math.min(input.remaining(), frameLength - frameFill);
+      input.get(frame, frameFill, length);
+      frameFill += length;
+
+      if (frameFill < frameLength)
+        return null;
+
+      ByteBuffer payload = ByteBuffer.wrap(frame);
+      resetDecodeState();
+      return payload;
+
+    } finally {
+      inputQueue.skip(input.position() - from);
+    }
+  }
+
+  /**
+   * Encodes the payload written to {@code writer} as a frame in the output queue, enqueuing it at
+   * once.
+   *
+   * @param writer the writer holding the payload to encode.
+   * @param outputQueue the output queue where the encoded frame will be written.
+   */
+  void encode(Writer writer, OutputQueue outputQueue) {
+    Writer frameWriter = new Writer(writer.length + MAX_VARINT_BYTES);
+    frameWriter.writeCount(writer.length);
+    frameWriter.writeBytes(writer.bytes, 0, writer.length);
+    outputQueue.enqueue(frameWriter.toByteArray());
+  }
+
+  /**
+   * Private helper method to get ready to decode the next frame.
+   */
+  private void resetDecodeState() {
+    this.frameLength = 0;
+    this.frameLengthShift = 0;
+    this.frame = null;
+    this.frameFill = 0;
+  }
+
+  /**
+   * A {@code Writer} accumulates the fields of a frame payload in a growable byte array.
+   */
+  static class Writer {
+
+    private byte[] bytes;
+    private int length;
+
+    Writer(int initialCapacity) {
+      this.bytes = new byte[Math.max(initialCapacity, 1)];
+      this.length = 0;
+    }
+
+    void writeByte(int value) {
+      ensureCapacity(1);
+      bytes[length++] = (byte) value;
+    }
+
+    void writeCount(int count) {
+      ensureCapacity(MAX_VARINT_BYTES);
+      while ((count & ~0x7F) != 0) {
+        bytes[length++] = (byte) ((count & 0x7F) | 0x80);
+        count >>>= 7;
+      }
+      bytes[length++] = (byte) count;
+    }
+
+    void writeInt(int value) {
+      writeCount((value << 1) ^ (value >> 31));
+    }
+
+    void writeBoolean(boolean value) {
+      writeByte(value ? 1 : 0);
+    }
+
+    void writeString(String value) {
+      if (value == null) {
+        writeCount(0);
+        return;
+      }
+      byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+      writeCount(encoded.length + 1);
+      writeBytes(encoded, 0, encoded.length);
+    }
+
+    void writeNullableCount(Object value, int count) {
+      writeCount(value == null ? 0 : count + 1);
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(bytes, length);
+    }
+
+    private void writeBytes(byte[] source, int offset, int count) {
+      ensureCapacity(count);
+      System.arraycopy(source, offset, bytes, length, count);
+      length += count;
+    }
+
+    private void ensureCapacity(int count) {
+      if (length + count > bytes.length)
+        bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, length + count));
+    }
+  }
+
+  /**
+   * A {@code Reader} reads back the fields of a frame payload written by a {@link Writer}.
+   */
+  static class Reader {
+
+    private ByteBuffer payload;
+
+    Reader(ByteBuffer payload) {
+      this.payload = payload;
+    }
+
+    int readByte() throws MalformedFrameException {
+      if (!payload.hasRemaining())
+        throw new MalformedFrameException();
+      return payload.get() & 0xFF;
+    }
+
+    int readCount() throws MalformedFrameException {
+      int count = 0;
+      for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+        int countByte = readByte();
+        count |= (countByte & 0x7F) << shift;
+        if ((countByte & 0x80) == 0)
+          return count;
+      }
+      throw new MalformedFrameException();
+    }
+
+    int readInt() throws MalformedFrameException {
+      int value = readCount();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    boolean readBoolean() throws MalformedFrameException {
+      int value = readByte();
+      if (value > 1)
+        throw new MalformedFrameException();
+      return value == 1;
+    }
+
+    String readString() throws MalformedFrameException {
+      int length = readNullableCount();
+      if (length < 0)
+        return null;
+      if (length > payload.remaining())
+        throw new MalformedFrameException();
+
+      String value = new String(payload.array(), payload.arrayOffset() + payload.position(),
+          length, StandardCharsets.UTF_8);
+      payload.position(payload.position() + length);
+      return value;
+    }
+
+    /**
+     * Reads a count written by {@link Writer#writeNullableCount(Object, int)}.
+     *
+     * @return the count, or {@code -1} if standing for {@code null}.
+     */
+    int readNullableCount() throws MalformedFrameException {
+      int count = readCount() - 1;
+      if (count < -1 || count > payload.remaining())
+        throw new MalformedFrameException(); // every element takes at least one byte
+      return count;
+    }
+
+    boolean hasRemaining() {
+      return payload.hasRemaining();
+    }
+  }
+}
@@ -63,11 +63,39 @@ public class FixedInputQueue implements InputQueue {
     return result;
   }
 
+  @Override
+  public ByteBuffer peek() {
+    if (isPreviousCallRead())
+      inputBuffer.flip();
+    setPreviousCallWrite();
+
+    return inputBuffer.asReadOnlyBuffer();
+  }
+
+  @Override
+  public void skip(int n) {
+    if (n < 0 || n > size)
+      throw new IllegalArgumentException();
+
+    if (isPreviousCallRead())
+      inputBuffer.flip();
+    inputBuffer.position(inputBuffer.position() + n);
+    setPreviousCallWrite();
+    size -= n;
+  }
+
   @Override
   public boolean isEmpty() {
     return size == 0;
   }
 
+  @Override
+  public void clear() {
+    inputBuffer.clear();
+    setPreviousCallRead();
+    size = 0;
+  }
+
   private boolean isPreviousCallRead() {
     return previousCallFlag == false;
   }
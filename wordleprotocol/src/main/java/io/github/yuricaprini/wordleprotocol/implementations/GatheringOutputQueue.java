@@ -0,0 +1,153 @@
+package io.github.yuricaprini.wordleprotocol.implementations;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+
+/**
+ * A {@code GatheringOutputQueue} implements the {@link OutputQueue} interface by coalescing the
+ * enqueued bytes into fixed-size direct chunks, so that the many small fragments of an encoded
+ * message end up in a few contiguous buffers.
+ * <p>
+ * When the destination is a {@link GatheringByteChannel}, {@link #drainTo(WritableByteChannel)}
+ * writes all the queued chunks with a single gathering write, i.e. one system call for a whole
+ * message. Chunks are borrowed from a {@link BufferPool} and given back as soon as they are
+ * drained, so that an empty queue holds no chunk at all.
+ */
+public class GatheringOutputQueue implements OutputQueue {
+
+  static final int CHUNK_SIZE = 4096;
+
+  private BufferPool chunkPool;
+  private ArrayDeque<ByteBuffer> sealedChunks;
+  private ByteBuffer tailChunk;
+  private ByteBuffer[] gatheredChunks;
+  private int size;
+
+  /**
+   * Constructs a new instance of {@code GatheringOutputQueue} with a pool of its own, lending
+   * chunks of {@value #CHUNK_SIZE} bytes.
+   * The queue is initially empty and grows by one chunk at a time to accommodate data.
+   */
+  public GatheringOutputQueue() {
+    this(new SlabBufferPool(CHUNK_SIZE, 1));
+  }
+
+  /**
+   * Constructs a new instance of {@code GatheringOutputQueue} borrowing its chunks from
+   * {@code chunkPool}.
+   * The queue is initially empty and grows by one chunk at a time to accommodate data.
+   *
+   * @param chunkPool the pool lending the chunks of the queue.
+   * @throws NullPointerException if {@code chunkPool == null}
+   */
+  public GatheringOutputQueue(BufferPool chunkPool) {
+    this.chunkPool = Objects.requireNonNull(chunkPool);
+    this.sealedChunks = new ArrayDeque<ByteBuffer>();
+    this.tailChunk = null;
+    this.gatheredChunks = new ByteBuffer[4];
+    this.size = 0;
+  }
+
+  @Override
+  public int drainTo(WritableByteChannel channel) throws IOException {
+
+    Objects.requireNonNull(channel);
+
+    sealTailChunk();
+
+    int chunkCount = sealedChunks.size();
+    if (chunkCount == 0)
+      return 0;
+
+    long totalWrittenBytes = 0;
+
+    if (channel instanceof GatheringByteChannel) {
+      if (gatheredChunks.length < chunkCount)
+        gatheredChunks = new ByteBuffer[Math.max(2 * gatheredChunks.length, chunkCount)];
+      sealedChunks.toArray(gatheredChunks);
+
+      totalWrittenBytes = ((GatheringByteChannel) channel).write(gatheredChunks, 0, chunkCount);
+
+      for (int i = 0; i < chunkCount; i++)
+        gatheredChunks[i] = null;
+
+    } else {
+      for (ByteBuffer chunk : sealedChunks) {
+        totalWrittenBytes += channel.write(chunk);
+        if (chunk.hasRemaining())
+          break;
+      }
+    }
+
+    while (!sealedChunks.isEmpty() && !sealedChunks.peekFirst().hasRemaining())
+      chunkPool.release(sealedChunks.removeFirst());
+
+    size -= (int) totalWrittenBytes;
+    return (int) totalWrittenBytes;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return sealedChunks.isEmpty() && (tailChunk == null || tailChunk.position() == 0);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    while (!sealedChunks.isEmpty())
+      chunkPool.release(sealedChunks.removeFirst());
+
+    if (tailChunk != null) {
+      chunkPool.release(tailChunk);
+      tailChunk = null;
+    }
+    size = 0;
+  }
+
+  @Override
+  public boolean enqueue(byte[] outData) {
+
+    if (Objects.requireNonNull(outData).length == 0)
+      return false;
+
+    int offset = 0;
+    while (offset < outData.length) {
+      if (tailChunk == null)
+        tailChunk = chunkPool.acquire();
+      else if (!tailChunk.hasRemaining()) {
+        sealTailChunk();
+        tailChunk = chunkPool.acquire();
+      }
+
+      int length = Math.min(tailChunk.remaining(), outData.length - offset);
+      tailChunk.put(outData, offset, length);
+      offset += length;
+    }
+    size += outData.length;
+
+    return true;
+  }
+
+  /**
+   * Private helper method to move the chunk being filled, if not empty, to the chunks ready to be
+   * drained.
+   */
+  private void sealTailChunk() {
+    if (tailChunk == null || tailChunk.position() == 0)
+      return;
+
+    tailChunk.flip();
+    sealedChunks.addLast(tailChunk);
+    tailChunk = null;
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.yuricaprini.wordleprotocol.implementations;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.exceptions.EmptyInputQueueException;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+
+/**
+ * A {@code PooledInputQueue} represents a fixed-size {@code InputQueue} which borrows its buffer
+ * from a {@link BufferPool} only while holding bytes: the buffer is acquired to read from the
+ * channel and released as soon as the queue becomes empty again, typically once a request has
+ * been fully decoded. An idle queue holds no buffer at all.
+ * <p>
+ * The buffer is always kept ready to be read, its position and limit bounding the queued bytes.
+ */
+public class PooledInputQueue implements InputQueue {
+
+  private BufferPool bufferPool;
+  private int capacity;
+  private ByteBuffer inputBuffer;
+
+  /**
+   * Constructs a new instance of {@code PooledInputQueue} with the specified capacity.
+   *
+   * @param capacity the capacity of the input queue.
+   * @param bufferPool the pool lending the buffer of the queue.
+   * @throws NullPointerException if {@code bufferPool == null}
+   * @throws IllegalArgumentException if {@code capacity < 0 } or {@code capacity} is greater than
+   * the size of the buffers lent by {@code bufferPool}
+   */
+  public PooledInputQueue(int capacity, BufferPool bufferPool) {
+    if (capacity < 0 || capacity > Objects.requireNonNull(bufferPool).getBufferSize())
+      throw new IllegalArgumentException();
+
+    this.bufferPool = bufferPool;
+    this.capacity = capacity;
+    this.inputBuffer = null;
+  }
+
+  @Override
+  public int fillFrom(ReadableByteChannel channel) throws IOException {
+
+    Objects.requireNonNull(channel);
+
+    if (inputBuffer == null) {
+      inputBuffer = bufferPool.acquire();
+      inputBuffer.limit(0);
+    }
+
+    inputBuffer.compact();
+    inputBuffer.limit(capacity);
+
+    try {
+      return channel.read(inputBuffer);
+    } finally {
+      inputBuffer.flip();
+      releaseIfEmpty();
+    }
+  }
+
+  @Override
+  public byte dequeue() throws EmptyInputQueueException {
+    if (this.isEmpty())
+      throw new EmptyInputQueueException();
+
+    byte result = inputBuffer.get();
+    releaseIfEmpty();
+
+    return result;
+  }
+
+  @Override
+  public ByteBuffer peek() {
+    if (this.isEmpty())
+      return ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    return inputBuffer.asReadOnlyBuffer();
+  }
+
+  @Override
+  public void skip(int n) {
+    if (n < 0 || n > (isEmpty() ? 0 : inputBuffer.remaining()))
+      throw new IllegalArgumentException();
+
+    if (n == 0)
+      return;
+
+    inputBuffer.position(inputBuffer.position() + n);
+    releaseIfEmpty();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return inputBuffer == null;
+  }
+
+  @Override
+  public void clear() {
+    if (inputBuffer != null) {
+      bufferPool.release(inputBuffer);
+      inputBuffer = null;
+    }
+  }
+
+  private void releaseIfEmpty() {
+    if (!inputBuffer.hasRemaining()) {
+      bufferPool.release(inputBuffer);
+      inputBuffer = null;
+    }
+  }
+}
@@ -16,6 +16,7 @@ import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
 public class ResizeableOutputQueue implements OutputQueue {
 
   LinkedList<ByteBuffer> queue;
+  int size;
 
   /**
    * Constructs a new instance of {@code ResizeableOutputQueue}.
@@ -23,6 +24,7 @@ public class ResizeableOutputQueue implements OutputQueue {
    */
   public ResizeableOutputQueue() {
     queue = new LinkedList<ByteBuffer>();
+    size = 0;
   }
 
   @Override
@@ -44,6 +46,7 @@ public class ResizeableOutputQueue implements OutputQueue {
         break;
     }
 
+    size -= totalWrittenBytes;
     return totalWrittenBytes;
   }
 
@@ -52,6 +55,17 @@ public class ResizeableOutputQueue implements OutputQueue {
     return queue.isEmpty();
   }
 
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    queue.clear();
+    size = 0;
+  }
+
   @Override
   public boolean enqueue(byte[] outData) {
 
@@ -59,6 +73,7 @@ public class ResizeableOutputQueue implements OutputQueue {
       return false;
 
     queue.addLast(ByteBuffer.wrap(outData));
+    size += outData.length;
 
     return true;
   }
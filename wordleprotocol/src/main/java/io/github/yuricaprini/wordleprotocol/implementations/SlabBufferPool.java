@@ -0,0 +1,83 @@
+package io.github.yuricaprini.wordleprotocol.implementations;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
+
+/**
+ * A {@code SlabBufferPool} is a {@link BufferPool} which allocates direct memory in slabs, each
+ * one sliced into {@code slabBuffers} buffers of {@code bufferSize} bytes. A new slab is allocated
+ * only when no released buffer is available, and released buffers are lent again last-in first-out,
+ * so that recently used (and likely cached) memory is reused first.
+ */
+public class SlabBufferPool implements BufferPool {
+
+  private final int bufferSize;
+  private final int slabBuffers;
+  private final ConcurrentLinkedDeque<ByteBuffer> freeBuffers;
+
+  /**
+   * Constructs a new empty {@code SlabBufferPool}.
+   *
+   * @param bufferSize the size in bytes of the buffers lent by the pool.
+   * @param slabBuffers the number of buffers carved out of each allocated slab.
+   * @throws IllegalArgumentException if {@code bufferSize <= 0 || slabBuffers <= 0} or a slab
+   * would exceed {@code Integer.MAX_VALUE} bytes.
+   */
+  public SlabBufferPool(int bufferSize, int slabBuffers) {
+    if (bufferSize <= 0 || slabBuffers <= 0 || (long) bufferSize * slabBuffers > Integer.MAX_VALUE)
+      throw new IllegalArgumentException();
+
+    this.bufferSize = bufferSize;
+    this.slabBuffers = slabBuffers;
+    this.freeBuffers = new ConcurrentLinkedDeque<ByteBuffer>();
+  }
+
+  @Override
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = freeBuffers.pollFirst();
+    if (buffer == null)
+      buffer = allocateSlab();
+
+    buffer.clear();
+    return buffer;
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    if (!Objects.requireNonNull(buffer).isDirect() || buffer.capacity() != bufferSize)
+      throw new IllegalArgumentException();
+
+    freeBuffers.offerFirst(buffer);
+  }
+
+  @Override
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * Allocates a new slab, keeping all its buffers but the returned one for the next acquisitions.
+   * Slabs are allocated one at a time, so that threads running out of buffers together do not
+   * allocate one slab each.
+   */
+  private synchronized ByteBuffer allocateSlab() {
+    ByteBuffer buffer = freeBuffers.pollFirst(); // released or allocated meanwhile
+    if (buffer != null)
+      return buffer;
+
+    ByteBuffer slab = ByteBuffer.allocateDirect(bufferSize * slabBuffers);
+    for (int i = slabBuffers - 1; i >= 0; i--) {
+      slab.limit((i + 1) * bufferSize);
+      slab.position(i * bufferSize);
+      if (i == 0)
+        buffer = slab.slice();
+      else
+        freeBuffers.offerLast(slab.slice());
+      slab.clear();
+    }
+
+    return buffer;
+  }
+}
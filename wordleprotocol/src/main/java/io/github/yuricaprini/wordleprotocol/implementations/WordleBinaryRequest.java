@@ -0,0 +1,267 @@
+package io.github.yuricaprini.wordleprotocol.implementations;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+import io.github.yuricaprini.wordleprotocol.exceptions.BadRequestException;
+import io.github.yuricaprini.wordleprotocol.exceptions.MalformedFrameException;
+import io.github.yuricaprini.wordleprotocol.exceptions.RequestFullyPopulatedException;
+import io.github.yuricaprini.wordleprotocol.exceptions.RequestTooLargeException;
+import io.github.yuricaprini.wordleprotocol.exceptions.TooLongFrameException;
+import io.github.yuricaprini.wordleprotocol.implementations.BinaryFrameCodec.Reader;
+import io.github.yuricaprini.wordleprotocol.implementations.BinaryFrameCodec.Writer;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+
+/**
+ * A {@code WordleBinaryRequest} represents a Wordle request exchanged as a binary frame, the
+ * {@link WireFormat#BINARY} counterpart of {@link WordleHttpRequest}.
+ * <p>
+ * The payload of the frame starts with the ordinal of the request {@code Type} and a flags byte
+ * (bit 0 set if the connection must be closed after the response), followed by the fields of the
+ * request type in a fixed order: the token, then the credentials, the word or the ranking cursor.
+ * The encoding of the fields is described in {@link BinaryFrameCodec}.
+ *
+ * @see WordleRequest
+ */
+public class WordleBinaryRequest implements WordleRequest {
+
+  private static final int CLOSE_FLAG = 0x01;
+  private static final Type[] TYPES = Type.values();
+
+  private Type type;
+  private AuthToken authToken;
+  private CredentialsDTO credentials;
+  private WordDTO word;
+  private RankingCursorDTO rankingCursor;
+  private boolean keepAlive;
+
+  private BinaryFrameCodec frameCodec;
+  private boolean isFullyPopulated;
+
+  /**
+   * Constructs a new {@code WordleBinaryRequest} using a builder pattern.
+   *
+   * @param builder the builder used to construct the request.
+   */
+  private WordleBinaryRequest(Builder builder) {
+    this.type = builder.type;
+    this.authToken = builder.authToken;
+    this.credentials = builder.credentials;
+    this.word = builder.word;
+    this.rankingCursor = builder.rankingCursor;
+    this.keepAlive = true;
+
+    this.frameCodec = new BinaryFrameCodec(MAX_SIZE);
+    this.isFullyPopulated = builder.isFullyPopulated;
+  }
+
+  @Override
+  public boolean populateFrom(InputQueue inputQueue)
+      throws RequestTooLargeException, BadRequestException {
+
+    Objects.requireNonNull(inputQueue);
+
+    if (this.isFullyPopulated())
+      throw new RequestFullyPopulatedException();
+
+    try {
+
+      ByteBuffer payload = frameCodec.decode(inputQueue);
+      if (payload == null)
+        return false;
+
+      readPayload(new Reader(payload));
+
+    } catch (MalformedFrameException e) {
+      throw new BadRequestException(e);
+    } catch (TooLongFrameException e) {
+      throw new RequestTooLargeException(e);
+    }
+
+    isFullyPopulated = true;
+
+    return true;
+  }
+
+  @Override
+  public boolean serializeTo(OutputQueue outputQueue) {
+
+    if (!isFullyPopulated)
+      return false;
+
+    Writer writer = new Writer(64);
+    writePayload(writer);
+    frameCodec.encode(writer, outputQueue);
+    return true;
+  }
+
+  @Override
+  public boolean isFullyPopulated() {
+    return isFullyPopulated;
+  }
+
+  @Override
+  public Type getType() {
+    return this.type;
+  }
+
+  @Override
+  public AuthToken getAuthToken() {
+    return this.authToken;
+  }
+
+  @Override
+  public CredentialsDTO getCredentialsDTO() {
+    return this.credentials;
+  }
+
+  @Override
+  public WordDTO getWordDTO() {
+    return this.word;
+  }
+
+  @Override
+  public RankingCursorDTO getRankingCursorDTO() {
+    return this.rankingCursor;
+  }
+
+  @Override
+  public boolean isKeepAlive() {
+    return this.keepAlive;
+  }
+
+  /**
+   * Private helper method to read a wordle request from a frame payload, providing a semantic
+   * validation (a payload must contain all and only the fields necessary to define a wordle
+   * request).
+   *
+   * @param reader the reader of the frame payload.
+   * @throws MalformedFrameException if the payload does not represent a wordle request.
+   */
+  private void readPayload(Reader reader) throws MalformedFrameException {
+
+    int ordinal = reader.readByte();
+    if (ordinal >= TYPES.length)
+      throw new MalformedFrameException();
+
+    int flags = reader.readByte();
+    if ((flags & ~CLOSE_FLAG) != 0)
+      throw new MalformedFrameException();
+
+    Type readType = TYPES[ordinal];
+
+    if (readType == Type.LOGIN) {
+      credentials = CredentialsDTO.newInstance(readRequiredString(reader),
+          readRequiredString(reader));
+    } else {
+      authToken = AuthToken.wrap(readRequiredString(reader));
+
+      if (readType == Type.SEND_WORD)
+        word = WordDTO.newInstance(readRequiredString(reader));
+
+      if (readType == Type.SHOWME_RANKING && reader.readBoolean())
+        rankingCursor = RankingCursorDTO.newInstance(reader.readString(), reader.readBoolean(),
+            reader.readInt());
+    }
+
+    if (reader.hasRemaining())
+      throw new MalformedFrameException();
+
+    keepAlive = (flags & CLOSE_FLAG) == 0;
+    type = readType;
+  }
+
+  /**
+   * Private helper method to write this wordle request as a frame payload.
+   *
+   * @param writer the writer of the frame payload.
+   */
+  private void writePayload(Writer writer) {
+
+    writer.writeByte(type.ordinal());
+    writer.writeByte(keepAlive ? 0 : CLOSE_FLAG);
+
+    if (type == Type.LOGIN) {
+      writer.writeString(credentials.getUsername());
+      writer.writeString(credentials.getPassword());
+    } else {
+      writer.writeString(authToken.toString());
+
+      if (type == Type.SEND_WORD)
+        writer.writeString(word.getWord());
+
+      if (type == Type.SHOWME_RANKING) {
+        writer.writeBoolean(rankingCursor != null);
+        if (rankingCursor != null) {
+          writer.writeString(rankingCursor.getCursor());
+          writer.writeBoolean(rankingCursor.isDescending());
+          writer.writeInt(rankingCursor.getPageSize());
+        }
+      }
+    }
+  }
+
+  /**
+   * Private helper method to read a string which cannot be {@code null}.
+   */
+  private static String readRequiredString(Reader reader) throws MalformedFrameException {
+    String value = reader.readString();
+    if (value == null)
+      throw new MalformedFrameException();
+    return value;
+  }
+
+  /**
+  * The {@code Builder} class is used to construct instances of the {@link WordleBinaryRequest}
+  * class in a flexible and readable manner, in the same way as {@link WordleHttpRequest.Builder}.
+  */
+  public static class Builder {
+
+    private Type type;
+    private AuthToken authToken;
+    private CredentialsDTO credentials;
+    private WordDTO word;
+    private RankingCursorDTO rankingCursor;
+    private boolean isFullyPopulated;
+
+    public Builder withType(Type type) {
+      this.type = type;
+      return this;
+    }
+
+    public Builder withAuthToken(AuthToken authToken) {
+      this.authToken = authToken;
+      return this;
+    }
+
+    public Builder withCredentials(CredentialsDTO credentials) {
+      this.credentials = credentials;
+      return this;
+    }
+
+    public Builder withWord(WordDTO word) {
+      this.word = word;
+      return this;
+    }
+
+    public Builder withRankingCursor(RankingCursorDTO rankingCursor) {
+      this.rankingCursor = rankingCursor;
+      return this;
+    }
+
+    public Builder withFullyPopulated(boolean isFullyPopulated) {
+      this.isFullyPopulated = isFullyPopulated;
+      return this;
+    }
+
+    public WordleBinaryRequest build() {
+      return new WordleBinaryRequest(this);
+    }
+  }
+}
@@ -0,0 +1,448 @@
+package io.github.yuricaprini.wordleprotocol.implementations;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SecretWordDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
+import io.github.yuricaprini.wordleprotocol.exceptions.BadResponseException;
+import io.github.yuricaprini.wordleprotocol.exceptions.MalformedFrameException;
+import io.github.yuricaprini.wordleprotocol.exceptions.ResponseFullyPopulatedException;
+import io.github.yuricaprini.wordleprotocol.exceptions.ResponseTooLargeException;
+import io.github.yuricaprini.wordleprotocol.exceptions.TooLongFrameException;
+import io.github.yuricaprini.wordleprotocol.implementations.BinaryFrameCodec.Reader;
+import io.github.yuricaprini.wordleprotocol.implementations.BinaryFrameCodec.Writer;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+
+/**
+ * A {@code WordleBinaryResponse} represents a Wordle response exchanged as a binary frame, the
+ * {@link WireFormat#BINARY} counterpart of {@link WordleHttpResponse}.
+ * <p>
+ * The payload of the frame starts with the ordinal of the response {@code Type}, followed by the
+ * fields of the response type: the ordinal of the error code for error responses, the token, the
+ * clues, the game state, the stats or the ranking page otherwise. Optional DTOs are preceded by a
+ * presence flag. The encoding of the fields is described in {@link BinaryFrameCodec}.
+ *
+ * @see WordleResponse
+ */
+public class WordleBinaryResponse implements WordleResponse {
+
+  private static final Type[] TYPES = Type.values();
+  private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+  private Type type;
+  private ErrorCode errorCode;
+  private AuthToken authToken;
+  private ClueDTO[] clues;
+  private GameStateDTO gameState;
+  private StatsDTO stats;
+  private PlayerDTO[] players;
+  private String nextRankingCursor;
+
+  private BinaryFrameCodec frameCodec;
+  private boolean isFullyPopulated;
+
+  /**
+   * Constructs a new {@code WordleBinaryResponse} using a builder pattern.
+   *
+   * @param builder the builder used to construct the response.
+   */
+  private WordleBinaryResponse(Builder builder) {
+    this.type = builder.type;
+    this.errorCode = builder.errorCode;
+    this.authToken = builder.authToken;
+    this.clues = builder.clues;
+    this.gameState = builder.gameState;
+    this.stats = builder.stats;
+    this.players = builder.players;
+    this.nextRankingCursor = builder.nextRankingCursor;
+
+    this.frameCodec = new BinaryFrameCodec(MAX_SIZE);
+    this.isFullyPopulated = builder.isFullyPopulated;
+  }
+
+  @Override
+  public boolean populateFrom(InputQueue inputQueue)
+      throws ResponseTooLargeException, BadResponseException {
+
+    Objects.requireNonNull(inputQueue);
+
+    if (this.isFullyPopulated())
+      throw new ResponseFullyPopulatedException();
+
+    try {
+
+      ByteBuffer payload = frameCodec.decode(inputQueue);
+      if (payload == null)
+        return false;
+
+      readPayload(new Reader(payload));
+
+    } catch (MalformedFrameException e) {
+      throw new BadResponseException(e);
+    } catch (TooLongFrameException e) {
+      throw new ResponseTooLargeException(e);
+    }
+
+    isFullyPopulated = true;
+
+    return true;
+  }
+
+  @Override
+  public boolean serializeTo(OutputQueue outputQueue) {
+
+    if (!isFullyPopulated)
+      return false;
+
+    Writer writer = new Writer(64);
+    writePayload(writer);
+    frameCodec.encode(writer, outputQueue);
+    return true;
+  }
+
+  @Override
+  public boolean isFullyPopulated() {
+    return isFullyPopulated;
+  }
+
+  @Override
+  public Type getType() {
+    return this.type;
+  }
+
+  @Override
+  public ErrorCode getErrorCode() {
+    return this.errorCode;
+  }
+
+  @Override
+  public AuthToken getAuthToken() {
+    return this.authToken;
+  }
+
+  @Override
+  public ClueDTO[] getCluesDTO() {
+    return this.clues;
+  }
+
+  @Override
+  public GameStateDTO getGameStateDTO() {
+    return this.gameState;
+  }
+
+  @Override
+  public StatsDTO getStatsDTO() {
+    return this.stats;
+  }
+
+  @Override
+  public PlayerDTO[] getPlayerDTOs() {
+    return this.players;
+  }
+
+  @Override
+  public String getNextRankingCursor() {
+    return this.nextRankingCursor;
+  }
+
+  /**
+   * Private helper method to read a wordle response from a frame payload, providing a semantic
+   * validation (a payload must contain all and only the fields necessary to define a wordle
+   * response).
+   *
+   * @param reader the reader of the frame payload.
+   * @throws MalformedFrameException if the payload does not represent a wordle response.
+   */
+  private void readPayload(Reader reader) throws MalformedFrameException {
+
+    int ordinal = reader.readByte();
+    if (ordinal >= TYPES.length)
+      throw new MalformedFrameException();
+
+    Type readType = TYPES[ordinal];
+
+    switch (readType) {
+
+      case LOGIN_OK:
+        String token = reader.readString();
+        if (token == null)
+          throw new MalformedFrameException();
+        authToken = AuthToken.wrap(token);
+        break;
+
+      case LOGIN_NO:
+      case PLAYWORDLE_NO:
+      case SENDWORD_NO:
+      case SHOWMESTATS_NO:
+      case SHOWMERANKING_NO:
+      case SHARE_NO:
+      case LOGOUT_NO:
+        int errorOrdinal = reader.readByte();
+        if (errorOrdinal >= ERROR_CODES.length)
+          throw new MalformedFrameException();
+        errorCode = ERROR_CODES[errorOrdinal];
+        break;
+
+      case PLAYWORDLE_OK:
+        clues = readClues(reader);
+        break;
+
+      case SENDWORD_OK:
+        if (reader.readBoolean()) {
+          ClueDTO[] gameClues = readClues(reader);
+          SecretWordDTO secretWord = null;
+          if (reader.readBoolean())
+            secretWord = SecretWordDTO.newInstance(reader.readInt(), readRequiredString(reader),
+                readRequiredString(reader));
+          gameState = GameStateDTO.newInstance(gameClues, secretWord, readStats(reader));
+        }
+        break;
+
+      case SHOWMESTATS_OK:
+        stats = readStats(reader);
+        break;
+
+      case SHOWMERANKING_OK:
+        nextRankingCursor = reader.readString();
+        int playersCount = reader.readNullableCount();
+        if (playersCount >= 0) {
+          players = new PlayerDTO[playersCount];
+          for (int i = 0; i < playersCount; i++)
+            players[i] = PlayerDTO.newInstance(readRequiredString(reader), reader.readInt());
+        }
+        break;
+
+      case SHARE_OK:
+      case LOGOUT_OK:
+      case BAD:
+      case TOOLARGE:
+        break;
+    }
+
+    if (reader.hasRemaining())
+      throw new MalformedFrameException();
+
+    type = readType;
+  }
+
+  /**
+   * Private helper method to write this wordle response as a frame payload.
+   *
+   * @param writer the writer of the frame payload.
+   */
+  private void writePayload(Writer writer) {
+
+    writer.writeByte(type.ordinal());
+
+    switch (type) {
+
+      case LOGIN_OK:
+        writer.writeString(authToken.toString());
+        break;
+
+      case LOGIN_NO:
+      case PLAYWORDLE_NO:
+      case SENDWORD_NO:
+      case SHOWMESTATS_NO:
+      case SHOWMERANKING_NO:
+      case SHARE_NO:
+      case LOGOUT_NO:
+        writer.writeByte(errorCode.ordinal());
+        break;
+
+      case PLAYWORDLE_OK:
+        writeClues(writer, clues);
+        break;
+
+      case SENDWORD_OK:
+        writer.writeBoolean(gameState != null);
+        if (gameState != null) {
+          writeClues(writer, gameState.getCluesDTO());
+          SecretWordDTO secretWord = gameState.getSecretWordDTO();
+          writer.writeBoolean(secretWord != null);
+          if (secretWord != null) {
+            writer.writeInt(secretWord.getWordNumber());
+            writer.writeString(secretWord.getSecretWord());
+            writer.writeString(secretWord.getTranslatedSecretWord());
+          }
+          writeStats(writer, gameState.getStatsDTO());
+        }
+        break;
+
+      case SHOWMESTATS_OK:
+        writeStats(writer, stats);
+        break;
+
+      case SHOWMERANKING_OK:
+        writer.writeString(nextRankingCursor);
+        writer.writeNullableCount(players, players == null ? 0 : players.length);
+        if (players != null)
+          for (PlayerDTO player : players) {
+            writer.writeString(player.getName());
+            writer.writeInt(player.getScore());
+          }
+        break;
+
+      case SHARE_OK:
+      case LOGOUT_OK:
+      case BAD:
+      case TOOLARGE:
+        break;
+    }
+  }
+
+  /**
+   * Private helper method to write an optional array of clues.
+   */
+  private static void writeClues(Writer writer, ClueDTO[] clues) {
+    writer.writeNullableCount(clues, clues == null ? 0 : clues.length);
+    if (clues != null)
+      for (ClueDTO clue : clues) {
+        writer.writeString(clue.getWord());
+        writer.writeString(clue.getWordColors());
+      }
+  }
+
+  /**
+   * Private helper method to read an optional array of clues.
+   */
+  private static ClueDTO[] readClues(Reader reader) throws MalformedFrameException {
+    int cluesCount = reader.readNullableCount();
+    if (cluesCount < 0)
+      return null;
+
+    ClueDTO[] readClues = new ClueDTO[cluesCount];
+    for (int i = 0; i < cluesCount; i++)
+      readClues[i] = ClueDTO.newInstance(readRequiredString(reader), readRequiredString(reader));
+    return readClues;
+  }
+
+  /**
+   * Private helper method to write optional stats, preceded by their presence flag.
+   */
+  private static void writeStats(Writer writer, StatsDTO stats) {
+    writer.writeBoolean(stats != null);
+    if (stats == null)
+      return;
+
+    writer.writeInt(stats.getPlayed());
+    writer.writeInt(stats.getWinPercentage());
+    writer.writeInt(stats.getCurrentStreak());
+    writer.writeInt(stats.getMaxStreak());
+    Map<Integer, Integer> guessDistribution = stats.getGuessDistribution();
+    writer.writeCount(guessDistribution.size());
+    for (Entry<Integer, Integer> entry : guessDistribution.entrySet()) {
+      writer.writeInt(entry.getKey());
+      writer.writeInt(entry.getValue());
+    }
+  }
+
+  /**
+   * Private helper method to read optional stats, preceded by their presence flag.
+   */
+  private static StatsDTO readStats(Reader reader) throws MalformedFrameException {
+    if (!reader.readBoolean())
+      return null;
+
+    int played = reader.readInt();
+    int winPercentage = reader.readInt();
+    int currentStreak = reader.readInt();
+    int maxStreak = reader.readInt();
+    int entriesCount = reader.readCount();
+    if (entriesCount < 0)
+      throw new MalformedFrameException();
+
+    Map<Integer, Integer> guessDistribution = new HashMap<Integer, Integer>();
+    for (int i = 0; i < entriesCount; i++)
+      guessDistribution.put(reader.readInt(), reader.readInt());
+
+    return StatsDTO.newInstance(played, winPercentage, currentStreak, maxStreak,
+        guessDistribution);
+  }
+
+  /**
+   * Private helper method to read a string which cannot be {@code null}.
+   */
+  private static String readRequiredString(Reader reader) throws MalformedFrameException {
+    String value = reader.readString();
+    if (value == null)
+      throw new MalformedFrameException();
+    return value;
+  }
+
+  /**
+  * The {@code Builder} class is used to construct instances of the {@link WordleBinaryResponse}
+  * class in a flexible and readable manner, in the same way as {@link WordleHttpResponse.Builder}.
+  */
+  public static class Builder {
+
+    private Type type;
+    private ErrorCode errorCode;
+    private AuthToken authToken;
+    private ClueDTO[] clues;
+    private GameStateDTO gameState;
+    private StatsDTO stats;
+    private PlayerDTO[] players;
+    private String nextRankingCursor;
+    private boolean isFullyPopulated;
+
+    public Builder withType(Type type) {
+      this.type = type;
+      return this;
+    }
+
+    public Builder withErrorCode(ErrorCode errorCode) {
+      this.errorCode = errorCode;
+      return this;
+    }
+
+    public Builder withAuthToken(AuthToken authToken) {
+      this.authToken = authToken;
+      return this;
+    }
+
+    public Builder withClues(ClueDTO[] clues) {
+      this.clues = clues;
+      return this;
+    }
+
+    public Builder withGameState(GameStateDTO gameState) {
+      this.gameState = gameState;
+      return this;
+    }
+
+    public Builder withStats(StatsDTO stats) {
+      this.stats = stats;
+      return this;
+    }
+
+    public Builder withPlayers(PlayerDTO[] players) {
+      this.players = players;
+      return this;
+    }
+
+    public Builder withNextRankingCursor(String nextRankingCursor) {
+      this.nextRankingCursor = nextRankingCursor;
+      return this;
+    }
+
+    public Builder withFullyPopulated(boolean isFullyPopulated) {
+      this.isFullyPopulated = isFullyPopulated;
+      return this;
+    }
+
+    public WordleBinaryResponse build() {
+      return new WordleBinaryResponse(this);
+    }
+  }
+}
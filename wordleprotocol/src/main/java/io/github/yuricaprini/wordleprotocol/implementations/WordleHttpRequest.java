@@ -2,11 +2,10 @@ package io.github.yuricaprini.wordleprotocol.implementations;
 
 import static io.github.yuricaprini.wordleprotocol.implementations.BasicHttpMessage.*;
 import java.util.Objects;
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
-import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
 import io.github.yuricaprini.wordleprotocol.exceptions.BadRequestException;
 import io.github.yuricaprini.wordleprotocol.exceptions.MalformedHttpMessageException;
@@ -16,6 +15,7 @@ import io.github.yuricaprini.wordleprotocol.exceptions.TooLongHttpMessageExcepti
 import io.github.yuricaprini.wordleprotocol.implementations.BasicHttpMessage.ContentType;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.json.JsonCodec;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 
 /**
@@ -34,12 +34,17 @@ public class WordleHttpRequest implements WordleRequest {
   private static final String SHOWMESTATS_ENDPOINT = "/showmestats";
   private static final String SHOWMERANKING_ENDPOINT = "/showmeranking";
   private static final String SHARE_ENDPOINT = "/share";
+  private static final String LOGOUT_ENDPOINT = "/logout";
+  private static final BasicHttpCodec.KnownTokens KNOWN_TOKENS =
+      new BasicHttpCodec.KnownTokens(LOGIN_ENDPOINT, PLAYWORDLE_ENDPOINT, SENDWORD_ENDPOINT,
+          SHOWMESTATS_ENDPOINT, SHOWMERANKING_ENDPOINT, SHARE_ENDPOINT, LOGOUT_ENDPOINT);
 
   private Type type;
   private AuthToken authToken;
   private CredentialsDTO credentials;
   private WordDTO word;
-  private PlayerDTO player;
+  private RankingCursorDTO rankingCursor;
+  private boolean keepAlive;
 
   private BasicHttpMessage httpMessage;
   private BasicHttpCodec httpCodec;
@@ -55,10 +60,11 @@ public class WordleHttpRequest implements WordleRequest {
     this.authToken = builder.authToken;
     this.credentials = builder.credentials;
     this.word = builder.word;
-    this.player = builder.player;
+    this.rankingCursor = builder.rankingCursor;
+    this.keepAlive = true;
 
     this.httpMessage = null;
-    this.httpCodec = new BasicHttpCodec(MAX_SIZE);
+    this.httpCodec = new BasicHttpCodec(MAX_SIZE, KNOWN_TOKENS);
     this.isFullyPopulated = builder.isFullyPopulated;
   }
 
@@ -127,23 +133,36 @@ public class WordleHttpRequest implements WordleRequest {
   }
 
   @Override
-  public PlayerDTO getPlayerDTO() {
-    return this.player;
+  public RankingCursorDTO getRankingCursorDTO() {
+    return this.rankingCursor;
+  }
+
+  @Override
+  public boolean isKeepAlive() {
+    return this.keepAlive;
   }
 
   /**
    * Private helper method to map {@code httpMessage} into a wordle request providing a semantic
    * validation (an {@code httpmessage} must have correctly set all and only the fields necessary 
-   * to define a wordle request).
+   * to define a wordle request). Both HTTP/1.1 and HTTP/1.0 requests are accepted: as for RFC 9112
+   * section 9.3, the connection is persistent for HTTP/1.1 unless a {@code Connection: close}
+   * header is present, and for HTTP/1.0 only if a {@code Connection: keep-alive} header is present.
    * 
    * @param httpMessage the incoming HTTP message to be mapped.
    * @throws BadRequestException if the HTTP message does not represents a wordle request.
    */
   private void mapToWordleRequest(BasicHttpMessage httpMessage) throws BadRequestException {
 
-    if (!httpMessage.getStartLineThirdToken().equals(VERSION))
+    if (!httpMessage.getStartLineThirdToken().equals(VERSION)
+        && !httpMessage.getStartLineThirdToken().equals(VERSION_1_0))
       throw new BadRequestException();
 
+    String connection = httpMessage.removeHeader(CONNECTION_HKEY);
+    keepAlive = httpMessage.getStartLineThirdToken().equals(VERSION)
+        ? !CLOSE_HVAL.equalsIgnoreCase(connection)
+        : KEEPALIVE_HVAL.equalsIgnoreCase(connection);
+
     try {
 
       switch (httpMessage.getStartLineFirstToken() + SP + httpMessage.getStartLineSecondToken()) {
@@ -154,7 +173,7 @@ public class WordleHttpRequest implements WordleRequest {
               || !CONTENTTYPE_JSON_HVAL.equals(httpMessage.getHeaderValue(CONTENTTYPE_HKEY)))
             throw new BadRequestException();
 
-          credentials = new Gson().fromJson(httpMessage.getBody(), CredentialsDTO.class);
+          credentials = JsonCodec.fromJson(httpMessage.getBody(), CredentialsDTO.class);
           type = Type.LOGIN;
 
           break;
@@ -176,7 +195,7 @@ public class WordleHttpRequest implements WordleRequest {
             throw new BadRequestException();
 
           authToken = AuthToken.wrap(httpMessage.getHeaderValue(AUTH_HKEY).split(SP, 2)[1]);
-          word = new Gson().fromJson(httpMessage.getBody(), WordDTO.class);
+          word = JsonCodec.fromJson(httpMessage.getBody(), WordDTO.class);
           type = Type.SEND_WORD;
 
           break;
@@ -204,7 +223,7 @@ public class WordleHttpRequest implements WordleRequest {
             throw new BadRequestException();
 
           if (httpMessage.getHeaders().size() == 3)
-            player = new Gson().fromJson(httpMessage.getBody(), PlayerDTO.class);
+            rankingCursor = JsonCodec.fromJson(httpMessage.getBody(), RankingCursorDTO.class);
 
           authToken = AuthToken.wrap(httpMessage.getHeaderValue(AUTH_HKEY).split(SP, 2)[1]);
           type = Type.SHOWME_RANKING;
@@ -221,6 +240,16 @@ public class WordleHttpRequest implements WordleRequest {
 
           break;
 
+        case POST + SP + LOGOUT_ENDPOINT:
+
+          if (httpMessage.getHeaders().size() != 1 || httpMessage.getHeaderValue(AUTH_HKEY) == null)
+            throw new BadRequestException();
+
+          authToken = AuthToken.wrap(httpMessage.getHeaderValue(AUTH_HKEY).split(SP, 2)[1]);
+          type = Type.LOGOUT;
+
+          break;
+
         default:
           throw new BadRequestException();
       }
@@ -245,7 +274,7 @@ public class WordleHttpRequest implements WordleRequest {
         httpMessage.setStartLineFirstToken(POST);
         httpMessage.setStartLineSecondToken(LOGIN_ENDPOINT);
         httpMessage.setStartLineThirdToken(VERSION);
-        httpMessage.setBody(new Gson().toJson(credentials), ContentType.JSON);
+        httpMessage.setBody(JsonCodec.toJsonBytes(credentials), ContentType.JSON);
         break;
 
       case PLAY_WORDLE:
@@ -260,7 +289,7 @@ public class WordleHttpRequest implements WordleRequest {
         httpMessage.setStartLineSecondToken(SENDWORD_ENDPOINT);
         httpMessage.setStartLineThirdToken(VERSION);
         httpMessage.addHeader(AUTH_HKEY, BEARER_HVAL + SP + authToken.toString());
-        httpMessage.setBody(new Gson().toJson(word), ContentType.JSON);
+        httpMessage.setBody(JsonCodec.toJsonBytes(word), ContentType.JSON);
         break;
 
       case SHOWME_STATS:
@@ -275,8 +304,8 @@ public class WordleHttpRequest implements WordleRequest {
         httpMessage.setStartLineSecondToken(SHOWMERANKING_ENDPOINT);
         httpMessage.setStartLineThirdToken(VERSION);
         httpMessage.addHeader(AUTH_HKEY, BEARER_HVAL + SP + authToken.toString());
-        if (player != null)
-          httpMessage.setBody(new Gson().toJson(player), ContentType.JSON);
+        if (rankingCursor != null)
+          httpMessage.setBody(JsonCodec.toJsonBytes(rankingCursor), ContentType.JSON);
         break;
 
       case SHARE:
@@ -285,6 +314,13 @@ public class WordleHttpRequest implements WordleRequest {
         httpMessage.setStartLineThirdToken(VERSION);
         httpMessage.addHeader(AUTH_HKEY, BEARER_HVAL + SP + authToken.toString());
         break;
+
+      case LOGOUT:
+        httpMessage.setStartLineFirstToken(POST);
+        httpMessage.setStartLineSecondToken(LOGOUT_ENDPOINT);
+        httpMessage.setStartLineThirdToken(VERSION);
+        httpMessage.addHeader(AUTH_HKEY, BEARER_HVAL + SP + authToken.toString());
+        break;
     }
 
     return httpMessage;
@@ -303,7 +339,7 @@ public class WordleHttpRequest implements WordleRequest {
     private AuthToken authToken;
     private CredentialsDTO credentials;
     private WordDTO word;
-    private PlayerDTO player;
+    private RankingCursorDTO rankingCursor;
     private boolean isFullyPopulated;
 
     public Builder withType(Type type) {
@@ -331,8 +367,8 @@ public class WordleHttpRequest implements WordleRequest {
       return this;
     }
 
-    public Builder withPlayer(PlayerDTO player) {
-      this.player = player;
+    public Builder withRankingCursor(RankingCursorDTO rankingCursor) {
+      this.rankingCursor = rankingCursor;
       return this;
     }
 
@@ -1,7 +1,6 @@
 package io.github.yuricaprini.wordleprotocol.implementations;
 
 import static io.github.yuricaprini.wordleprotocol.implementations.BasicHttpMessage.*;
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
@@ -16,6 +15,7 @@ import io.github.yuricaprini.wordleprotocol.exceptions.TooLongHttpMessageExcepti
 import io.github.yuricaprini.wordleprotocol.implementations.BasicHttpMessage.ContentType;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.json.JsonCodec;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 
 /**
@@ -30,6 +30,9 @@ public class WordleHttpResponse implements WordleResponse {
 
   static final String RESPONSETYPE_CUSTOM_HKEY = "Response-Type";
   static final String ERRORCODE_CUSTOM_HKEY = "Error-Code";
+  static final String NEXTCURSOR_CUSTOM_HKEY = "Next-Cursor";
+  private static final BasicHttpCodec.KnownTokens KNOWN_TOKENS = new BasicHttpCodec.KnownTokens(
+      RESPONSETYPE_CUSTOM_HKEY, ERRORCODE_CUSTOM_HKEY, NEXTCURSOR_CUSTOM_HKEY);
 
   private Type type;
   private ErrorCode errorCode;
@@ -38,6 +41,9 @@ public class WordleHttpResponse implements WordleResponse {
   private GameStateDTO gameState;
   private StatsDTO stats;
   private PlayerDTO[] players;
+  private String nextRankingCursor;
+
+  private byte[] encodedForm;
 
   private BasicHttpMessage httpMessage;
   private BasicHttpCodec httpCodec;
@@ -56,9 +62,11 @@ public class WordleHttpResponse implements WordleResponse {
     this.gameState = builder.gameState;
     this.stats = builder.stats;
     this.players = builder.players;
+    this.nextRankingCursor = builder.nextRankingCursor;
+    this.encodedForm = builder.encodedForm;
 
     this.httpMessage = null;
-    this.httpCodec = new BasicHttpCodec(MAX_SIZE);
+    this.httpCodec = null;
     this.isFullyPopulated = builder.isFullyPopulated;
   }
 
@@ -70,7 +78,7 @@ public class WordleHttpResponse implements WordleResponse {
       throw new ResponseFullyPopulatedException();
 
     try {
-      if ((httpMessage = httpCodec.decode(inputQueue)) == null)
+      if ((httpMessage = getHttpCodec().decode(inputQueue)) == null)
         return false;
     } catch (MalformedHttpMessageException e) {
       throw new BadResponseException(e);
@@ -88,14 +96,53 @@ public class WordleHttpResponse implements WordleResponse {
   public boolean serializeTo(OutputQueue outputQueue) {
 
     if (isFullyPopulated) {
-      httpMessage = mapToHttpMessage(this);
-      httpCodec.encode(httpMessage, outputQueue);
+      if (encodedForm != null)
+        outputQueue.enqueue(encodedForm);
+      else
+        getHttpCodec().encode(mapToHttpMessage(this), outputQueue);
       return true;
     }
 
     return false;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The connection closing is announced by a {@code Connection: close} header, so that the response
+   * is encoded again even if it has a precomputed encoded form.
+   */
+  @Override
+  public boolean serializeTo(OutputQueue outputQueue, boolean closesConnection) {
+
+    if (!closesConnection || !isFullyPopulated)
+      return serializeTo(outputQueue);
+
+    BasicHttpMessage closingMessage = mapToHttpMessage(this);
+    closingMessage.addHeader(CONNECTION_HKEY, CLOSE_HVAL);
+    getHttpCodec().encode(closingMessage, outputQueue);
+    return true;
+  }
+
+  /**
+   * Returns the bytes this response is serialized to by {@link #serializeTo(OutputQueue)}, so that
+   * a response which is always the same can be encoded once and then built with
+   * {@link Builder#withEncodedForm(byte[])}.
+   *
+   * @return the bytes this response is serialized to, or {@code null} if this response is not
+   * fully populated.
+   */
+  public byte[] toEncodedForm() {
+
+    if (!isFullyPopulated)
+      return null;
+
+    if (encodedForm != null)
+      return encodedForm.clone();
+
+    return getHttpCodec().encode(mapToHttpMessage(this));
+  }
+
   @Override
   public boolean isFullyPopulated() {
     return isFullyPopulated;
@@ -136,6 +183,23 @@ public class WordleHttpResponse implements WordleResponse {
     return this.players;
   }
 
+  @Override
+  public String getNextRankingCursor() {
+    return this.nextRankingCursor;
+  }
+
+  /**
+   * Private helper method to get the codec of this response, creating it the first time it is
+   * needed: responses serialized from their encoded form never need one.
+   *
+   * @return the codec of this response.
+   */
+  private BasicHttpCodec getHttpCodec() {
+    if (httpCodec == null)
+      httpCodec = new BasicHttpCodec(MAX_SIZE, KNOWN_TOKENS);
+    return httpCodec;
+  }
+
   /**
    * Private helper method to map {@code httpMessage} into a wordle response providing a semantic
    * validation (an {@code httpmessage} must have correctly set all and only the fields necessary 
@@ -146,9 +210,12 @@ public class WordleHttpResponse implements WordleResponse {
    */
   private void mapToWordleResponse(BasicHttpMessage httpMessage) throws BadResponseException {
 
-    if (!httpMessage.getStartLineFirstToken().equals(VERSION))
+    if (!httpMessage.getStartLineFirstToken().equals(VERSION)
+        && !httpMessage.getStartLineFirstToken().equals(VERSION_1_0))
       throw new BadResponseException();
 
+    httpMessage.removeHeader(CONNECTION_HKEY); // the closing is noticed at the end of the stream
+
     try {
 
       if (httpMessage.getHeaderValue(RESPONSETYPE_CUSTOM_HKEY) == null)
@@ -165,7 +232,7 @@ public class WordleHttpResponse implements WordleResponse {
 
             throw new BadResponseException();
 
-          authToken = new Gson().fromJson(httpMessage.getBody(), AuthToken.class);
+          authToken = JsonCodec.fromJson(httpMessage.getBody(), AuthToken.class);
           type = Type.LOGIN_OK;
 
           break;
@@ -197,7 +264,7 @@ public class WordleHttpResponse implements WordleResponse {
             throw new BadResponseException();
 
           if (httpMessage.getHeaders().size() == 3)
-            clues = new Gson().fromJson(httpMessage.getBody(), ClueDTO[].class);
+            clues = JsonCodec.fromJson(httpMessage.getBody(), ClueDTO[].class);
 
           type = Type.PLAYWORDLE_OK;
 
@@ -223,7 +290,7 @@ public class WordleHttpResponse implements WordleResponse {
               || !CONTENTTYPE_JSON_HVAL.equals(httpMessage.getHeaderValue(CONTENTTYPE_HKEY)))
             throw new BadResponseException();
 
-          gameState = new Gson().fromJson(httpMessage.getBody(), GameStateDTO.class);
+          gameState = JsonCodec.fromJson(httpMessage.getBody(), GameStateDTO.class);
           type = Type.SENDWORD_OK;
 
           break;
@@ -247,7 +314,7 @@ public class WordleHttpResponse implements WordleResponse {
               || !CONTENTTYPE_JSON_HVAL.equals(httpMessage.getHeaderValue(CONTENTTYPE_HKEY)))
             throw new BadResponseException();
 
-          stats = new Gson().fromJson(httpMessage.getBody(), StatsDTO.class);
+          stats = JsonCodec.fromJson(httpMessage.getBody(), StatsDTO.class);
           type = Type.SHOWMESTATS_OK;
 
           break;
@@ -270,16 +337,20 @@ public class WordleHttpResponse implements WordleResponse {
               || !httpMessage.getStartLineThirdToken().equals(SUCCESS_DESC))
             throw new BadResponseException();
 
-          if (httpMessage.getHeaders().size() != 1 && httpMessage.getHeaders().size() != 3)
+          boolean hasPlayers = httpMessage.getHeaderValue(CONTENTTYPE_HKEY) != null;
+          boolean hasNextCursor = httpMessage.getHeaderValue(NEXTCURSOR_CUSTOM_HKEY) != null;
+
+          if (httpMessage.getHeaders().size() != 1 + (hasPlayers ? 2 : 0) + (hasNextCursor ? 1 : 0))
             throw new BadResponseException();
 
-          if (httpMessage.getHeaders().size() == 3
+          if (hasPlayers
               && !CONTENTTYPE_JSON_HVAL.equals(httpMessage.getHeaderValue(CONTENTTYPE_HKEY)))
             throw new BadResponseException();
 
-          if (httpMessage.getHeaders().size() == 3)
-            players = new Gson().fromJson(httpMessage.getBody(), PlayerDTO[].class);
+          if (hasPlayers)
+            players = JsonCodec.fromJson(httpMessage.getBody(), PlayerDTO[].class);
 
+          nextRankingCursor = httpMessage.getHeaderValue(NEXTCURSOR_CUSTOM_HKEY);
           type = Type.SHOWMERANKING_OK;
 
           break;
@@ -320,6 +391,29 @@ public class WordleHttpResponse implements WordleResponse {
 
           break;
 
+        case LOGOUT_OK:
+          if (!httpMessage.getStartLineSecondToken().equals(SUCCESS_CODE)
+              || !httpMessage.getStartLineThirdToken().equals(SUCCESS_DESC)
+              || httpMessage.getHeaders().size() != 1)
+            throw new BadResponseException();
+
+          type = Type.LOGOUT_OK;
+
+          break;
+
+        case LOGOUT_NO:
+
+          if (!httpMessage.getStartLineSecondToken().equals(UNAUTHORIZED_CODE)
+              || !httpMessage.getStartLineThirdToken().equals(UNAUTHORIZED_DESC)
+              || httpMessage.getHeaders().size() != 2
+              || httpMessage.getHeaderValue(ERRORCODE_CUSTOM_HKEY) == null)
+            throw new BadResponseException();
+
+          errorCode = ErrorCode.valueOf(httpMessage.getHeaderValue(ERRORCODE_CUSTOM_HKEY));
+          type = Type.LOGOUT_NO;
+
+          break;
+
         case BAD:
 
           if (!httpMessage.getStartLineSecondToken().equals(BADREQUEST_CODE)
@@ -367,7 +461,7 @@ public class WordleHttpResponse implements WordleResponse {
         httpMessage.setStartLineSecondToken(SUCCESS_CODE);
         httpMessage.setStartLineThirdToken(SUCCESS_DESC);
         httpMessage.addHeader(RESPONSETYPE_CUSTOM_HKEY, type.toString());
-        httpMessage.setBody(new Gson().toJson(authToken), ContentType.JSON);
+        httpMessage.setBody(JsonCodec.toJsonBytes(authToken), ContentType.JSON);
         break;
 
       case LOGIN_NO:
@@ -384,7 +478,7 @@ public class WordleHttpResponse implements WordleResponse {
         httpMessage.setStartLineThirdToken(SUCCESS_DESC);
         httpMessage.addHeader(RESPONSETYPE_CUSTOM_HKEY, type.toString());
         if (clues != null)
-          httpMessage.setBody(new Gson().toJson(clues), ContentType.JSON);
+          httpMessage.setBody(JsonCodec.toJsonBytes(clues), ContentType.JSON);
         break;
 
       case PLAYWORDLE_NO:
@@ -400,7 +494,7 @@ public class WordleHttpResponse implements WordleResponse {
         httpMessage.setStartLineSecondToken(SUCCESS_CODE);
         httpMessage.setStartLineThirdToken(SUCCESS_DESC);
         httpMessage.addHeader(RESPONSETYPE_CUSTOM_HKEY, type.toString());
-        httpMessage.setBody(new Gson().toJson(gameState), ContentType.JSON);
+        httpMessage.setBody(JsonCodec.toJsonBytes(gameState), ContentType.JSON);
         break;
 
       case SENDWORD_NO:
@@ -416,7 +510,7 @@ public class WordleHttpResponse implements WordleResponse {
         httpMessage.setStartLineSecondToken(SUCCESS_CODE);
         httpMessage.setStartLineThirdToken(SUCCESS_DESC);
         httpMessage.addHeader(RESPONSETYPE_CUSTOM_HKEY, type.toString());
-        httpMessage.setBody(new Gson().toJson(stats), ContentType.JSON);
+        httpMessage.setBody(JsonCodec.toJsonBytes(stats), ContentType.JSON);
         break;
 
       case SHOWMESTATS_NO:
@@ -432,8 +526,10 @@ public class WordleHttpResponse implements WordleResponse {
         httpMessage.setStartLineSecondToken(SUCCESS_CODE);
         httpMessage.setStartLineThirdToken(SUCCESS_DESC);
         httpMessage.addHeader(RESPONSETYPE_CUSTOM_HKEY, type.toString());
+        if (nextRankingCursor != null)
+          httpMessage.addHeader(NEXTCURSOR_CUSTOM_HKEY, nextRankingCursor);
         if (players != null)
-          httpMessage.setBody(new Gson().toJson(players), ContentType.JSON);
+          httpMessage.setBody(JsonCodec.toJsonBytes(players), ContentType.JSON);
         break;
 
       case SHOWMERANKING_NO:
@@ -445,6 +541,7 @@ public class WordleHttpResponse implements WordleResponse {
         break;
 
       case SHARE_OK:
+      case LOGOUT_OK:
         httpMessage.setStartLineFirstToken(VERSION);
         httpMessage.setStartLineSecondToken(SUCCESS_CODE);
         httpMessage.setStartLineThirdToken(SUCCESS_DESC);
@@ -452,6 +549,7 @@ public class WordleHttpResponse implements WordleResponse {
         break;
 
       case SHARE_NO:
+      case LOGOUT_NO:
         httpMessage.setStartLineFirstToken(VERSION);
         httpMessage.setStartLineSecondToken(UNAUTHORIZED_CODE);
         httpMessage.setStartLineThirdToken(UNAUTHORIZED_DESC);
@@ -493,6 +591,8 @@ public class WordleHttpResponse implements WordleResponse {
     private GameStateDTO gameState;
     private StatsDTO stats;
     public PlayerDTO[] players;
+    private String nextRankingCursor;
+    private byte[] encodedForm;
     private boolean isFullyPopulated;
 
     public Builder withType(Type type) {
@@ -530,6 +630,22 @@ public class WordleHttpResponse implements WordleResponse {
       return this;
     }
 
+    public Builder withNextRankingCursor(String nextRankingCursor) {
+      this.nextRankingCursor = nextRankingCursor;
+      return this;
+    }
+
+    /**
+     * Sets the bytes the response is serialized to, as previously returned by
+     * {@link WordleHttpResponse#toEncodedForm()} for a response with the same properties. The
+     * array is enqueued as is, without being copied: it may be shared among responses as long as
+     * nobody modifies it.
+     */
+    public Builder withEncodedForm(byte[] encodedForm) {
+      this.encodedForm = encodedForm;
+      return this;
+    }
+
     public Builder withFullyPopulated(boolean isFullyPopulated) {
       this.isFullyPopulated = isFullyPopulated;
       return this;
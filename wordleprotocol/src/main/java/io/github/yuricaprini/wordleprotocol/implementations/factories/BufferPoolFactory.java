@@ -0,0 +1,18 @@
+package io.github.yuricaprini.wordleprotocol.implementations.factories;
+
+import io.github.yuricaprini.wordleprotocol.implementations.SlabBufferPool;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
+
+/**
+ * An implementation of {@link BufferPool.Factory} using {@link SlabBufferPool}, with slabs of
+ * {@value #SLAB_BUFFERS} buffers.
+ */
+public class BufferPoolFactory implements BufferPool.Factory {
+
+  private static final int SLAB_BUFFERS = 256;
+
+  @Override
+  public BufferPool createBufferPool(int bufferSize) {
+    return new SlabBufferPool(bufferSize, SLAB_BUFFERS);
+  }
+}
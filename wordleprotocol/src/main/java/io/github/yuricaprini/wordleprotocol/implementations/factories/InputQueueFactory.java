@@ -1,11 +1,13 @@
 package io.github.yuricaprini.wordleprotocol.implementations.factories;
 
 import io.github.yuricaprini.wordleprotocol.implementations.FixedInputQueue;
+import io.github.yuricaprini.wordleprotocol.implementations.PooledInputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 
 /**
  * An implementation of {@link InputQueue.Factory} using {@link FixedInputQueue} with specified 
- * capacity.
+ * capacity, or {@link PooledInputQueue} when a buffer pool is given.
  */
 public class InputQueueFactory implements InputQueue.Factory {
 
@@ -13,4 +15,9 @@ public class InputQueueFactory implements InputQueue.Factory {
   public InputQueue createInputQueue(int capacity) {
     return new FixedInputQueue(capacity);
   }
+
+  @Override
+  public InputQueue createInputQueue(int capacity, BufferPool bufferPool) {
+    return new PooledInputQueue(capacity, bufferPool);
+  }
 }
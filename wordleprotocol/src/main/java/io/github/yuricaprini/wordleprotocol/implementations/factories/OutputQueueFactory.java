@@ -1,15 +1,21 @@
 package io.github.yuricaprini.wordleprotocol.implementations.factories;
 
-import io.github.yuricaprini.wordleprotocol.implementations.ResizeableOutputQueue;
+import io.github.yuricaprini.wordleprotocol.implementations.GatheringOutputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
 
 /**
- * An implementation of {@link OutputQueue.Factory} using {@code ResizableInputQueue}.
+ * An implementation of {@link OutputQueue.Factory} using {@code GatheringOutputQueue}.
  */
 public class OutputQueueFactory implements OutputQueue.Factory {
 
   @Override
   public OutputQueue createOutputQueue() {
-    return new ResizeableOutputQueue();
+    return new GatheringOutputQueue();
+  }
+
+  @Override
+  public OutputQueue createOutputQueue(BufferPool bufferPool) {
+    return new GatheringOutputQueue(bufferPool);
   }
 }
@@ -0,0 +1,64 @@
+package io.github.yuricaprini.wordleprotocol.implementations.factories;
+
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+import io.github.yuricaprini.wordleprotocol.implementations.WordleBinaryRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest.Type;
+
+/**
+ * An implementation of {@link WordleRequest.Factory} using {@link WordleBinaryRequest} istances,
+ * exchanged in the {@link WireFormat#BINARY} wire format.
+ */
+public class WordleBinaryRequestFactory implements WordleRequest.Factory {
+
+  @Override
+  public WordleRequest createEmptyRequest() {
+    return new WordleBinaryRequest.Builder().withFullyPopulated(false).build();
+  }
+
+  @Override
+  public WordleRequest createLoginRequest(CredentialsDTO credentials) {
+    return new WordleBinaryRequest.Builder().withType(Type.LOGIN).withCredentials(credentials)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleRequest createPlayWordleRequest(AuthToken token) {
+    return new WordleBinaryRequest.Builder().withType(Type.PLAY_WORDLE).withAuthToken(token)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleRequest createSendWordRequest(AuthToken token, WordDTO word) {
+    return new WordleBinaryRequest.Builder().withType(Type.SEND_WORD).withAuthToken(token)
+        .withWord(word).withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleRequest createShowMeStatsRequest(AuthToken token) {
+    return new WordleBinaryRequest.Builder().withType(Type.SHOWME_STATS).withAuthToken(token)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleRequest createShowMeRankingRequest(AuthToken token, RankingCursorDTO rankingCursor) {
+    return new WordleBinaryRequest.Builder().withType(Type.SHOWME_RANKING).withAuthToken(token)
+        .withRankingCursor(rankingCursor).withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleRequest createShareRequest(AuthToken token) {
+    return new WordleBinaryRequest.Builder().withType(Type.SHARE).withAuthToken(token)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleRequest createLogoutRequest(AuthToken token) {
+    return new WordleBinaryRequest.Builder().withType(Type.LOGOUT).withAuthToken(token)
+        .withFullyPopulated(true).build();
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.yuricaprini.wordleprotocol.implementations.factories;
+
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
+import io.github.yuricaprini.wordleprotocol.implementations.WordleBinaryResponse;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.Type;
+
+/**
+ * An implementation of {@link WordleResponse.Factory} using {@link WordleBinaryResponse} istances,
+ * exchanged in the {@link WireFormat#BINARY} wire format.
+ */
+public class WordleBinaryResponseFactory implements WordleResponse.Factory {
+
+  @Override
+  public WordleResponse createEmptyResponse() {
+    return new WordleBinaryResponse.Builder().withFullyPopulated(false).build();
+  }
+
+  @Override
+  public WordleResponse createFrom(WordleResponse response) {
+    if (Objects.requireNonNull(response) instanceof WordleBinaryResponse)
+      return response;
+
+    return new WordleBinaryResponse.Builder().withType(response.getType())
+        .withErrorCode(response.getErrorCode()).withAuthToken(response.getAuthToken())
+        .withClues(response.getCluesDTO()).withGameState(response.getGameStateDTO())
+        .withStats(response.getStatsDTO()).withPlayers(response.getPlayerDTOs())
+        .withNextRankingCursor(response.getNextRankingCursor())
+        .withFullyPopulated(response.isFullyPopulated()).build();
+  }
+
+  @Override
+  public WordleResponse createLoginOK(AuthToken authToken) {
+    return new WordleBinaryResponse.Builder().withType(Type.LOGIN_OK).withAuthToken(authToken)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createLoginNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.LOGIN_NO).withErrorCode(errorCode)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createTooLargeRequest() {
+    return new WordleBinaryResponse.Builder().withType(Type.TOOLARGE).withFullyPopulated(true)
+        .build();
+  }
+
+  @Override
+  public WordleResponse createBadRequest() {
+    return new WordleBinaryResponse.Builder().withType(Type.BAD).withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createPlayWordleOK(ClueDTO[] clues) {
+    return new WordleBinaryResponse.Builder().withType(Type.PLAYWORDLE_OK).withClues(clues)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createPlayWordleNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.PLAYWORDLE_NO).withErrorCode(errorCode)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createSendWordOK(GameStateDTO gameStateDTO) {
+    return new WordleBinaryResponse.Builder().withType(Type.SENDWORD_OK).withGameState(gameStateDTO)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createSendWordNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.SENDWORD_NO).withErrorCode(errorCode)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createShowMeStatsOK(StatsDTO statsToDTO) {
+    return new WordleBinaryResponse.Builder().withType(Type.SHOWMESTATS_OK).withStats(statsToDTO)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createShowMeStatsNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.SHOWMESTATS_NO).withErrorCode(errorCode)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createShowMeRankingOK(PlayerDTO[] playerDTOs, String nextCursor) {
+    return new WordleBinaryResponse.Builder().withType(Type.SHOWMERANKING_OK)
+        .withPlayers(playerDTOs).withNextRankingCursor(nextCursor).withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createShowMeRankingNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.SHOWMERANKING_NO)
+        .withErrorCode(errorCode).withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createShareOK() {
+    return new WordleBinaryResponse.Builder().withType(Type.SHARE_OK).withFullyPopulated(true)
+        .build();
+  }
+
+  @Override
+  public WordleResponse createShareNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.SHARE_NO).withErrorCode(errorCode)
+        .withFullyPopulated(true).build();
+  }
+
+  @Override
+  public WordleResponse createLogoutOK() {
+    return new WordleBinaryResponse.Builder().withType(Type.LOGOUT_OK).withFullyPopulated(true)
+        .build();
+  }
+
+  @Override
+  public WordleResponse createLogoutNO(ErrorCode errorCode) {
+    return new WordleBinaryResponse.Builder().withType(Type.LOGOUT_NO).withErrorCode(errorCode)
+        .withFullyPopulated(true).build();
+  }
+}
@@ -2,7 +2,7 @@ package io.github.yuricaprini.wordleprotocol.implementations.factories;
 
 import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
-import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
 import io.github.yuricaprini.wordleprotocol.implementations.WordleHttpRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
@@ -43,9 +43,9 @@ public class WordleRequestFactory implements WordleRequest.Factory {
   }
 
   @Override
-  public WordleRequest createShowMeRankingRequest(AuthToken token, PlayerDTO player) {
+  public WordleRequest createShowMeRankingRequest(AuthToken token, RankingCursorDTO rankingCursor) {
     return new WordleHttpRequest.Builder().withType(Type.SHOWME_RANKING).withAuthToken(token)
-        .withPlayer(player).withFullyPopulated(true).build();
+        .withRankingCursor(rankingCursor).withFullyPopulated(true).build();
   }
 
   @Override
@@ -53,4 +53,10 @@ public class WordleRequestFactory implements WordleRequest.Factory {
     return new WordleHttpRequest.Builder().withType(Type.SHARE).withAuthToken(token)
         .withFullyPopulated(true).build();
   }
+
+  @Override
+  public WordleRequest createLogoutRequest(AuthToken token) {
+    return new WordleHttpRequest.Builder().withType(Type.LOGOUT).withAuthToken(token)
+        .withFullyPopulated(true).build();
+  }
 }
@@ -1,5 +1,7 @@
 package io.github.yuricaprini.wordleprotocol.implementations.factories;
 
+import java.util.EnumMap;
+import java.util.Objects;
 import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
@@ -12,14 +14,56 @@ import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.Type;
 
 /**
  * An implementation of {@link WordleResponse.Factory} using {@link WordleHttpResponse} istances.
+ * <p>
+ * Responses without a body (every error response, the {@code TOOLARGE}, {@code BAD},
+ * {@code SHARE_OK} and {@code LOGOUT_OK} ones) are always serialized to the same bytes: they are
+ * encoded once, when this class is loaded, and the created responses just enqueue the shared
+ * encoded form.
  */
 public class WordleResponseFactory implements WordleResponse.Factory {
 
+  private static final Type[] ERROR_TYPES = {Type.LOGIN_NO, Type.PLAYWORDLE_NO, Type.SENDWORD_NO,
+      Type.SHOWMESTATS_NO, Type.SHOWMERANKING_NO, Type.SHARE_NO, Type.LOGOUT_NO};
+  private static final Type[] BODILESS_OK_TYPES = {Type.TOOLARGE, Type.BAD, Type.SHARE_OK,
+      Type.LOGOUT_OK};
+
+  private static final EnumMap<Type, byte[][]> ENCODED_ERRORS;
+  private static final EnumMap<Type, byte[]> ENCODED_BODILESS_OKS;
+
+  static {
+    ENCODED_ERRORS = new EnumMap<Type, byte[][]>(Type.class);
+    for (Type type : ERROR_TYPES) {
+      byte[][] encodedErrors = new byte[ErrorCode.values().length][];
+      for (ErrorCode errorCode : ErrorCode.values())
+        encodedErrors[errorCode.ordinal()] = new WordleHttpResponse.Builder().withType(type)
+            .withErrorCode(errorCode).withFullyPopulated(true).build().toEncodedForm();
+      ENCODED_ERRORS.put(type, encodedErrors);
+    }
+
+    ENCODED_BODILESS_OKS = new EnumMap<Type, byte[]>(Type.class);
+    for (Type type : BODILESS_OK_TYPES)
+      ENCODED_BODILESS_OKS.put(type, new WordleHttpResponse.Builder().withType(type)
+          .withFullyPopulated(true).build().toEncodedForm());
+  }
+
   @Override
   public WordleResponse createEmptyResponse() {
     return new WordleHttpResponse.Builder().withFullyPopulated(false).build();
   }
 
+  @Override
+  public WordleResponse createFrom(WordleResponse response) {
+    if (Objects.requireNonNull(response) instanceof WordleHttpResponse)
+      return response;
+
+    return new WordleHttpResponse.Builder().withType(response.getType())
+        .withErrorCode(response.getErrorCode()).withAuthToken(response.getAuthToken())
+        .withClues(response.getCluesDTO()).withGameState(response.getGameStateDTO())
+        .withStats(response.getStatsDTO()).withPlayers(response.getPlayerDTOs())
+        .withNextRankingCursor(response.getNextRankingCursor())
+        .withFullyPopulated(response.isFullyPopulated()).build();
+  }
+
   @Override
   public WordleResponse createLoginOK(AuthToken authToken) {
     return new WordleHttpResponse.Builder().withType(Type.LOGIN_OK).withAuthToken(authToken)
@@ -28,19 +72,17 @@ public class WordleResponseFactory implements WordleResponse.Factory {
 
   @Override
   public WordleResponse createLoginNO(ErrorCode errorCode) {
-    return new WordleHttpResponse.Builder().withType(Type.LOGIN_NO).withErrorCode(errorCode)
-        .withFullyPopulated(true).build();
+    return createError(Type.LOGIN_NO, errorCode);
   }
 
   @Override
   public WordleResponse createTooLargeRequest() {
-    return new WordleHttpResponse.Builder().withType(Type.TOOLARGE).withFullyPopulated(true)
-        .build();
+    return createBodilessOK(Type.TOOLARGE);
   }
 
   @Override
   public WordleResponse createBadRequest() {
-    return new WordleHttpResponse.Builder().withType(Type.BAD).withFullyPopulated(true).build();
+    return createBodilessOK(Type.BAD);
   }
 
   @Override
@@ -51,8 +93,7 @@ public class WordleResponseFactory implements WordleResponse.Factory {
 
   @Override
   public WordleResponse createPlayWordleNO(ErrorCode errorCode) {
-    return new WordleHttpResponse.Builder().withType(Type.PLAYWORDLE_NO).withErrorCode(errorCode)
-        .withFullyPopulated(true).build();
+    return createError(Type.PLAYWORDLE_NO, errorCode);
   }
 
   @Override
@@ -63,8 +104,7 @@ public class WordleResponseFactory implements WordleResponse.Factory {
 
   @Override
   public WordleResponse createSendWordNO(ErrorCode errorCode) {
-    return new WordleHttpResponse.Builder().withType(Type.SENDWORD_NO).withErrorCode(errorCode)
-        .withFullyPopulated(true).build();
+    return createError(Type.SENDWORD_NO, errorCode);
   }
 
   @Override
@@ -75,31 +115,63 @@ public class WordleResponseFactory implements WordleResponse.Factory {
 
   @Override
   public WordleResponse createShowMeStatsNO(ErrorCode errorCode) {
-    return new WordleHttpResponse.Builder().withType(Type.SHOWMESTATS_NO).withErrorCode(errorCode)
-        .withFullyPopulated(true).build();
+    return createError(Type.SHOWMESTATS_NO, errorCode);
   }
 
   @Override
-  public WordleResponse createShowMeRankingOK(PlayerDTO[] playerDTOs) {
+  public WordleResponse createShowMeRankingOK(PlayerDTO[] playerDTOs, String nextCursor) {
     return new WordleHttpResponse.Builder().withType(Type.SHOWMERANKING_OK).withPlayers(playerDTOs)
-        .withFullyPopulated(true).build();
+        .withNextRankingCursor(nextCursor).withFullyPopulated(true).build();
   }
 
   @Override
   public WordleResponse createShowMeRankingNO(ErrorCode errorCode) {
-    return new WordleHttpResponse.Builder().withType(Type.SHOWMERANKING_NO).withErrorCode(errorCode)
-        .withFullyPopulated(true).build();
+    return createError(Type.SHOWMERANKING_NO, errorCode);
   }
 
   @Override
   public WordleResponse createShareOK() {
-    return new WordleHttpResponse.Builder().withType(Type.SHARE_OK).withFullyPopulated(true)
-        .build();
+    return createBodilessOK(Type.SHARE_OK);
   }
 
   @Override
   public WordleResponse createShareNO(ErrorCode errorCode) {
-    return new WordleHttpResponse.Builder().withType(Type.SHARE_NO).withErrorCode(errorCode)
+    return createError(Type.SHARE_NO, errorCode);
+  }
+
+  @Override
+  public WordleResponse createLogoutOK() {
+    return createBodilessOK(Type.LOGOUT_OK);
+  }
+
+  @Override
+  public WordleResponse createLogoutNO(ErrorCode errorCode) {
+    return createError(Type.LOGOUT_NO, errorCode);
+  }
+
+  /**
+   * Private helper method to create an error response of the specified type, serialized to its
+   * precomputed encoded form.
+   *
+   * @param type the type of the error response.
+   * @param errorCode the error code of the response.
+   * @return the error response.
+   */
+  private static WordleResponse createError(Type type, ErrorCode errorCode) {
+    return new WordleHttpResponse.Builder().withType(type).withErrorCode(errorCode)
+        .withEncodedForm(errorCode == null ? null : ENCODED_ERRORS.get(type)[errorCode.ordinal()])
         .withFullyPopulated(true).build();
   }
+
+  /**
+   * Private helper method to create a response of the specified type without body, serialized to
+   * its precomputed encoded form.
+   *
+   * @param type the type of the response.
+   * @return the response.
+   */
+  private static WordleResponse createBodilessOK(Type type) {
+    return new WordleHttpResponse.Builder().withType(type)
+        .withEncodedForm(ENCODED_BODILESS_OKS.get(type)).withFullyPopulated(true).build();
+  }
 }
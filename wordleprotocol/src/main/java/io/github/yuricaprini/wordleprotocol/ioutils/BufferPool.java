@@ -0,0 +1,49 @@
+package io.github.yuricaprini.wordleprotocol.ioutils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code BufferPool} lends direct {@link ByteBuffer}s of a fixed size, to be returned once they
+ * are no longer needed, so that many {@link InputQueue}s and {@link OutputQueue}s can share a small
+ * set of buffers instead of each one owning its own. A {@code BufferPool} is thread-safe.
+ */
+public interface BufferPool {
+
+  /**
+   * Lends a cleared buffer of {@link #getBufferSize()} bytes.
+   *
+   * @return a cleared buffer of {@link #getBufferSize()} bytes.
+   */
+  public ByteBuffer acquire();
+
+  /**
+   * Returns a buffer lent by this pool. The buffer must not be used after being released.
+   *
+   * @param buffer the buffer to return.
+   * @throws NullPointerException if {@code buffer == null}
+   * @throws IllegalArgumentException if {@code buffer} has not been lent by a pool of this size.
+   */
+  public void release(ByteBuffer buffer);
+
+  /**
+   * Returns the size in bytes of the buffers lent by this pool.
+   *
+   * @return the size in bytes of the buffers lent by this pool.
+   */
+  public int getBufferSize();
+
+  /**
+   * Abstract Factory for creating instances of {@code BufferPool}
+   */
+  public interface Factory {
+
+    /**
+     * Creates a new instance of {@code BufferPool} lending buffers of the specified size.
+     *
+     * @param bufferSize the size in bytes of the buffers lent by the newly created pool.
+     * @throws IllegalArgumentException if {@code bufferSize <= 0}
+     * @return a new instance of {@code BufferPool}.
+     */
+    public BufferPool createBufferPool(int bufferSize);
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.yuricaprini.wordleprotocol.ioutils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import io.github.yuricaprini.wordleprotocol.exceptions.EmptyInputQueueException;
 
@@ -28,6 +29,25 @@ public interface InputQueue {
    */
   public byte dequeue();
 
+  /**
+   * Returns a read-only view of the bytes in the queue, without dequeuing them. The view goes from
+   * its position, holding the first byte to dequeue, to its limit, and shares the content of the
+   * queue: it is valid until the queue is next filled or dequeued.
+   *
+   * @return a read-only view of the bytes in the queue.
+   */
+  public ByteBuffer peek();
+
+  /**
+   * Dequeues and discards the first {@code n} bytes of the queue, typically after reading them
+   * through {@link #peek()}.
+   *
+   * @param n the number of bytes to dequeue.
+   * @throws IllegalArgumentException if {@code n < 0} or {@code n} is greater than the number of
+   * bytes in the queue.
+   */
+  public void skip(int n);
+
   /**
     * Checks whether the input queue is empty.
     *
@@ -35,6 +55,12 @@ public interface InputQueue {
   */
   public boolean isEmpty();
 
+  /**
+   * Discards all the bytes in the queue, giving back the buffer borrowed from a
+   * {@link BufferPool}, if any. To be called once the queue is no longer used.
+   */
+  public void clear();
+
   /**
    * Abstract Factory for creating instances of {@code InputQueue}
    */
@@ -48,5 +74,18 @@ public interface InputQueue {
      * @return a new instance of {@code InputQueue}.
      */
     public InputQueue createInputQueue(int capacity);
+
+    /**
+     * Creates a new instance of {@code InputQueue} with the specified capacity, which borrows its
+     * buffer from {@code bufferPool} only while holding bytes.
+     *
+     * @param capacity the capacity of the newly created queue.
+     * @param bufferPool the pool lending the buffer of the newly created queue.
+     * @throws NullPointerException if {@code bufferPool == null}
+     * @throws IllegalArgumentException if {@code capacity < 0 } or {@code capacity} is greater
+     * than the size of the buffers lent by {@code bufferPool}
+     * @return a new instance of {@code InputQueue}.
+     */
+    public InputQueue createInputQueue(int capacity, BufferPool bufferPool);
   }
 }
@@ -38,6 +38,19 @@ public interface OutputQueue {
     */
   public boolean isEmpty();
 
+  /**
+    * Returns the number of bytes in the queue, not yet written to a channel.
+    *
+    * @return the number of bytes in the queue.
+    */
+  public int size();
+
+  /**
+   * Discards all the bytes in the queue, giving back the buffers borrowed from a
+   * {@link BufferPool}, if any. To be called once the queue is no longer used.
+   */
+  public void clear();
+
   /**
    * Abstract Factory for creating instances of {@code OutputQueue}
    */
@@ -49,5 +62,15 @@ public interface OutputQueue {
      * @return a new instance of {@code OutputQueue}.
      */
     public OutputQueue createOutputQueue();
+
+    /**
+     * Creates a new instance of {@code OutputQueue} which borrows its buffers from
+     * {@code bufferPool} only while holding bytes.
+     *
+     * @param bufferPool the pool lending the buffers of the newly created queue.
+     * @throws NullPointerException if {@code bufferPool == null}
+     * @return a new instance of {@code OutputQueue}.
+     */
+    public OutputQueue createOutputQueue(BufferPool bufferPool);
   }
 }
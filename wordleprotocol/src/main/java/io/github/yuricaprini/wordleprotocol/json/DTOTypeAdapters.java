@@ -0,0 +1,485 @@
+package io.github.yuricaprini.wordleprotocol.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SecretWordDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+
+/**
+ * The {@code DTOTypeAdapters} class groups the streaming {@link TypeAdapter}s registered by
+ * {@link JsonCodec}. Each adapter writes the fields of its class under the names of the class
+ * fields, skips unknown names when reading and throws a {@link JsonSyntaxException} when a field
+ * required by the factory method of its class is missing. Adapters are stateless, hence
+ * thread-safe, and are wrapped with {@link TypeAdapter#nullSafe()} when registered.
+ */
+final class DTOTypeAdapters {
+
+  private DTOTypeAdapters() {}
+
+  static final class AuthTokenAdapter extends TypeAdapter<AuthToken> {
+
+    @Override
+    public void write(JsonWriter out, AuthToken authToken) throws IOException {
+      out.beginObject();
+      out.name("token").value(authToken.toString());
+      out.endObject();
+    }
+
+    @Override
+    public AuthToken read(JsonReader in) throws IOException {
+      String token = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        if (in.nextName().equals("token"))
+          token = readString(in);
+        else
+          in.skipValue();
+      }
+      in.endObject();
+
+      return AuthToken.wrap(token);
+    }
+  }
+
+  static final class ClueAdapter extends TypeAdapter<ClueDTO> {
+
+    @Override
+    public void write(JsonWriter out, ClueDTO clue) throws IOException {
+      out.beginObject();
+      out.name("word").value(clue.getWord());
+      out.name("wordColors").value(clue.getWordColors());
+      out.endObject();
+    }
+
+    @Override
+    public ClueDTO read(JsonReader in) throws IOException {
+      String word = null;
+      String wordColors = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "word":
+            word = readString(in);
+            break;
+          case "wordColors":
+            wordColors = readString(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return ClueDTO.newInstance(required(word), required(wordColors));
+    }
+  }
+
+  static final class CredentialsAdapter extends TypeAdapter<CredentialsDTO> {
+
+    @Override
+    public void write(JsonWriter out, CredentialsDTO credentials) throws IOException {
+      out.beginObject();
+      out.name("username").value(credentials.getUsername());
+      out.name("password").value(credentials.getPassword());
+      out.endObject();
+    }
+
+    @Override
+    public CredentialsDTO read(JsonReader in) throws IOException {
+      String username = null;
+      String password = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "username":
+            username = readString(in);
+            break;
+          case "password":
+            password = readString(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return CredentialsDTO.newInstance(required(username), required(password));
+    }
+  }
+
+  static final class GameStateAdapter extends TypeAdapter<GameStateDTO> {
+
+    private final TypeAdapter<ClueDTO> clueAdapter = new ClueAdapter();
+    private final TypeAdapter<SecretWordDTO> secretWordAdapter = new SecretWordAdapter();
+    private final TypeAdapter<StatsDTO> statsAdapter = new StatsAdapter();
+
+    @Override
+    public void write(JsonWriter out, GameStateDTO gameState) throws IOException {
+      out.beginObject();
+
+      ClueDTO[] clues = gameState.getCluesDTO();
+      if (clues != null) {
+        out.name("clues").beginArray();
+        for (ClueDTO clue : clues)
+          clueAdapter.write(out, clue);
+        out.endArray();
+      }
+
+      if (gameState.getSecretWordDTO() != null) {
+        out.name("secretWord");
+        secretWordAdapter.write(out, gameState.getSecretWordDTO());
+      }
+
+      if (gameState.getStatsDTO() != null) {
+        out.name("stats");
+        statsAdapter.write(out, gameState.getStatsDTO());
+      }
+
+      out.endObject();
+    }
+
+    @Override
+    public GameStateDTO read(JsonReader in) throws IOException {
+      ClueDTO[] clues = null;
+      SecretWordDTO secretWord = null;
+      StatsDTO stats = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          continue;
+        }
+
+        switch (name) {
+          case "clues":
+            List<ClueDTO> clueList = new ArrayList<ClueDTO>();
+            in.beginArray();
+            while (in.hasNext())
+              clueList.add(clueAdapter.read(in));
+            in.endArray();
+            clues = clueList.toArray(new ClueDTO[clueList.size()]);
+            break;
+          case "secretWord":
+            secretWord = secretWordAdapter.read(in);
+            break;
+          case "stats":
+            stats = statsAdapter.read(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return GameStateDTO.newInstance(clues, secretWord, stats);
+    }
+  }
+
+  static final class PlayerAdapter extends TypeAdapter<PlayerDTO> {
+
+    @Override
+    public void write(JsonWriter out, PlayerDTO player) throws IOException {
+      out.beginObject();
+      out.name("name").value(player.getName());
+      out.name("score").value(player.getScore());
+      out.endObject();
+    }
+
+    @Override
+    public PlayerDTO read(JsonReader in) throws IOException {
+      String name = null;
+      int score = 0;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "name":
+            name = readString(in);
+            break;
+          case "score":
+            score = in.nextInt();
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return PlayerDTO.newInstance(required(name), score);
+    }
+  }
+
+  static final class RankingCursorAdapter extends TypeAdapter<RankingCursorDTO> {
+
+    @Override
+    public void write(JsonWriter out, RankingCursorDTO rankingCursor) throws IOException {
+      out.beginObject();
+      out.name("cursor").value(rankingCursor.getCursor());
+      out.name("descending").value(rankingCursor.isDescending());
+      out.name("pageSize").value(rankingCursor.getPageSize());
+      out.endObject();
+    }
+
+    @Override
+    public RankingCursorDTO read(JsonReader in) throws IOException {
+      String cursor = null;
+      boolean descending = false;
+      int pageSize = 0;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "cursor":
+            cursor = readString(in);
+            break;
+          case "descending":
+            descending = in.nextBoolean();
+            break;
+          case "pageSize":
+            pageSize = in.nextInt();
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return RankingCursorDTO.newInstance(cursor, descending, pageSize);
+    }
+  }
+
+  static final class SecretWordAdapter extends TypeAdapter<SecretWordDTO> {
+
+    @Override
+    public void write(JsonWriter out, SecretWordDTO secretWord) throws IOException {
+      out.beginObject();
+      out.name("wordNumber").value(secretWord.getWordNumber());
+      out.name("secretWord").value(secretWord.getSecretWord());
+      out.name("translatedSecretWord").value(secretWord.getTranslatedSecretWord());
+      out.endObject();
+    }
+
+    @Override
+    public SecretWordDTO read(JsonReader in) throws IOException {
+      int wordNumber = 0;
+      String secretWord = null;
+      String translatedSecretWord = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "wordNumber":
+            wordNumber = in.nextInt();
+            break;
+          case "secretWord":
+            secretWord = readString(in);
+            break;
+          case "translatedSecretWord":
+            translatedSecretWord = readString(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return SecretWordDTO.newInstance(wordNumber, required(secretWord),
+          required(translatedSecretWord));
+    }
+  }
+
+  static final class SharedGameResultAdapter extends TypeAdapter<SharedGameResultDTO> {
+
+    @Override
+    public void write(JsonWriter out, SharedGameResultDTO sharedGameResult) throws IOException {
+      out.beginObject();
+      out.name("playername").value(sharedGameResult.getPlayername());
+      out.name("wordleNumber").value(sharedGameResult.getWordleNumber());
+      out.name("wordColors").beginArray();
+      for (String wordColors : sharedGameResult.getWordsColors())
+        out.value(wordColors);
+      out.endArray();
+      out.endObject();
+    }
+
+    @Override
+    public SharedGameResultDTO read(JsonReader in) throws IOException {
+      String playername = null;
+      Integer wordleNumber = null;
+      String[] wordColors = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          continue;
+        }
+
+        switch (name) {
+          case "playername":
+            playername = in.nextString();
+            break;
+          case "wordleNumber":
+            wordleNumber = in.nextInt();
+            break;
+          case "wordColors":
+            List<String> wordColorsList = new ArrayList<String>();
+            in.beginArray();
+            while (in.hasNext())
+              wordColorsList.add(readString(in));
+            in.endArray();
+            wordColors = wordColorsList.toArray(new String[wordColorsList.size()]);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return SharedGameResultDTO.newInstance(required(playername), required(wordleNumber),
+          required(wordColors));
+    }
+  }
+
+  static final class StatsAdapter extends TypeAdapter<StatsDTO> {
+
+    @Override
+    public void write(JsonWriter out, StatsDTO stats) throws IOException {
+      out.beginObject();
+      out.name("played").value(stats.getPlayed());
+      out.name("winPercentage").value(stats.getWinPercentage());
+      out.name("currentStreak").value(stats.getCurrentStreak());
+      out.name("maxStreak").value(stats.getMaxStreak());
+      out.name("guessDistribution").beginObject();
+      for (Entry<Integer, Integer> entry : stats.getGuessDistribution().entrySet())
+        out.name(String.valueOf(entry.getKey())).value(entry.getValue());
+      out.endObject();
+      out.endObject();
+    }
+
+    @Override
+    public StatsDTO read(JsonReader in) throws IOException {
+      int played = 0;
+      int winPercentage = 0;
+      int currentStreak = 0;
+      int maxStreak = 0;
+      Map<Integer, Integer> guessDistribution = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "played":
+            played = in.nextInt();
+            break;
+          case "winPercentage":
+            winPercentage = in.nextInt();
+            break;
+          case "currentStreak":
+            currentStreak = in.nextInt();
+            break;
+          case "maxStreak":
+            maxStreak = in.nextInt();
+            break;
+          case "guessDistribution":
+            guessDistribution = readGuessDistribution(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      return StatsDTO.newInstance(played, winPercentage, currentStreak, maxStreak,
+          required(guessDistribution));
+    }
+
+    private static Map<Integer, Integer> readGuessDistribution(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+
+      Map<Integer, Integer> guessDistribution = new HashMap<Integer, Integer>();
+      in.beginObject();
+      while (in.hasNext()) {
+        try {
+          guessDistribution.put(Integer.valueOf(in.nextName()), in.nextInt());
+        } catch (NumberFormatException e) {
+          throw new JsonSyntaxException(e);
+        }
+      }
+      in.endObject();
+
+      return guessDistribution;
+    }
+  }
+
+  static final class WordAdapter extends TypeAdapter<WordDTO> {
+
+    @Override
+    public void write(JsonWriter out, WordDTO word) throws IOException {
+      out.beginObject();
+      out.name("word").value(word.getWord());
+      out.endObject();
+    }
+
+    @Override
+    public WordDTO read(JsonReader in) throws IOException {
+      String word = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        if (in.nextName().equals("word"))
+          word = readString(in);
+        else
+          in.skipValue();
+      }
+      in.endObject();
+
+      return WordDTO.newInstance(required(word));
+    }
+  }
+
+  /**
+   * Private helper method to read a string value, which may be {@code null}.
+   */
+  private static String readString(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextString();
+  }
+
+  /**
+   * Private helper method to check that a field required by a DTO factory method is present.
+   */
+  private static <T> T required(T value) {
+    if (value == null)
+      throw new JsonSyntaxException("missing field");
+    return value;
+  }
+}
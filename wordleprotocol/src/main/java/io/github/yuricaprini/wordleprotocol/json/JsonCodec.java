@@ -0,0 +1,86 @@
+package io.github.yuricaprini.wordleprotocol.json;
+
+import java.nio.charset.StandardCharsets;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonSyntaxException;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SecretWordDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+
+/**
+ * The {@code JsonCodec} class provides the JSON encoding and decoding of the DTOs and of the
+ * {@link AuthToken}, shared by every message. It relies on a single thread-safe {@link Gson}
+ * instance with a handwritten streaming adapter for each of those classes, instead of building a
+ * new {@code Gson} and discovering its reflective adapters at every call.
+ * <p>
+ * The JSON produced is the same the reflective adapters would produce: field names, omitted
+ * {@code null} fields and escaping are unchanged.
+ */
+public final class JsonCodec {
+
+  private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapter(AuthToken.class, new DTOTypeAdapters.AuthTokenAdapter().nullSafe())
+      .registerTypeAdapter(ClueDTO.class, new DTOTypeAdapters.ClueAdapter().nullSafe())
+      .registerTypeAdapter(CredentialsDTO.class,
+          new DTOTypeAdapters.CredentialsAdapter().nullSafe())
+      .registerTypeAdapter(GameStateDTO.class, new DTOTypeAdapters.GameStateAdapter().nullSafe())
+      .registerTypeAdapter(PlayerDTO.class, new DTOTypeAdapters.PlayerAdapter().nullSafe())
+      .registerTypeAdapter(RankingCursorDTO.class,
+          new DTOTypeAdapters.RankingCursorAdapter().nullSafe())
+      .registerTypeAdapter(SecretWordDTO.class, new DTOTypeAdapters.SecretWordAdapter().nullSafe())
+      .registerTypeAdapter(SharedGameResultDTO.class,
+          new DTOTypeAdapters.SharedGameResultAdapter().nullSafe())
+      .registerTypeAdapter(StatsDTO.class, new DTOTypeAdapters.StatsAdapter().nullSafe())
+      .registerTypeAdapter(WordDTO.class, new DTOTypeAdapters.WordAdapter().nullSafe())
+      .create();
+
+  private JsonCodec() {}
+
+  /**
+   * Returns the shared {@code Gson} instance, knowing the adapters of the DTOs.
+   *
+   * @return the shared {@code Gson} instance.
+   */
+  public static Gson getGson() {
+    return GSON;
+  }
+
+  /**
+   * Encodes {@code value} as JSON, then as UTF-8 bytes. The JSON is built as a string on purpose:
+   * encoding a string is much cheaper than streaming through a {@code Writer} over the bytes, whose
+   * charset encoder allocates a buffer far larger than any message at every call.
+   *
+   * @param value the value to encode, possibly {@code null}.
+   * @return the UTF-8 bytes of the JSON representation of {@code value}.
+   */
+  public static byte[] toJsonBytes(Object value) {
+
+    String json = value == null ? GSON.toJson(JsonNull.INSTANCE)
+        : GSON.toJson(value, value.getClass());
+
+    return json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Decodes a value of the specified class from its JSON representation.
+   *
+   * @param <T> the class of the value.
+   * @param json the JSON representation of the value.
+   * @param classOfT the class of the value.
+   * @return the decoded value, or {@code null} if {@code json} is empty or {@code null}.
+   * @throws JsonSyntaxException if {@code json} is not a valid representation of a
+   * {@code classOfT} value.
+   */
+  public static <T> T fromJson(String json, Class<T> classOfT) throws JsonSyntaxException {
+    return GSON.fromJson(json, classOfT);
+  }
+}
@@ -0,0 +1,78 @@
+package io.github.yuricaprini.wordleprotocol.messages;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+
+/**
+ * Enumerates the wire formats in which {@link WordleRequest}s and {@link WordleResponse}s can be
+ * exchanged over a connection.
+ * <p>
+ * The format of a connection is chosen by the client when connecting: a client speaking
+ * {@link #BINARY} sends its preface before the first request, while a client speaking
+ * {@link #HTTP} just sends its requests. The server tells the two apart from the first byte
+ * received, since no HTTP request starts with the byte the preface starts with.
+ */
+public enum WireFormat {
+
+  /**
+   * Requests and responses are HTTP messages with JSON bodies.
+   */
+  HTTP(new byte[0]),
+
+  /**
+   * Requests and responses are length-prefixed binary frames.
+   */
+  BINARY(new byte[] {0x00, 'W', 'B', 0x01});
+
+  private final byte[] preface;
+
+  private WireFormat(byte[] preface) {
+    this.preface = preface;
+  }
+
+  /**
+   * Announces this wire format by enqueuing its preface, if any, into {@code outputQueue}. It must
+   * be called by the client once, before serializing its first request.
+   *
+   * @param outputQueue the output queue of the connection being started.
+   * @throws NullPointerException if {@code outputQueue == null}
+   */
+  public void announceTo(OutputQueue outputQueue) {
+    if (preface.length > 0)
+      Objects.requireNonNull(outputQueue).enqueue(preface);
+  }
+
+  /**
+   * Detects the wire format announced by the client from the first bytes received on a
+   * connection, dequeuing the preface, if any. An unknown preface is left in the queue and reported
+   * as {@link #HTTP}, so that it is rejected as a bad HTTP request.
+   *
+   * @param inputQueue the input queue of the connection being started.
+   * @return the wire format of the connection, or {@code null} if the queued bytes are not enough
+   * to detect it yet.
+   * @throws NullPointerException if {@code inputQueue == null}
+   */
+  public static WireFormat detectFrom(InputQueue inputQueue) {
+
+    ByteBuffer input = Objects.requireNonNull(inputQueue).peek();
+    byte[] binaryPreface = BINARY.preface;
+
+    if (!input.hasRemaining())
+      return null;
+
+    if (input.get(input.position()) != binaryPreface[0])
+      return HTTP;
+
+    for (int i = 1; i < binaryPreface.length; i++) {
+      if (input.position() + i >= input.limit())
+        return null;
+      if (input.get(input.position() + i) != binaryPreface[i])
+        return HTTP;
+    }
+
+    inputQueue.skip(binaryPreface.length);
+    return BINARY;
+  }
+}
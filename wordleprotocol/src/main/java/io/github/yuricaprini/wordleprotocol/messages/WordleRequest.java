@@ -2,7 +2,7 @@ package io.github.yuricaprini.wordleprotocol.messages;
 
 import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
-import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
 import io.github.yuricaprini.wordleprotocol.exceptions.BadRequestException;
 import io.github.yuricaprini.wordleprotocol.exceptions.RequestFullyPopulatedException;
@@ -88,18 +88,27 @@ public interface WordleRequest {
   public WordDTO getWordDTO();
 
   /**
-   * Returns the dto containing the player indicating the starting point (excluded) of a requested 
-   * ranking page.
-   * @return the dto containing the player indicating the starting point (excluded) of a requested 
-   * ranking page.
+   * Returns the dto describing a requested ranking page.
+   * @return the dto describing a requested ranking page or {@code null} if no ranking cursor is 
+   * inside the request.
    */
-  public PlayerDTO getPlayerDTO();
+  public RankingCursorDTO getRankingCursorDTO();
+
+  /**
+   * Checks if the client wants the connection to stay open after the response to this request,
+   * which is the case unless the request asks to close it or, in wire formats whose older versions
+   * close by default (e.g. HTTP/1.0), does not ask to keep it open.
+   *
+   * @return {@code true} if the connection must stay open after the response to this request,
+   * {@code false} if it must be closed once the response has been written.
+   */
+  public boolean isKeepAlive();
 
   /**
   * Enumerates the different types of Wordle requests.
   */
   public enum Type {
-    LOGIN, PLAY_WORDLE, SEND_WORD, SHOWME_STATS, SHOWME_RANKING, SHARE
+    LOGIN, PLAY_WORDLE, SEND_WORD, SHOWME_STATS, SHOWME_RANKING, SHARE, LOGOUT
   }
 
   /**
@@ -160,7 +169,8 @@ public interface WordleRequest {
     *        retrieved.
     * @return a Wordle request to retrieve a page of the ranking.
     */
-    public WordleRequest createShowMeRankingRequest(AuthToken token, PlayerDTO player);
+    public WordleRequest createShowMeRankingRequest(AuthToken token,
+        RankingCursorDTO rankingCursor);
 
     /**
      * Creates a Wordle request to share user game results with other users.
@@ -169,5 +179,13 @@ public interface WordleRequest {
      * @return a Wordle request to share user game results with other users.
      */
     public WordleRequest createShareRequest(AuthToken authToken);
+
+    /**
+     * Creates a Wordle request to end the session identified by the authentication token.
+     *
+     * @param token the authentication token.
+     * @return a Wordle request to end the session identified by the authentication token.
+     */
+    public WordleRequest createLogoutRequest(AuthToken token);
   }
 }
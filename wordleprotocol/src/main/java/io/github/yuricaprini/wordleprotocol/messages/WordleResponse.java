@@ -50,6 +50,21 @@ public interface WordleResponse {
   */
   public boolean serializeTo(OutputQueue outputQueue);
 
+  /**
+  * Serializes the response and writes it to the specified {@code outputQueue} like
+  * {@link #serializeTo(OutputQueue)}, announcing that the connection is closed after it if
+  * {@code closesConnection} and the wire format allows it. By default, the announcement is omitted.
+  *
+  * @param outputQueue the output queue to which the serialized response is written.
+  * @param closesConnection {@code true} if the connection is closed after this response.
+  * @throws NullPointerException if {@code outputQueue == null}
+  * @return {@code true} if the response is successfully serialized, {@code false} if the response
+  * is not fully populated.
+  */
+  public default boolean serializeTo(OutputQueue outputQueue, boolean closesConnection) {
+    return serializeTo(outputQueue);
+  }
+
   /**
    * Checks if the response is fully populated.
    *
@@ -109,13 +124,22 @@ public interface WordleResponse {
   */
   public PlayerDTO[] getPlayerDTOs();
 
+  /**
+  * Return the opaque cursor to retrieve the ranking page following the one inside this response.
+  * 
+  * @return the cursor to retrieve the next ranking page or {@code null} if the ranking page inside 
+  * this response is the last one or no ranking page is inside this response.
+  */
+  public String getNextRankingCursor();
+
   /**
    * Enumeration representing different response types.
    */
   public enum Type {
     //@formatter:off
     LOGIN_OK, LOGIN_NO, TOOLARGE, BAD, PLAYWORDLE_OK, PLAYWORDLE_NO, SENDWORD_OK, SENDWORD_NO,
-    SHOWMESTATS_OK, SHOWMESTATS_NO, SHOWMERANKING_OK, SHOWMERANKING_NO, SHARE_OK, SHARE_NO
+    SHOWMESTATS_OK, SHOWMESTATS_NO, SHOWMERANKING_OK, SHOWMERANKING_NO, SHARE_OK, SHARE_NO,
+    LOGOUT_OK, LOGOUT_NO
     //@formatter:on
 
   }
@@ -141,6 +165,17 @@ public interface WordleResponse {
      */
     public WordleResponse createEmptyResponse();
 
+    /**
+     * Creates a Wordle response with the same content as {@code response}, possibly created by a
+     * factory of another wire format, to be serialized in the wire format of this factory.
+     *
+     * @param response the response to convert.
+     * @return {@code response} itself if already created by this kind of factory, a Wordle response
+     * with the same content otherwise.
+     * @throws NullPointerException if {@code response == null}
+     */
+    public WordleResponse createFrom(WordleResponse response);
+
     /**
      * Creates a Wordle response representing a successful login.
      *
@@ -217,10 +252,12 @@ public interface WordleResponse {
     * was successful.
     * 
     * @param playerDTOs the DTOs composing the ranking page.
+    * @param nextCursor the cursor to retrieve the next ranking page, {@code null} if the page is 
+    * the last one.
     * @return a response indicating that a user request to retrieve to retrieve a ranking page 
     * was successful.
     */
-    public WordleResponse createShowMeRankingOK(PlayerDTO[] playerDTOs);
+    public WordleResponse createShowMeRankingOK(PlayerDTO[] playerDTOs, String nextCursor);
 
     /**
      * Creates a response indicating that a user request to retrieve a ranking page has failed.
@@ -247,6 +284,21 @@ public interface WordleResponse {
     public WordleResponse createShareOK();
 
     public WordleResponse createShareNO(ErrorCode invalidAuthtoken);
+
+    /**
+     * Creates a response indicating that the session of the user has been ended.
+     *
+     * @return a response indicating that the session of the user has been ended.
+     */
+    public WordleResponse createLogoutOK();
+
+    /**
+     * Creates a response indicating that a user request to end its session has failed.
+     *
+     * @param errorCode the error code indicating the reason for the request failure.
+     * @return a response indicating that a user request to end its session has failed.
+     */
+    public WordleResponse createLogoutNO(ErrorCode errorCode);
   }
 
 }
@@ -51,5 +51,51 @@ public class AuthTokenTest {
 
     assertEquals(USER_ID, userID);
   }
-}
 
+  @Test
+  public void wrappedCopyShouldBeValidatedAgain() throws InvalidTokenException {
+    AuthToken.init(SECRET_KEY, 15 * 60 * 1000);
+    AuthToken authToken = AuthToken.newIstance(USER_ID);
+
+    assertEquals(USER_ID, AuthToken.wrap(authToken.toString()).validate());
+    assertEquals(USER_ID, AuthToken.wrap(authToken.toString()).validate());
+  }
+
+  @Test
+  public void tamperedTokenWithVerifiedSignatureShouldBeInvalid() throws InvalidTokenException {
+    AuthToken.init(SECRET_KEY, 15 * 60 * 1000);
+    String[] parts = AuthToken.newIstance(USER_ID).toString().split("\\.");
+    String otherPayload = AuthToken.newIstance("other").toString().split("\\.")[1];
+
+    assertThrows(InvalidTokenException.class,
+        () -> AuthToken.wrap(parts[0] + "." + otherPayload + "." + parts[2]).validate());
+  }
+
+  @Test
+  public void tokensIssuedBeyondTheRememberedOnesShouldBeValid() throws InvalidTokenException {
+    AuthToken.init(SECRET_KEY, 15 * 60 * 1000);
+    AuthToken first = AuthToken.newIstance(USER_ID);
+    AuthToken last = first;
+    for (int i = 0; i < 5000; i++)
+      last = AuthToken.newIstance(USER_ID + i);
+
+    assertEquals(USER_ID, first.validate());
+    assertEquals(USER_ID + 4999, last.validate());
+  }
+
+  @Test
+  public void tokenSignedWithPreviousKeyShouldBeInvalid() {
+    AuthToken.init(SECRET_KEY, 15 * 60 * 1000);
+    AuthToken authToken = AuthToken.newIstance(USER_ID);
+    AuthToken.init("anotherSecretKey", 15 * 60 * 1000);
+
+    assertThrows(InvalidTokenException.class, () -> authToken.validate());
+  }
+
+  @Test
+  public void nullTokenShouldBeInvalid() {
+    AuthToken.init(SECRET_KEY, 15 * 60 * 1000);
+
+    assertThrows(InvalidTokenException.class, () -> AuthToken.wrap(null).validate());
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.yuricaprini.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
+
+public class BufferPoolTest {
+
+  @Test
+  void constructorShouldThrowExceptionIfBufferSizeNotPositive() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(0);
+    });
+  }
+
+  @Test
+  void acquireShouldLendClearedDirectBuffersOfBufferSize() {
+    BufferPool pool = ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(42);
+
+    ByteBuffer first = pool.acquire();
+    ByteBuffer second = pool.acquire();
+    first.put((byte) 1);
+    pool.release(first);
+
+    assertNotSame(first, second);
+    assert (second.isDirect());
+    assertEquals(42, second.capacity());
+    assertEquals(42, second.remaining());
+    assertEquals(42, pool.acquire().remaining());
+  }
+
+  @Test
+  void acquireShouldReuseLastReleasedBuffer() {
+    BufferPool pool = ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(42);
+
+    ByteBuffer buffer = pool.acquire();
+    pool.release(buffer);
+
+    assertSame(buffer, pool.acquire());
+  }
+
+  @Test
+  void releaseShouldThrowExceptionIfBufferNull() {
+    BufferPool pool = ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(42);
+    assertThrows(NullPointerException.class, () -> {
+      pool.release(null);
+    });
+  }
+
+  @Test
+  void releaseShouldThrowExceptionIfBufferNotFromPool() {
+    BufferPool pool = ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(42);
+    assertThrows(IllegalArgumentException.class, () -> {
+      pool.release(ByteBuffer.allocate(42));
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      pool.release(ByteBuffer.allocateDirect(24));
+    });
+  }
+}
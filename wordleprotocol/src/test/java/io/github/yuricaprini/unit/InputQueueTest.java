@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
 import io.github.yuricaprini.wordleprotocol.exceptions.EmptyInputQueueException;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 
 public class InputQueueTest {
@@ -117,4 +118,70 @@ public class InputQueueTest {
     assertArrayEquals("test.".getBytes(), test);
     assert (iQ.isEmpty());
   }
+
+  @Test
+  public void peekShouldNotDequeue() throws IOException {
+    InputQueue iQ = ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(42);
+    iQ.fillFrom(Channels.newChannel(new ByteArrayInputStream("Test data".getBytes())));
+
+    ByteBuffer view = iQ.peek();
+    byte[] peeked = new byte[view.remaining()];
+    view.get(peeked);
+
+    assertArrayEquals("Test data".getBytes(), peeked);
+    assertEquals('T', iQ.dequeue());
+  }
+
+  @Test
+  public void skipShouldThrowExceptionIfMoreThanQueued() throws IOException {
+    InputQueue iQ = ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(42);
+    iQ.fillFrom(Channels.newChannel(new ByteArrayInputStream("Test".getBytes())));
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      iQ.skip(5);
+    });
+  }
+
+  @Test
+  public void skipShouldDequeueBytes() throws IOException {
+    InputQueue iQ = ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(42);
+    iQ.fillFrom(Channels.newChannel(new ByteArrayInputStream("Test ".getBytes())));
+    iQ.skip(4);
+    iQ.fillFrom(Channels.newChannel(new ByteArrayInputStream("data".getBytes())));
+
+    assertEquals(' ', iQ.dequeue());
+    iQ.skip(3);
+    assertEquals('a', iQ.dequeue());
+    assert (iQ.isEmpty());
+  }
+
+  @Test
+  public void pooledConstructorShouldThrowExceptionIfCapacityGreaterThanBufferSize() {
+    BufferPool pool = ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(42);
+    assertThrows(IllegalArgumentException.class, () -> {
+      ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(43, pool);
+    });
+  }
+
+  @Test
+  public void pooledQueueShouldHoldBufferOnlyWhileNotEmpty() throws IOException {
+    BufferPool pool =
+        Mockito.spy(ProtocolFactoryProvider.newBufferPoolFactory().createBufferPool(42));
+    InputQueue iQ = ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(8, pool);
+
+    iQ.fillFrom(Channels.newChannel(new ByteArrayInputStream(new byte[0])));
+    Mockito.verify(pool, Mockito.times(1)).release(Mockito.any(ByteBuffer.class));
+    assert (iQ.isEmpty());
+
+    byte[] testData = "Test data".getBytes();
+    assertEquals(8, iQ.fillFrom(Channels.newChannel(new ByteArrayInputStream(testData))));
+    iQ.skip(4);
+    Mockito.verify(pool, Mockito.times(1)).release(Mockito.any(ByteBuffer.class));
+
+    assertEquals(' ', iQ.dequeue());
+    assertEquals('d', iQ.peek().get());
+    iQ.skip(3);
+    Mockito.verify(pool, Mockito.times(2)).release(Mockito.any(ByteBuffer.class));
+    assert (iQ.isEmpty());
+  }
 }
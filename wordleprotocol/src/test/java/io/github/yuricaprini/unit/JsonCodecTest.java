@@ -0,0 +1,101 @@
+package io.github.yuricaprini.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SecretWordDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+import io.github.yuricaprini.wordleprotocol.json.JsonCodec;
+
+public class JsonCodecTest {
+
+  @BeforeAll
+  public static void setUp() {
+    AuthToken.init("superSecretKey", 15 * 60 * 1000);
+  }
+
+  @Test
+  void toJsonBytesShouldProduceTheSameJsonAsReflectiveGson() {
+    Map<Integer, Integer> guessDistribution = new HashMap<Integer, Integer>();
+    guessDistribution.put(1, 2);
+    guessDistribution.put(3, 4);
+    StatsDTO stats = StatsDTO.newInstance(10, 50, 2, 4, guessDistribution);
+    ClueDTO[] clues = {ClueDTO.newInstance("abcdefghij", "++??XX++??")};
+
+    Object[] values = {AuthToken.newIstance("username"),
+        CredentialsDTO.newInstance("user<name>", "pass=w0rd\"\\"), WordDTO.newInstance("àèìòù"),
+        RankingCursorDTO.newInstance(null, true, 50), RankingCursorDTO.newInstance("c", false, 1),
+        new PlayerDTO[] {PlayerDTO.newInstance("first", 10), PlayerDTO.newInstance("second", -1)},
+        clues, stats,
+        GameStateDTO.newInstance(clues, SecretWordDTO.newInstance(7, "abcdefghij", "x"), stats),
+        GameStateDTO.newInstance(null, null, null),
+        SharedGameResultDTO.newInstance("username", 3, new String[] {"++??XX++??", "++++++++++"}),
+        null};
+
+    for (Object value : values)
+      assertEquals(new Gson().toJson(value),
+          new String(JsonCodec.toJsonBytes(value), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void fromJsonShouldReadWhatReflectiveGsonWrites() {
+    Map<Integer, Integer> guessDistribution = new HashMap<Integer, Integer>();
+    guessDistribution.put(12, 1);
+    ClueDTO[] clues = {ClueDTO.newInstance("abcdefghij", "++??XX++??")};
+    GameStateDTO gameState = GameStateDTO.newInstance(clues,
+        SecretWordDTO.newInstance(7, "abcdefghij", "x"),
+        StatsDTO.newInstance(10, 50, 2, 4, guessDistribution));
+
+    GameStateDTO readGameState =
+        JsonCodec.fromJson(new Gson().toJson(gameState), GameStateDTO.class);
+
+    assertEquals("++??XX++??", readGameState.getCluesDTO()[0].getWordColors());
+    assertEquals(7, readGameState.getSecretWordDTO().getWordNumber());
+    assertEquals(guessDistribution, readGameState.getStatsDTO().getGuessDistribution());
+
+    SharedGameResultDTO sharedGameResult = JsonCodec.fromJson(
+        new Gson().toJson(SharedGameResultDTO.newInstance("username", 3, new String[] {"+X"})),
+        SharedGameResultDTO.class);
+    assertEquals("username", sharedGameResult.getPlayername());
+    assertArrayEquals(new String[] {"+X"}, sharedGameResult.getWordsColors());
+
+    PlayerDTO[] players = JsonCodec.fromJson("[{\"name\":\"a\",\"score\":3,\"unknown\":[1]}]",
+        PlayerDTO[].class);
+    assertEquals(PlayerDTO.newInstance("a", 3), players[0]);
+
+    assertNull(JsonCodec.fromJson("", WordDTO.class));
+  }
+
+  @Test
+  void fromJsonShouldThrowJsonSyntaxExceptionIfRequiredFieldIsMissing() {
+    assertThrows(JsonSyntaxException.class, () -> {
+      JsonCodec.fromJson("{\"username\":\"username\"}", CredentialsDTO.class);
+    });
+  }
+
+  @Test
+  void fromJsonShouldThrowJsonSyntaxExceptionIfMalformed() {
+    assertThrows(JsonSyntaxException.class, () -> {
+      JsonCodec.fromJson("{\"word\":", WordDTO.class);
+    });
+    assertThrows(JsonSyntaxException.class, () -> {
+      JsonCodec.fromJson("{\"guessDistribution\":{\"x\":1}}", StatsDTO.class);
+    });
+  }
+}
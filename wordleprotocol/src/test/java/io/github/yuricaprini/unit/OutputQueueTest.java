@@ -8,8 +8,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
 
 public class OutputQueueTest {
@@ -39,6 +41,26 @@ public class OutputQueueTest {
         assertFalse(outputQueue.isEmpty());
     }
 
+    @Test
+    void sizeShouldCountTheBytesNotYetDrained() throws IOException {
+        assertEquals(0, outputQueue.size());
+        outputQueue.enqueue(new byte[5000]);
+        outputQueue.enqueue(new byte[100]);
+        assertEquals(5100, outputQueue.size());
+
+        WritableByteChannel channel = Mockito.mock(WritableByteChannel.class);
+        Mockito.when(channel.write(Mockito.any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer buffer = (ByteBuffer) invocation.getArguments()[0];
+            buffer.position(buffer.position() + 1000);
+            return 1000;
+        });
+        outputQueue.drainTo(channel);
+        assertEquals(4100, outputQueue.size());
+
+        outputQueue.clear();
+        assertEquals(0, outputQueue.size());
+    }
+
     @Test
     void drainToShouldThrowExceptionIfChannelNull() {
         assertThrows(NullPointerException.class, () -> {
@@ -102,4 +124,52 @@ public class OutputQueueTest {
         assertTrue(outputQueue.isEmpty());
         assertArrayEquals("This is a test.".getBytes(), outputStream.toByteArray());
     }
+
+    @Test
+    void drainToShouldWriteAllFragmentsWithOneGatheringWrite() throws IOException {
+        byte[] fragment = "fragment ".getBytes();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        WritableByteChannel streamChannel = Channels.newChannel(outputStream);
+        GatheringByteChannel channel = Mockito.mock(GatheringByteChannel.class);
+        Mockito.when(channel.write(Mockito.any(ByteBuffer[].class), Mockito.anyInt(),
+            Mockito.anyInt())).thenAnswer(invocation -> {
+                ByteBuffer[] buffers = (ByteBuffer[]) invocation.getArguments()[0];
+                int offset = (Integer) invocation.getArguments()[1];
+                int length = (Integer) invocation.getArguments()[2];
+                long writtenBytes = 0;
+                for (int i = offset; i < offset + length; i++)
+                    writtenBytes += streamChannel.write(buffers[i]);
+                return writtenBytes;
+            });
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 1000; i++) { // larger than a single chunk
+            outputQueue.enqueue(fragment);
+            expected.write(fragment);
+        }
+        int totalWrittenBytes = outputQueue.drainTo(channel);
+
+        Mockito.verify(channel, Mockito.times(1)).write(Mockito.any(ByteBuffer[].class),
+            Mockito.anyInt(), Mockito.anyInt());
+        assertEquals(expected.size(), totalWrittenBytes);
+        assertArrayEquals(expected.toByteArray(), outputStream.toByteArray());
+        assertTrue(outputQueue.isEmpty());
+    }
+
+    @Test
+    void pooledQueueShouldReleaseChunksOnceDrained() throws IOException {
+        BufferPool pool = Mockito.spy(ProtocolFactoryProvider.newBufferPoolFactory()
+            .createBufferPool(16));
+        OutputQueue pooledQueue = ProtocolFactoryProvider.newOutputQueueFactory()
+            .createOutputQueue(pool);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        pooledQueue.enqueue("This is a longer test.".getBytes());
+        pooledQueue.drainTo(Channels.newChannel(outputStream));
+
+        Mockito.verify(pool, Mockito.times(2)).acquire();
+        Mockito.verify(pool, Mockito.times(2)).release(Mockito.any(ByteBuffer.class));
+        assertTrue(pooledQueue.isEmpty());
+        assertArrayEquals("This is a longer test.".getBytes(), outputStream.toByteArray());
+    }
 }
@@ -0,0 +1,27 @@
+package io.github.yuricaprini.unit;
+
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankingCursorDTOTest {
+
+  @Test
+  public void shouldAllowNullCursor() {
+    RankingCursorDTO rankingCursorDTO = RankingCursorDTO.newInstance(null, true, 10);
+
+    assertNull(rankingCursorDTO.getCursor());
+  }
+
+  @Test
+  public void shouldBeOk() {
+    String cursor = "AAAAZEpvaG4";
+    int pageSize = 20;
+
+    RankingCursorDTO rankingCursorDTO = RankingCursorDTO.newInstance(cursor, true, pageSize);
+
+    assertEquals(cursor, rankingCursorDTO.getCursor());
+    assertTrue(rankingCursorDTO.isDescending());
+    assertEquals(pageSize, rankingCursorDTO.getPageSize());
+  }
+}
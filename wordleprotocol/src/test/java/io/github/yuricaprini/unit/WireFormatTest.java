@@ -0,0 +1,227 @@
+package io.github.yuricaprini.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.SecretWordDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+import io.github.yuricaprini.wordleprotocol.exceptions.BadRequestException;
+import io.github.yuricaprini.wordleprotocol.exceptions.BadResponseException;
+import io.github.yuricaprini.wordleprotocol.exceptions.RequestTooLargeException;
+import io.github.yuricaprini.wordleprotocol.exceptions.ResponseTooLargeException;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
+
+public class WireFormatTest {
+
+  private InputQueue inputQueue;
+  private OutputQueue outputQueue;
+  private WordleRequest.Factory requestFactory;
+  private WordleResponse.Factory responseFactory;
+
+  @BeforeEach
+  public void setUp() {
+    inputQueue = ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(16);
+    outputQueue = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    requestFactory = ProtocolFactoryProvider.newWordleRequestFactory(WireFormat.BINARY);
+    responseFactory = ProtocolFactoryProvider.newWordleResponseFactory(WireFormat.BINARY);
+    AuthToken.init("superSecretKey", 15 * 60 * 1000);
+  }
+
+  @Test
+  void detectFromShouldReturnNullIfNothingQueued() {
+    assertNull(WireFormat.detectFrom(inputQueue));
+  }
+
+  @Test
+  void detectFromShouldDetectHttpFromFirstByteWithoutDequeuing() throws IOException {
+    fill("P".getBytes(StandardCharsets.ISO_8859_1));
+
+    assertEquals(WireFormat.HTTP, WireFormat.detectFrom(inputQueue));
+    assertFalse(inputQueue.isEmpty());
+  }
+
+  @Test
+  void detectFromShouldWaitForWholeBinaryPrefaceAndDequeueIt() throws IOException {
+    byte[] preface = serialize(WireFormat.BINARY::announceTo);
+
+    fill(new byte[] {preface[0], preface[1]});
+    assertNull(WireFormat.detectFrom(inputQueue));
+
+    fill(new byte[] {preface[2], preface[3], 42});
+    assertEquals(WireFormat.BINARY, WireFormat.detectFrom(inputQueue));
+    assertEquals(42, inputQueue.dequeue());
+    assertTrue(inputQueue.isEmpty());
+  }
+
+  @Test
+  void httpShouldNotAnnounceAnything() throws IOException {
+    assertEquals(0, serialize(WireFormat.HTTP::announceTo).length);
+  }
+
+  @Test
+  void binaryRequestsShouldBeTransferredFieldByField()
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    AuthToken token = AuthToken.newIstance("username");
+    WordleRequest[] requests = {
+        requestFactory.createLoginRequest(CredentialsDTO.newInstance("username", "Passw0rd")),
+        requestFactory.createPlayWordleRequest(token),
+        requestFactory.createSendWordRequest(token, WordDTO.newInstance("abcdefghij")),
+        requestFactory.createShowMeStatsRequest(token),
+        requestFactory.createShowMeRankingRequest(token, null),
+        requestFactory.createShowMeRankingRequest(token,
+            RankingCursorDTO.newInstance(null, true, 50)),
+        requestFactory.createShareRequest(token), requestFactory.createLogoutRequest(token)};
+
+    for (WordleRequest request : requests) {
+      WordleRequest emptyRequest = requestFactory.createEmptyRequest();
+      byte[] bytes = serialize(request::serializeTo);
+      for (byte b : bytes) {
+        fill(new byte[] {b});
+        emptyRequest.populateFrom(inputQueue);
+      }
+
+      assertTrue(emptyRequest.isFullyPopulated());
+      assertTrue(emptyRequest.isKeepAlive());
+      assertTrue(inputQueue.isEmpty());
+      assertEquals(request.getType(), emptyRequest.getType());
+      assertEquals(request.getAuthToken(), emptyRequest.getAuthToken());
+      assertEquals(request.getRankingCursorDTO(), emptyRequest.getRankingCursorDTO());
+      if (request.getWordDTO() != null)
+        assertEquals(request.getWordDTO().getWord(), emptyRequest.getWordDTO().getWord());
+      if (request.getCredentialsDTO() != null)
+        assertEquals(request.getCredentialsDTO().getPassword(),
+            emptyRequest.getCredentialsDTO().getPassword());
+    }
+  }
+
+  @Test
+  void binarySendWordShouldBeFarSmallerThanHttp() throws IOException {
+    AuthToken token = AuthToken.newIstance("username");
+    WordDTO word = WordDTO.newInstance("abcdefghij");
+
+    byte[] binary = serialize(requestFactory.createSendWordRequest(token, word)::serializeTo);
+    byte[] http = serialize(ProtocolFactoryProvider.newWordleRequestFactory()
+        .createSendWordRequest(token, word)::serializeTo);
+
+    assertTrue(binary.length < http.length - 100);
+  }
+
+  @Test
+  void binaryResponsesShouldBeTransferredFieldByField()
+      throws IOException, ResponseTooLargeException, BadResponseException {
+
+    ClueDTO[] clues = {ClueDTO.newInstance("abcdefghij", "++??XX++??")};
+    Map<Integer, Integer> guessDistribution = new HashMap<Integer, Integer>();
+    guessDistribution.put(1, 3);
+    guessDistribution.put(12, -1);
+    StatsDTO stats = StatsDTO.newInstance(10, 50, 2, 4, guessDistribution);
+    GameStateDTO gameState = GameStateDTO.newInstance(clues,
+        SecretWordDTO.newInstance(7, "abcdefghij", "àèìòù"), stats);
+    PlayerDTO[] players = {PlayerDTO.newInstance("first", 10), PlayerDTO.newInstance("second", 0)};
+
+    WordleResponse sendWordOK = transfer(responseFactory.createSendWordOK(gameState));
+    assertEquals("++??XX++??", sendWordOK.getGameStateDTO().getCluesDTO()[0].getWordColors());
+    assertEquals(7, sendWordOK.getGameStateDTO().getSecretWordDTO().getWordNumber());
+    assertEquals("àèìòù",
+        sendWordOK.getGameStateDTO().getSecretWordDTO().getTranslatedSecretWord());
+    assertEquals(guessDistribution,
+        sendWordOK.getGameStateDTO().getStatsDTO().getGuessDistribution());
+
+    WordleResponse rankingOK = transfer(responseFactory.createShowMeRankingOK(players, "next"));
+    assertArrayEquals(players, rankingOK.getPlayerDTOs());
+    assertEquals("next", rankingOK.getNextRankingCursor());
+
+    WordleResponse playWordleOK = transfer(responseFactory.createPlayWordleOK(null));
+    assertEquals(WordleResponse.Type.PLAYWORDLE_OK, playWordleOK.getType());
+    assertNull(playWordleOK.getCluesDTO());
+
+    WordleResponse sendWordNO =
+        transfer(responseFactory.createSendWordNO(ErrorCode.INTERNAL_ERROR));
+    assertEquals(WordleResponse.Type.SENDWORD_NO, sendWordNO.getType());
+    assertEquals(ErrorCode.INTERNAL_ERROR, sendWordNO.getErrorCode());
+  }
+
+  @Test
+  void createFromShouldConvertResponsesBetweenWireFormats()
+      throws IOException, ResponseTooLargeException, BadResponseException {
+
+    AuthToken token = AuthToken.newIstance("username");
+    WordleResponse httpResponse =
+        ProtocolFactoryProvider.newWordleResponseFactory().createLoginOK(token);
+    WordleResponse binaryResponse = responseFactory.createFrom(httpResponse);
+
+    assertSame(binaryResponse, responseFactory.createFrom(binaryResponse));
+    assertEquals(token, transfer(binaryResponse).getAuthToken());
+  }
+
+  @Test
+  void populateFromShouldThrowRequestTooLargeExceptionIfFrameExceedsMaxSize() throws IOException {
+    fill(new byte[] {(byte) 0x81, 0x7F}); // varint of 16257
+
+    assertThrows(RequestTooLargeException.class, () -> {
+      requestFactory.createEmptyRequest().populateFrom(inputQueue);
+    });
+  }
+
+  @Test
+  void populateFromShouldThrowBadRequestExceptionIfTrailingBytes() throws IOException {
+    fill(new byte[] {4, (byte) WordleRequest.Type.SHARE.ordinal(), 0, 1, 0}); // empty token, 0
+
+    assertThrows(BadRequestException.class, () -> {
+      requestFactory.createEmptyRequest().populateFrom(inputQueue);
+    });
+  }
+
+  private WordleResponse transfer(WordleResponse response)
+      throws IOException, ResponseTooLargeException, BadResponseException {
+    WordleResponse emptyResponse = responseFactory.createEmptyResponse();
+    for (byte b : serialize(response::serializeTo)) {
+      fill(new byte[] {b});
+      emptyResponse.populateFrom(inputQueue);
+    }
+    assertTrue(emptyResponse.isFullyPopulated());
+    return emptyResponse;
+  }
+
+  private void fill(byte[] bytes) throws IOException {
+    inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(bytes)));
+  }
+
+  private byte[] serialize(Serializer serializer) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    serializer.serializeTo(outputQueue);
+    outputQueue.drainTo(Channels.newChannel(bos));
+    return bos.toByteArray();
+  }
+
+  private interface Serializer {
+    void serializeTo(OutputQueue outputQueue);
+  }
+}
@@ -1,8 +1,10 @@
 package io.github.yuricaprini.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -390,7 +392,7 @@ public class WordleRequestTest {
 
     Charset cs = StandardCharsets.ISO_8859_1;
     String requestBody = "{\"username\":\"username\",\"password\":\"password\"}";
-    byte[] startLine = ("POST /login HTTP/1.1\r\n").getBytes(cs);
+    byte[] startLine = ("POST /login HTTP/2.0\r\n").getBytes(cs);
     byte[] headerLine1 = ("Content-Type: application/json; charset=UTF-8\r\n").getBytes(cs);
     byte[] headerLine2 = ("Content-Length: " + requestBody.getBytes().length + "\r\n").getBytes(cs);
     byte[] emptyLine = "\r\n".getBytes(cs);
@@ -654,6 +656,79 @@ public class WordleRequestTest {
     assertNull(emptyRequest.getWordDTO());
   }
 
+  @Test
+  void http10ConnectionShouldBeClosedUnlessKeptAlive()
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    assertFalse(populateLogin("POST /login HTTP/1.0\r\n", "").isKeepAlive());
+    assertTrue(populateLogin("POST /login HTTP/1.0\r\n", "Connection: keep-alive\r\n")
+        .isKeepAlive());
+  }
+
+  @Test
+  void http11ConnectionShouldBeKeptAliveUnlessClosed()
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    assertTrue(populateLogin("POST /login HTTP/1.1\r\n", "").isKeepAlive());
+    assertFalse(populateLogin("POST /login HTTP/1.1\r\n", "Connection: close\r\n")
+        .isKeepAlive());
+  }
+
+  @Test
+  void populateShouldLeaveFollowingRequestInQueue()
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    requestFactory.createLoginRequest(CredentialsDTO.newInstance("username", "password"))
+        .serializeTo(outputQueue);
+    requestFactory.createPlayWordleRequest(AuthToken.wrap("token")).serializeTo(outputQueue);
+    outputQueue.drainTo(Channels.newChannel(bos));
+    inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(bos.toByteArray())));
+
+    WordleRequest firstRequest = requestFactory.createEmptyRequest();
+    WordleRequest secondRequest = requestFactory.createEmptyRequest();
+
+    assert (firstRequest.populateFrom(inputQueue));
+    assert (secondRequest.populateFrom(inputQueue));
+    assert (inputQueue.isEmpty());
+    assertEquals(Type.LOGIN, firstRequest.getType());
+    assertEquals("username", firstRequest.getCredentialsDTO().getUsername());
+    assertEquals(Type.PLAY_WORDLE, secondRequest.getType());
+    assertEquals("token", secondRequest.getAuthToken().toString());
+  }
+
+  @Test
+  void requestShouldBeSerializedAsHttp11AndKeepConnectionAlive()
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    WordleRequest request = requestFactory.createShowMeStatsRequest(AuthToken.wrap("token"));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    request.serializeTo(outputQueue);
+    outputQueue.drainTo(Channels.newChannel(bos));
+    inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(bos.toByteArray())));
+    WordleRequest emptyRequest = requestFactory.createEmptyRequest();
+
+    assert (new String(bos.toByteArray(), StandardCharsets.ISO_8859_1)
+        .startsWith("GET /showmestats HTTP/1.1\r\n"));
+    assert (emptyRequest.populateFrom(inputQueue));
+    assert (emptyRequest.isKeepAlive());
+  }
+
+  @Test
+  void requestWithConnectionCloseShouldNotKeepConnectionAlive()
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    String startline = "GET /showmestats HTTP/1.1\r\n";
+    String headers = "Authorization: Bearer token\r\nConnection: close\r\n";
+
+    inputQueue.fillFrom(createMockChannel(startline, headers, null));
+    WordleRequest emptyRequest = requestFactory.createEmptyRequest();
+
+    assert (emptyRequest.populateFrom(inputQueue));
+    assertEquals(Type.SHOWME_STATS, emptyRequest.getType());
+    assert (!emptyRequest.isKeepAlive());
+  }
+
   @Test
   void playWordleWithoutHeadersIsWrong() throws IOException {
     inputQueue.fillFrom(createMockChannel("POST /playwordle HTTP/1.0\r\n", null, null));
@@ -853,6 +928,19 @@ public class WordleRequestTest {
     return readableChannel;
   }
 
+  private WordleRequest populateLogin(String startline, String connectionHeader)
+      throws IOException, RequestTooLargeException, BadRequestException {
+
+    String body = new Gson().toJson(CredentialsDTO.newInstance("username", "password"));
+    String ctypeH = "Content-Type: application/json; charset=UTF-8\r\n";
+    String clenH = "Content-Length: " + body.getBytes(StandardCharsets.UTF_8).length + "\r\n";
+
+    inputQueue.fillFrom(createMockChannel(startline, connectionHeader + ctypeH + clenH, body));
+    WordleRequest request = requestFactory.createEmptyRequest();
+    assertTrue(request.populateFrom(inputQueue));
+    return request;
+  }
+
   private void fillFromTo(WordleRequest sourceRequest, WordleRequest targetRequest)
       throws IOException, RequestTooLargeException, BadRequestException {
     ByteArrayOutputStream bos = new ByteArrayOutputStream();
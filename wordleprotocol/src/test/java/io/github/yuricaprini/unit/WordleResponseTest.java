@@ -1,8 +1,11 @@
 package io.github.yuricaprini.unit;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -21,6 +24,7 @@ import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
 import io.github.yuricaprini.wordleprotocol.exceptions.BadResponseException;
 import io.github.yuricaprini.wordleprotocol.exceptions.ResponseFullyPopulatedException;
 import io.github.yuricaprini.wordleprotocol.exceptions.ResponseTooLargeException;
+import io.github.yuricaprini.wordleprotocol.implementations.WordleHttpResponse;
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
@@ -471,7 +475,7 @@ public class WordleResponseTest {
 
     Charset cs = StandardCharsets.ISO_8859_1;
     String responseBody = new Gson().toJson(AuthToken.newIstance("username"), AuthToken.class);
-    byte[] startLine = ("HTTP/1.1 200 OK\r\n").getBytes(cs);
+    byte[] startLine = ("HTTP/2.0 200 OK\r\n").getBytes(cs);
     byte[] hLine1 = ("Content-Type: application/json; charset=UTF-8\r\n").getBytes(cs);
     byte[] hLine2 = ("Content-Length: " + responseBody.getBytes().length + "\r\n").getBytes(cs);
     byte[] hLine3 = ("Response-Type: LOGIN_OK\r\n").getBytes(cs);
@@ -1390,6 +1394,70 @@ public class WordleResponseTest {
     return splitArrays;
   }
 
+  @Test
+  void errorResponsesShouldBeSerializedAsIfEncodedEachTime()
+      throws IOException, ResponseTooLargeException, BadResponseException {
+
+    for (ErrorCode errorCode : ErrorCode.values()) {
+      WordleResponse[] responses = {responseFactory.createLoginNO(errorCode),
+          responseFactory.createPlayWordleNO(errorCode),
+          responseFactory.createSendWordNO(errorCode),
+          responseFactory.createShowMeStatsNO(errorCode),
+          responseFactory.createShowMeRankingNO(errorCode),
+          responseFactory.createShareNO(errorCode)};
+
+      for (WordleResponse response : responses) {
+        WordleResponse encodedEachTime = new WordleHttpResponse.Builder()
+            .withType(response.getType()).withErrorCode(errorCode).withFullyPopulated(true).build();
+        assertArrayEquals(serialize(encodedEachTime), serialize(response));
+        assertArrayEquals(serialize(encodedEachTime), serialize(response));
+
+        WordleResponse emptyResponse = responseFactory.createEmptyResponse();
+        fillFromTo(response, emptyResponse);
+        assertEquals(response.getType(), emptyResponse.getType());
+        assertEquals(errorCode, emptyResponse.getErrorCode());
+      }
+    }
+  }
+
+  @Test
+  void bodilessResponsesShouldBeSerializedAsIfEncodedEachTime() throws IOException {
+
+    WordleResponse[] responses = {responseFactory.createTooLargeRequest(),
+        responseFactory.createBadRequest(), responseFactory.createShareOK()};
+
+    for (WordleResponse response : responses) {
+      WordleResponse encodedEachTime = new WordleHttpResponse.Builder()
+          .withType(response.getType()).withFullyPopulated(true).build();
+      assertArrayEquals(serialize(encodedEachTime), serialize(response));
+      assertArrayEquals(serialize(encodedEachTime), serialize(response));
+    }
+  }
+
+  @Test
+  void lastResponseShouldAnnounceTheConnectionClosing()
+      throws IOException, ResponseTooLargeException, BadResponseException {
+
+    WordleResponse[] responses = {responseFactory.createLoginNO(ErrorCode.INVALID_CREDENTIALS),
+        responseFactory.createShareOK(), responseFactory.createLoginOK(AuthToken.wrap("token"))};
+
+    for (WordleResponse response : responses) {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      response.serializeTo(outputQueue, true);
+      outputQueue.drainTo(Channels.newChannel(bos));
+      String closing = new String(bos.toByteArray(), StandardCharsets.ISO_8859_1);
+      assertTrue(closing.contains("\r\nConnection:close\r\n"));
+      assertFalse(new String(serialize(response), StandardCharsets.ISO_8859_1)
+          .contains("Connection"));
+
+      inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(bos.toByteArray())));
+      WordleResponse emptyResponse = responseFactory.createEmptyResponse();
+      assertTrue(emptyResponse.populateFrom(inputQueue));
+      assertEquals(response.getType(), emptyResponse.getType());
+      assertEquals(response.getErrorCode(), emptyResponse.getErrorCode());
+    }
+  }
+
   private static ReadableByteChannel createMockChannel(String startline, String headers,
       String body) throws IOException {
 
@@ -1427,4 +1495,11 @@ public class WordleResponseTest {
       targetResponse.populateFrom(inputQueue);
     }
   }
+
+  private byte[] serialize(WordleResponse response) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    response.serializeTo(outputQueue);
+    outputQueue.drainTo(Channels.newChannel(bos));
+    return bos.toByteArray();
+  }
 }
@@ -25,12 +25,24 @@ public class Clue {
    */
   public static char GREY = 'X';
 
+  // colors are encoded in 2 bits per position: 0 for grey, 1 for yellow and 2 for green
+  private static final int YELLOW_CODE = 1;
+  private static final int GREEN_CODE = 2;
+  private static final int CODE_MASK = 3;
+  private static final int ALL_GREEN = allGreenColors();
+
   private Word word;
+  private int colors;
   private String wordColors;
   private boolean allGreen;
 
   /**
    * Creates a new instance of {@code Clue} based on the attempted word and a secret word.
+   * <p>
+   * A letter of the attempted word is green if it is in the same position in the secret word. It
+   * is yellow if it occurs elsewhere in the secret word, as long as the occurrences of that letter
+   * in the secret word are not all already accounted for by greens or by yellows in previous
+   * positions. It is grey otherwise.
    *
    * @param attemptedWord the user guess.
    * @param secretWord the secret word to compare the attempted word against.
@@ -39,26 +51,108 @@ public class Clue {
   public Clue(Word attemptedWord, Word secretWord) {
 
     String strAttemptedWord = Objects.requireNonNull(attemptedWord).getValue();
-    String strSecretWord = Objects.requireNonNull(secretWord).getValue();
-    StringBuilder builder = new StringBuilder();
+    Word.LetterIndex secretIndex = Objects.requireNonNull(secretWord).getLetterIndex();
+
+    colors = secretIndex.lettersOnly ? colorsByLetterIndex(strAttemptedWord, secretIndex)
+        : colorsByScan(strAttemptedWord, secretIndex.value);
+    allGreen = (colors == ALL_GREEN);
+
+    word = attemptedWord;
+  }
+
+  /**
+   * Private helper method to compute the colors of the attempted word, encoded in 2 bits per
+   * position, by means of the letter index of a secret word made only of letters from {@code 'a'}
+   * to {@code 'z'}. No object is allocated.
+   */
+  private static int colorsByLetterIndex(String attemptedWord, Word.LetterIndex secretIndex) {
+
+    long lowCounts = secretIndex.lowCounts;
+    long highCounts = secretIndex.highCounts;
+    int colors = 0;
+
+    for (int i = 0; i < SecretWord.FIXED_LEN; i++) { // greens consume their letters first
+      char attemptedChar = attemptedWord.charAt(i);
+      if (attemptedChar == secretIndex.value.charAt(i)) {
+        colors |= GREEN_CODE << (i << 1);
+        int letter = attemptedChar - 'a';
+        if (Word.LetterIndex.isLow(letter))
+          lowCounts -= 1L << Word.LetterIndex.countShift(letter);
+        else
+          highCounts -= 1L << Word.LetterIndex.countShift(letter);
+      }
+    }
 
-    int greens = 0;
     for (int i = 0; i < SecretWord.FIXED_LEN; i++) {
-      char attemptedChar = strAttemptedWord.charAt(i);
-      char secretChar = strSecretWord.charAt(i);
-
-      if (attemptedChar == secretChar) {
-        builder.append(GREEN);
-        greens++;
-      } else {
-        builder.append(strSecretWord.contains(String.valueOf(attemptedChar)) ? YELLOW : GREY);
+      if (codeAt(colors, i) == GREEN_CODE)
+        continue;
+
+      int letter = attemptedWord.charAt(i) - 'a';
+      if (letter < 0 || letter >= Word.LetterIndex.LETTERS
+          || (secretIndex.mask & (1 << letter)) == 0)
+        continue; // grey
+
+      int shift = Word.LetterIndex.countShift(letter);
+      if (Word.LetterIndex.isLow(letter)) {
+        if (((lowCounts >>> shift) & 0xF) != 0) {
+          colors |= YELLOW_CODE << (i << 1);
+          lowCounts -= 1L << shift;
+        }
+      } else if (((highCounts >>> shift) & 0xF) != 0) {
+        colors |= YELLOW_CODE << (i << 1);
+        highCounts -= 1L << shift;
       }
     }
 
-    allGreen = (greens == SecretWord.FIXED_LEN);
+    return colors;
+  }
 
-    word = attemptedWord;
-    wordColors = builder.toString();
+  /**
+   * Private helper method to compute the colors of the attempted word, encoded in 2 bits per
+   * position, by scanning any secret word. No object is allocated.
+   */
+  private static int colorsByScan(String attemptedWord, String secretWord) {
+
+    int colors = 0;
+    for (int i = 0; i < SecretWord.FIXED_LEN; i++)
+      if (attemptedWord.charAt(i) == secretWord.charAt(i))
+        colors |= GREEN_CODE << (i << 1);
+
+    for (int i = 0; i < SecretWord.FIXED_LEN; i++) {
+      if (codeAt(colors, i) == GREEN_CODE)
+        continue;
+
+      char attemptedChar = attemptedWord.charAt(i);
+      int available = 0; // occurrences not matched by greens, minus previous yellows
+      for (int j = 0; j < SecretWord.FIXED_LEN; j++) {
+        if (codeAt(colors, j) != GREEN_CODE && secretWord.charAt(j) == attemptedChar)
+          available++;
+        if (j < i && codeAt(colors, j) == YELLOW_CODE && attemptedWord.charAt(j) == attemptedChar)
+          available--;
+      }
+
+      if (available > 0)
+        colors |= YELLOW_CODE << (i << 1);
+    }
+
+    return colors;
+  }
+
+  /**
+   * Private helper method to get the 2-bit color code of the specified position.
+   */
+  private static int codeAt(int colors, int position) {
+    return (colors >>> (position << 1)) & CODE_MASK;
+  }
+
+  /**
+   * Private helper method to compute the encoded colors of a word made only of greens.
+   */
+  private static int allGreenColors() {
+    int colors = 0;
+    for (int i = 0; i < SecretWord.FIXED_LEN; i++)
+      colors |= GREEN_CODE << (i << 1);
+    return colors;
   }
 
   /**
@@ -86,6 +180,16 @@ public class Clue {
   * @return A string of color symbols representing correctness of letters.
   */
   public String getWordColors() {
-    return wordColors;
+    String symbols = wordColors;
+    if (symbols == null) { // built on first use only
+      char[] chars = new char[SecretWord.FIXED_LEN];
+      for (int i = 0; i < chars.length; i++) {
+        int code = codeAt(colors, i);
+        chars[i] = code == GREEN_CODE ? GREEN : code == YELLOW_CODE ? YELLOW : GREY;
+      }
+      symbols = new String(chars);
+      wordColors = symbols;
+    }
+    return symbols;
   }
 }
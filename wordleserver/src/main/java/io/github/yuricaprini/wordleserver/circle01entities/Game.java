@@ -20,6 +20,7 @@ public class Game {
   private SecretWord secretWord;
   private ArrayList<Clue> clues;
   private boolean isStarted;
+  private transient History history;
 
   /**
    * Creates a new instance of {@code Game} with the specified secret word.
@@ -33,6 +34,30 @@ public class Game {
     this.isStarted = false;
   }
 
+  /**
+   * Restores a {@code Game} with the specified secret word, clues and started flag.
+   *
+   * @param secretWord the secret word of the restored game.
+   * @param clues the clues already provided in the restored game.
+   * @param isStarted whether the restored game has been started.
+   * @return the restored game.
+   * @throws NullPointerException if {@code secretWord == null || clues == null} or if any of the
+   *         {@code clues} is {@code null}.
+   * @throws IllegalArgumentException if {@code clues.length > }{@value #MAX_ATTEMPTS}.
+   */
+  public static Game restore(SecretWord secretWord, Clue[] clues, boolean isStarted) {
+
+    if (Objects.requireNonNull(clues).length > MAX_ATTEMPTS)
+      throw new IllegalArgumentException();
+
+    Game restored = new Game(secretWord);
+    for (Clue clue : clues)
+      restored.clues.add(Objects.requireNonNull(clue));
+    restored.isStarted = isStarted;
+
+    return restored;
+  }
+
   /**
    * Adds a clue to the game state if the game is still in progress.
    *
@@ -42,7 +67,13 @@ public class Game {
    * @throws NullPointerException if {@code clue == null}
    */
   public boolean addClue(Clue clue) {
-    return !isOver() && clues.add(Objects.requireNonNull(clue));
+    if (isOver())
+      return false;
+
+    History previous = getHistory();
+    clues.add(Objects.requireNonNull(clue));
+    history = new History(clue, previous);
+    return true;
   }
 
   /**
@@ -120,6 +151,23 @@ public class Game {
     return clues.toArray(cluesArray);
   }
 
+  /**
+   * Gets an immutable view of the clues provided during the game, as they are now. The view is
+   * not affected by clues added later, and building it copies nothing.
+   *
+   * @return an immutable view of the clues provided so far.
+   */
+  public History getHistory() {
+    History current = history;
+    if (current == null || current.size != clues.size()) { // restored without a history
+      current = History.EMPTY;
+      for (Clue clue : clues)
+        current = new History(clue, current);
+      history = current;
+    }
+    return current;
+  }
+
   /**
   * Marks the game as started.
   */
@@ -135,4 +183,52 @@ public class Game {
   public boolean isStarted() {
     return isStarted;
   }
+
+  /**
+   * A {@code History} is an immutable view of the clues provided during a game up to a certain
+   * attempt. Histories are chained: the history after an attempt refers to the clue of that
+   * attempt and to the history before it, so that recording an attempt costs one small object and
+   * histories previously handed out stay valid.
+   */
+  public static final class History {
+
+    private static final History EMPTY = new History(null, null);
+
+    private final Clue last;
+    private final History previous;
+    private final int size;
+
+    private History(Clue last, History previous) {
+      this.last = last;
+      this.previous = previous;
+      this.size = previous == null ? 0 : previous.size + 1;
+    }
+
+    /**
+     * Gets the number of clues in this history.
+     *
+     * @return the number of clues in this history.
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Gets the most recent clue of this history.
+     *
+     * @return the most recent clue, or {@code null} if this history is empty.
+     */
+    public Clue getLast() {
+      return last;
+    }
+
+    /**
+     * Gets the history before the most recent clue of this history.
+     *
+     * @return the history before the most recent clue, or {@code null} if this history is empty.
+     */
+    public History getPrevious() {
+      return previous;
+    }
+  }
 }
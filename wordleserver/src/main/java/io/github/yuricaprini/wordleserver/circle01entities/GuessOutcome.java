@@ -0,0 +1,73 @@
+package io.github.yuricaprini.wordleserver.circle01entities;
+
+/**
+ * A {@code GuessOutcome} is the outcome of an attempt to guess the secret word: the clue of the
+ * attempt and the history of the game including it, plus the secret word and the updated stats of
+ * the user if the attempt ended the game.
+ * 
+ * @author Yuri Caprini
+ */
+public class GuessOutcome {
+
+  private final Game.History history;
+  private final SecretWord secretWord;
+  private final Stats stats;
+
+  /**
+   * Creates a new instance of {@code GuessOutcome}.
+   *
+   * @param history the history of the game, whose last clue is the one of the attempt.
+   * @param secretWord the secret word if the game is over, {@code null} otherwise.
+   * @param stats the updated stats of the user if the game is over, {@code null} otherwise.
+   */
+  GuessOutcome(Game.History history, SecretWord secretWord, Stats stats) {
+    this.history = history;
+    this.secretWord = secretWord;
+    this.stats = stats;
+  }
+
+  /**
+   * Gets the clue of the attempt.
+   *
+   * @return the clue of the attempt.
+   */
+  public Clue getClue() {
+    return history.getLast();
+  }
+
+  /**
+   * Gets the history of the game, whose last clue is the one of the attempt.
+   *
+   * @return the history of the game.
+   */
+  public Game.History getHistory() {
+    return history;
+  }
+
+  /**
+   * Checks whether the attempt ended the game.
+   *
+   * @return {@code true} if the game is over, {@code false} otherwise.
+   */
+  public boolean isGameOver() {
+    return stats != null;
+  }
+
+  /**
+   * Gets the secret word, revealed when the game is over.
+   *
+   * @return the secret word if the game is over, {@code null} otherwise.
+   */
+  public SecretWord getSecretWord() {
+    return secretWord;
+  }
+
+  /**
+   * Gets the updated stats of the user, when the game is over.
+   *
+   * @return the updated stats if the game is over, {@code null} otherwise.
+   */
+  public Stats getStats() {
+    return stats;
+  }
+}
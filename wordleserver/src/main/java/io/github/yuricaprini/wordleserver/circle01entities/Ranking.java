@@ -1,24 +1,58 @@
 package io.github.yuricaprini.wordleserver.circle01entities;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-import java.util.Map.Entry;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import org.javatuples.Pair;
 
 /**
  * The {@code Ranking} class represents the Wordle player ranking.
- * 
+ * <p>
+ * Players are kept in a concurrent skip list ordered by score and, among players with the same
+ * score, by username: additions and updates touch {@code O(log n)} nodes and never lock the whole
+ * ranking, while reads traverse it without locking. The number of players having each score is
+ * kept in a concurrent Fenwick tree, so that the rank of a player can be computed in
+ * {@code O(log s)} steps, where {@code s} is the highest representable score.
+ * <p>
+ * The first {@value #TOP_SIZE} players are published as an immutable, versioned {@link Top}
+ * snapshot, which is rebuilt only when a player crosses the top threshold and can be read without
+ * locking. Whoever publishes a snapshot, a change of its players is reported only once, by
+ * {@link #takeTopToNotify()}.
+ * <p>
+ * The ranking can be browsed in both directions by {@link Page pages}: each page carries an opaque
+ * cursor encoding the position of its last player, from which the next page is retrieved by
+ * seeking the skip list in {@code O(log n)} steps, regardless of how many players share a score.
+ * <p>
+ * This class implements the singleton pattern and is thread-safe.
+ *
  * @author Yuri Caprini
  */
 public class Ranking {
 
+  /**
+   * The number of players in the top of the ranking.
+   */
+  public static final int TOP_SIZE = 3;
+
   private volatile static Ranking instance;
-  private TreeMap<Score, ArrayList<Username>> rankingMap;
+  private ConcurrentSkipListSet<Entry> rankingSet;
+  private ScoreCounter scoreCounter;
+  private AtomicReference<Top> top;
+  private AtomicReference<Top> notifiedTop;
 
   private Ranking() {
-    rankingMap = new TreeMap<Score, ArrayList<Username>>();
+    rankingSet = new ConcurrentSkipListSet<Entry>();
+    scoreCounter = new ScoreCounter();
+    top = new AtomicReference<Top>(new Top(0, new ArrayList<Pair<Username, Score>>()));
+    notifiedTop = new AtomicReference<Top>(top.get());
   }
 
   /**
@@ -42,133 +76,322 @@ public class Ranking {
    * @param username the name of the player.
    * @param score the player score.
    */
-  public synchronized void add(Username username, Score score) {
+  public void add(Username username, Score score) {
     put(username, score);
+
+    if (isInTop(new Entry(score, username)))
+      publishTop();
   }
 
   /**
-   * Updates the score for a given player in the ranking and returns the new top 3 rankings if 
-   * they have changed.
+   * Updates the score for a given player in the ranking and returns the new top of the ranking
+   * if it has changed.
    *
    * @param username the name of the player whose score has to be updated.
    * @param oldScore the old score associated with the player.
    * @param newScore the new score to update for the player.
-   * @return the new top 3 rankings if they have changed, {@code null} otherwise.
+   * @return the new top of the ranking if it has changed, {@code null} otherwise.
    */
-  public synchronized ArrayList<Pair<Username, Score>> update(Username username, Score oldScore,
-      Score newScore) {
+  public Top update(Username username, Score oldScore, Score newScore) {
 
-    ArrayList<Pair<Username, Score>> oldTop3 = getTop3();
+    // the top can only change if the player was in it or has entered it
+    boolean wasInTop = isInTop(new Entry(oldScore, username));
     remove(username, oldScore);
     put(username, newScore);
-    ArrayList<Pair<Username, Score>> currentTop3 = getTop3();
-    if (!currentTop3.equals(oldTop3))
-      return currentTop3;
+
+    if (wasInTop || isInTop(new Entry(newScore, username)))
+      return publishTop();
 
     return null;
   }
 
   /**
-   * Retrieves the first {@code limit} entries of the ranking from the bottom up.
+   * Gets the last published snapshot of the top of the ranking, without locking.
+   *
+   * @return the last published snapshot of the top of the ranking.
+   */
+  public Top getTop() {
+    return top.get();
+  }
+
+  /**
+   * Takes the last published snapshot of the top of the ranking as notified, if its players differ
+   * from the ones of the snapshot taken last. Snapshots published by any change of the ranking are
+   * considered, so that a change of the players is reported exactly once even when a newer snapshot
+   * has been published meanwhile by someone who does not notify.
+   *
+   * @return the last published snapshot of the top of the ranking if its players have to be
+   *         notified, {@code null} if they have already been.
+   */
+  public Top takeTopToNotify() {
+    Top last, current;
+    do {
+      last = notifiedTop.get();
+      current = top.get();
+      if (current.version <= last.version)
+        return null;
+    } while (!notifiedTop.compareAndSet(last, current));
+
+    return current.players.equals(last.players) ? null : current;
+  }
+
+  /**
+   * Retrieves a page of the ranking starting right after the position encoded by {@code cursor}, or
+   * from the edge of the ranking if {@code cursor == null}. The starting position is found in
+   * {@code O(log n)} steps and it's valid even if the player it refers to has changed score or
+   * left the ranking in the meantime.
    *
+   * @param cursor the cursor returned with the previous page, or {@code null} to get the first
+   *        page.
+   * @param descending {@code true} to browse the ranking from the top down, {@code false} to browse
+   *        it from the bottom up.
    * @param limit the maximum number of entries to retrieve.
-   * @return a list of username-score pairs in the bottom-up ranking order.
+   * @return the requested page of the ranking.
+   * @throws IllegalArgumentException if {@code cursor} is not a valid ranking cursor or
+   *         {@code limit < 1}.
    */
-  public synchronized ArrayList<Pair<Username, Score>> getBottomUp(int limit) {
-    ArrayList<Pair<Username, Score>> result = new ArrayList<>();
-    int count = 0;
-
-    for (Entry<Score, ArrayList<Username>> entry : rankingMap.entrySet()) {
-      for (Username username : entry.getValue()) {
-        result.add(new Pair<>(username, entry.getKey()));
-        count++;
-        if (count >= limit)
-          return result;
-      }
+  public Page getPage(String cursor, boolean descending, int limit) {
+
+    if (limit < 1)
+      throw new IllegalArgumentException();
+
+    Iterator<Entry> iterator;
+    if (cursor == null)
+      iterator = descending ? rankingSet.descendingIterator() : rankingSet.iterator();
+    else {
+      Entry start = decodeCursor(cursor);
+      iterator = descending ? rankingSet.headSet(start, false).descendingIterator()
+          : rankingSet.tailSet(start, false).iterator();
     }
 
-    return result;
+    ArrayList<Pair<Username, Score>> players = collect(iterator, limit);
+
+    // a cursor is returned only if the page is full and other entries follow it
+    String nextCursor = null;
+    if (players.size() == limit && iterator.hasNext()) {
+      Pair<Username, Score> last = players.get(limit - 1);
+      nextCursor = encodeCursor(new Entry(last.getValue1(), last.getValue0()));
+    }
+
+    return new Page(players, nextCursor);
   }
 
   /**
-   * Retrieves the bottom-up ranking starting from a specific username and score, up to the 
-   * specified limit.
+   * Gets the rank of a player having the specified score, that is one more than the number of
+   * players having a strictly higher score. Players with the same score share the same rank.
    *
-   * @param startingUsername the username to start the ranking from.
-   * @param startingScore the score associated with the starting username.
-   * @param limit the maximum number of entries to retrieve.
-   * @return a list of username-score pairs in the bottom-up ranking order.
+   * @param score the score of the player.
+   * @return the rank of a player having the specified score.
    */
-  public synchronized ArrayList<Pair<Username, Score>> getBottomUp(Username startingUsername,
-      Score startingScore, int limit) {
-
-    NavigableMap<Score, ArrayList<Username>> tailMap = rankingMap.tailMap(startingScore, true);
-    ArrayList<Pair<Username, Score>> result = new ArrayList<>();
-    int count = 0;
-    boolean foundStartingUsername = false;
-    boolean usernameNotInMap = false;
-    for (Map.Entry<Score, ArrayList<Username>> entry : tailMap.entrySet()) {
-      if (!usernameNotInMap) {
-        for (Username username : entry.getValue()) {
-          if (foundStartingUsername) {
-            result.add(new Pair<>(username, entry.getKey()));
-            count++;
-            if (count >= limit)
-              return result;
-
-          } else if (username.equals(startingUsername))
-            foundStartingUsername = true;
-        }
-      }
+  public int getRank(Score score) {
+    return (int) (1 + scoreCounter.countGreaterThan(score.getValue()));
+  }
 
-      if (!foundStartingUsername) {
-        for (Username username : entry.getValue()) {
-          result.add(new Pair<>(username, entry.getKey()));
-          count++;
-          if (count >= limit)
-            return result;
+  private void remove(Username username, Score score) {
+    if (rankingSet.remove(new Entry(score, username)))
+      scoreCounter.add(score.getValue(), -1);
+  }
 
-        }
-        usernameNotInMap = true;
-      }
+  private void put(Username username, Score score) {
+    if (rankingSet.add(new Entry(score, username)))
+      scoreCounter.add(score.getValue(), 1);
+  }
+
+  private boolean isInTop(Entry entry) {
+    Iterator<Entry> iterator = rankingSet.descendingIterator();
+    for (int count = 0; count < TOP_SIZE && iterator.hasNext(); count++)
+      if (iterator.next().compareTo(entry) <= 0)
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Rebuilds the top of the ranking and publishes it with the next version number. If another
+   * snapshot is published in the meantime, the top is rebuilt again, so that the last published
+   * snapshot always reflects the last change.
+   */
+  private Top publishTop() {
+    Top current, next;
+    do {
+      current = top.get();
+      next = new Top(current.version + 1, collect(rankingSet.descendingIterator(), TOP_SIZE));
+    } while (!top.compareAndSet(current, next));
+
+    return next;
+  }
+
+  /**
+   * Encodes the position of an entry as a URL-safe token made of the score followed by the UTF-8
+   * bytes of the username.
+   */
+  private static String encodeCursor(Entry entry) {
+    byte[] username = entry.username.toString().getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + username.length);
+    buffer.putInt(entry.score.getValue()).put(username);
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  private static Entry decodeCursor(String cursor) {
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+      Score score = new Score(buffer.getInt());
+      Username username = new Username(StandardCharsets.UTF_8.decode(buffer).toString());
+
+      return new Entry(score, username);
+    } catch (RuntimeException e) { // malformed token or invalid username
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  private static ArrayList<Pair<Username, Score>> collect(Iterator<Entry> iterator, int limit) {
+    ArrayList<Pair<Username, Score>> result = new ArrayList<Pair<Username, Score>>();
+
+    while (result.size() < limit && iterator.hasNext()) {
+      Entry entry = iterator.next();
+      result.add(new Pair<Username, Score>(entry.username, entry.score));
     }
+
     return result;
   }
 
-  private void remove(Username username, Score score) {
-    ArrayList<Username> usernames = rankingMap.get(score);
-    if (usernames != null) {
-      usernames.remove(username);
-      if (usernames.isEmpty())
-        rankingMap.remove(score);
+  /**
+   * A {@code Top} is an immutable snapshot of the first {@value #TOP_SIZE} players of the ranking,
+   * from the top down. Each published snapshot has a version number higher than the previous one.
+   */
+  public static final class Top {
+
+    private final long version;
+    private final List<Pair<Username, Score>> players;
+
+    private Top(long version, ArrayList<Pair<Username, Score>> players) {
+      this.version = version;
+      this.players = Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Gets the version number of this snapshot.
+     *
+     * @return the version number of this snapshot.
+     */
+    public long getVersion() {
+      return version;
+    }
+
+    /**
+     * Gets the players of this snapshot as an unmodifiable list of username-score pairs, from the
+     * top down.
+     *
+     * @return the players of this snapshot.
+     */
+    public List<Pair<Username, Score>> getPlayers() {
+      return players;
     }
   }
 
-  private void put(Username username, Score score) {
-    rankingMap.compute(score, (key, value) -> {
-      if (value == null)
-        value = new ArrayList<Username>();
+  /**
+   * A {@code Page} is a slice of the ranking, together with the cursor to retrieve the next one.
+   */
+  public static final class Page {
+
+    private final List<Pair<Username, Score>> players;
+    private final String nextCursor;
+
+    private Page(ArrayList<Pair<Username, Score>> players, String nextCursor) {
+      this.players = Collections.unmodifiableList(players);
+      this.nextCursor = nextCursor;
+    }
 
-      value.add(username);
-      return value;
-    });
+    /**
+     * Gets the players of this page as an unmodifiable list of username-score pairs, in the
+     * browsing order.
+     *
+     * @return the players of this page.
+     */
+    public List<Pair<Username, Score>> getPlayers() {
+      return players;
+    }
+
+    /**
+     * Gets the opaque cursor to retrieve the page following this one.
+     *
+     * @return the cursor to retrieve the next page, or {@code null} if this is the last page.
+     */
+    public String getNextCursor() {
+      return nextCursor;
+    }
   }
 
-  private ArrayList<Pair<Username, Score>> getTop3() {
-    ArrayList<Pair<Username, Score>> top3 = new ArrayList<Pair<Username, Score>>();
-    int count = 0;
+  /**
+   * An {@code Entry} is a player position in the ranking, ordered by score and then by username.
+   */
+  private static final class Entry implements Comparable<Entry> {
 
-    for (Map.Entry<Score, ArrayList<Username>> entry : rankingMap.descendingMap().entrySet()) {
-      for (Username username : entry.getValue()) {
-        top3.add(new Pair<Username, Score>(username, entry.getKey()));
-        count++;
-        if (count >= 3)
-          return top3;
-      }
+    private final Score score;
+    private final Username username;
+
+    private Entry(Score score, Username username) {
+      this.score = score;
+      this.username = username;
+    }
+
+    @Override
+    public int compareTo(Entry other) {
+      int result = this.score.compareTo(other.score);
+      if (result != 0)
+        return result;
+
+      return this.username.toString().compareTo(other.username.toString());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Entry && this.compareTo((Entry) obj) == 0;
     }
 
-    return top3;
+    @Override
+    public int hashCode() {
+      return 31 * score.hashCode() + username.hashCode();
+    }
   }
-}
 
+  /**
+   * A {@code ScoreCounter} counts the players having each score using a sparse Fenwick tree whose
+   * nodes are striped counters, created on first use.
+   */
+  private static final class ScoreCounter {
+
+    private static final int MAX_INDEX = 1 << 30;
+
+    private ConcurrentHashMap<Integer, LongAdder> tree;
+    private LongAdder total;
 
+    private ScoreCounter() {
+      this.tree = new ConcurrentHashMap<Integer, LongAdder>();
+      this.total = new LongAdder();
+    }
+
+    private void add(int score, int delta) {
+      for (int i = toIndex(score); i > 0 && i <= MAX_INDEX; i += i & -i) // i < 0 on overflow
+        tree.computeIfAbsent(i, key -> new LongAdder()).add(delta);
+
+      total.add(delta);
+    }
+
+    private long countGreaterThan(int score) {
+      long countNotGreater = 0;
+      for (int i = toIndex(score); i > 0; i -= i & -i) {
+        LongAdder node = tree.get(i);
+        if (node != null)
+          countNotGreater += node.sum();
+      }
+
+      return total.sum() - countNotGreater;
+    }
+
+    private static int toIndex(int score) {
+      return Math.min(Math.max(score, 0), MAX_INDEX - 1) + 1;
+    }
+  }
+}
@@ -52,6 +52,18 @@ public class RegisteredUsers {
       throw new AlreadyRegisteredUserException();
   }
 
+  /**
+   * Removes the specified {@code user} from this set, if present. A different user with the same
+   * username is left in place.
+   *
+   * @param user the user to be removed from this set.
+   * @return {@code true} if {@code user} has been removed.
+   * @throws NullPointerException if {@code user == null}
+   */
+  public boolean remove(User user) {
+    return registeredUsers.remove(user.getUsername(), user);
+  }
+
   /**
    * Gets the user with the specified username.
    * 
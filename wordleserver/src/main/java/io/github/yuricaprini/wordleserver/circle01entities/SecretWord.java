@@ -5,6 +5,11 @@ import io.github.yuricaprini.wordleserver.circle01entities.exceptions.IllegalWor
 
 /**
  * A {@code SecretWord} is the {@code Word} to guess, chosen by Wordle periodically.
+ * <p>
+ * Secret words are immutable. The current one is published as a whole through a volatile
+ * reference, together with its number, its translation, its letter index and its epoch, so that
+ * reading it never locks nor allocates, and a game can tell whether its secret word is still the
+ * current one by identity.
  * 
  * @author Yuri Caprini
  */
@@ -12,22 +17,30 @@ public class SecretWord extends Word {
 
   public static final String DEFAULT_SECRETWORD = "abalienate";
   public static final String DEFAULT_TRANSLATION = "abalienare";
-  private static SecretWord instance;
-  private int number;
-  private String translation;
+  private static volatile SecretWord current =
+      publishable(DEFAULT_SECRETWORD, 0, DEFAULT_TRANSLATION, 1);
+  private final int number;
+  private final String translation;
+  private final transient long epoch;
 
   /**
    * Private constructor for the {@code SecretWord} class.
-   * Initializes the instance with the default secret word and sets the number to 0.
+   *
+   * @param value the value of the secret word.
+   * @param number the number of the secret word.
+   * @param translation the translated secret word.
+   * @param epoch the epoch of the secret word, {@code 0} if it has never been published.
    */
-  private SecretWord() {
-    super(DEFAULT_SECRETWORD);
-    this.number = 0;
-    this.translation = DEFAULT_TRANSLATION;
+  private SecretWord(String value, int number, String translation, long epoch) {
+    super(value);
+    this.number = number;
+    this.translation = translation;
+    this.epoch = epoch;
   }
 
   /**
-   * Sets a new value for the {@code SecretWord}.
+   * Sets a new value for the {@code SecretWord}, publishing it as the current one with the next
+   * number and epoch.
    *
    * @param value the new value to set.
    * @param translation the tranlated secret word.
@@ -35,33 +48,68 @@ public class SecretWord extends Word {
    * @throws IllegalWordLengthException if {@code value.length()== }{@value #FIXED_LEN}.
    */
   public synchronized static void setNew(String value, String translation) {
+    setNew(value, current.number + 1, translation);
+  }
+
+  /**
+   * Sets a new value for the {@code SecretWord}, publishing it as the current one with the
+   * specified number and the next epoch.
+   *
+   * @param value the new value to set.
+   * @param number the number of the new secret word.
+   * @param translation the tranlated secret word.
+   * @throws NullPointerException if {@code value==null}
+   * @throws IllegalWordLengthException if {@code value.length()!= }{@value #FIXED_LEN}.
+   */
+  public synchronized static void setNew(String value, int number, String translation) {
 
     if (Objects.requireNonNull(value).length() != FIXED_LEN)
       throw new IllegalWordLengthException();
 
-    if (instance == null)
-      instance = new SecretWord();
+    current = publishable(value, number, translation, current.epoch + 1);
+  }
 
-    instance.number++;
-    instance.value = value;
-    instance.translation = translation;
+  /**
+   * Gets the current {@code SecretWord}. The same instance is returned until a new value is set.
+   *
+   * @return the current secret word.
+   */
+  public static SecretWord getCurrent() {
+    return current;
   }
 
   /**
-   * Creates a copy of the current {@code SecretWord} instance.
+   * Restores a {@code SecretWord} previously chosen by Wordle, without changing the current one.
    *
-   * @return a new instance of {@code SecretWord} with the same values.
+   * @param value the value of the restored secret word.
+   * @param number the number of the restored secret word.
+   * @param translation the translation of the restored secret word.
+   * @return the restored secret word.
+   * @throws NullPointerException if {@code value==null}
+   * @throws IllegalWordLengthException if {@code value.length()!= }{@value #FIXED_LEN}.
    */
-  public synchronized static SecretWord getCopy() {
-    if (instance == null)
-      instance = new SecretWord();
+  public static SecretWord restore(String value, int number, String translation) {
 
-    SecretWord copy = new SecretWord();
-    copy.number = instance.number;
-    copy.value = instance.value;
-    copy.translation = instance.translation;
+    if (Objects.requireNonNull(value).length() != FIXED_LEN)
+      throw new IllegalWordLengthException();
 
-    return copy;
+    return new SecretWord(value, number, translation, 0);
+  }
+
+  /**
+   * Private helper method to create a secret word ready to be published, whose letter index is
+   * built before any reader can see it.
+   *
+   * @param value the value of the secret word.
+   * @param number the number of the secret word.
+   * @param translation the translated secret word.
+   * @param epoch the epoch of the secret word.
+   * @return the secret word.
+   */
+  private static SecretWord publishable(String value, int number, String translation, long epoch) {
+    SecretWord secretWord = new SecretWord(value, number, translation, epoch);
+    secretWord.getLetterIndex();
+    return secretWord;
   }
 
   /**
@@ -81,4 +129,28 @@ public class SecretWord extends Word {
   public String getTranslation() {
     return translation;
   }
+
+  /**
+   * Tells whether this {@code SecretWord} and the specified one are the same secret word: either
+   * the same publication, or the same value with the same number, as a restored secret word and
+   * its publication after a restart.
+   *
+   * @param other the other secret word.
+   * @return {@code true} if the secret words are the same, {@code false} otherwise.
+   * @throws NullPointerException if {@code other == null}.
+   */
+  public boolean isSameAs(SecretWord other) {
+    return this == Objects.requireNonNull(other) || number == other.number && equals(other);
+  }
+
+  /**
+   * Gets the epoch of this {@code SecretWord}: the position of its publication among all the
+   * secret words published since the server started, or {@code 0} if it has been restored and
+   * never published.
+   *
+   * @return the epoch of this {@code SecretWord}.
+   */
+  public long getEpoch() {
+    return epoch;
+  }
 }
@@ -0,0 +1,160 @@
+package io.github.yuricaprini.wordleserver.circle01entities;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code Sessions} represents the set of the open sessions of the logged in users. Each session is
+ * identified by a random 128-bit session ID and refers directly to its user: resolving a session
+ * ID yields the user without reconstructing its username.
+ * <p>
+ * A session expires when it has not been used for longer than the idle timeout, or when it is
+ * explicitly closed.
+ * <p>
+ * This class implements the singleton pattern and is thread-safe.
+ *
+ * @author Yuri Caprini
+ */
+public class Sessions {
+
+  /** The length in bytes of a session ID. */
+  public static final int ID_LEN = 16;
+  /** The default idle timeout of a session in milliseconds. */
+  public static final long DEFAULT_IDLE_TIMEOUT = 30 * 60 * 1000;
+  private static final int SWEEP_PERIOD = 1024;
+
+  private static volatile Sessions instance;
+  private final ConcurrentHashMap<String, Session> sessions;
+  private final SecureRandom random;
+  private final AtomicInteger openedSinceSweep;
+  private volatile long idleTimeout;
+
+  /**
+  * Returns the single instance of the {@code Sessions} class. If the instance does not exist, it
+  * is created and then returned.
+  *
+  * @return the single instance of the {@code Sessions} class.
+  */
+  public static Sessions getInstance() {
+    if (instance == null) {
+      synchronized (Sessions.class) {
+        if (instance == null)
+          instance = new Sessions();
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Constructs a new empty {@code Sessions} set, with the default idle timeout.
+   */
+  private Sessions() {
+    this.sessions = new ConcurrentHashMap<String, Session>();
+    this.random = new SecureRandom();
+    this.openedSinceSweep = new AtomicInteger();
+    this.idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  }
+
+  /**
+   * Sets the time after which an unused session expires.
+   *
+   * @param idleTimeout the idle timeout in milliseconds.
+   * @throws IllegalArgumentException if {@code idleTimeout < 0}.
+   */
+  public void setIdleTimeout(long idleTimeout) {
+    if (idleTimeout < 0)
+      throw new IllegalArgumentException();
+    this.idleTimeout = idleTimeout;
+  }
+
+  /**
+   * Opens a new session for the specified user.
+   *
+   * @param user the user of the session.
+   * @return the ID of the newly opened session, a URL-safe string without dots.
+   * @throws NullPointerException if {@code user == null}.
+   */
+  public String open(User user) {
+
+    Session session = new Session(Objects.requireNonNull(user), System.currentTimeMillis());
+
+    if (openedSinceSweep.incrementAndGet() >= SWEEP_PERIOD) {
+      openedSinceSweep.set(0);
+      sweep(session.lastAccess);
+    }
+
+    byte[] idBytes = new byte[ID_LEN];
+    String id;
+    do {
+      random.nextBytes(idBytes);
+      id = Base64.getUrlEncoder().withoutPadding().encodeToString(idBytes);
+    } while (sessions.putIfAbsent(id, session) != null);
+
+    return id;
+  }
+
+  /**
+   * Gets the user of the session with the specified ID, marking the session as used.
+   *
+   * @param id the ID of the session.
+   * @return the user of the session, or {@code null} if the session does not exist, has been
+   * closed or has expired.
+   * @throws NullPointerException if {@code id == null}.
+   */
+  public User getBy(String id) {
+
+    Session session = sessions.get(id);
+    if (session == null)
+      return null;
+
+    long now = System.currentTimeMillis();
+    if (now - session.lastAccess > idleTimeout) {
+      sessions.remove(id, session);
+      return null;
+    }
+
+    session.lastAccess = now;
+    return session.user;
+  }
+
+  /**
+   * Closes the session with the specified ID.
+   *
+   * @param id the ID of the session.
+   * @return {@code true} if the session was open, {@code false} otherwise.
+   * @throws NullPointerException if {@code id == null}.
+   */
+  public boolean close(String id) {
+    return getBy(id) != null && sessions.remove(id) != null;
+  }
+
+  /**
+   * Private helper method to remove every expired session.
+   *
+   * @param now the current time in milliseconds.
+   */
+  private void sweep(long now) {
+    Iterator<Session> iterator = sessions.values().iterator();
+    while (iterator.hasNext())
+      if (now - iterator.next().lastAccess > idleTimeout)
+        iterator.remove();
+  }
+
+  /**
+   * A session: the user it refers to and the last time it was used.
+   */
+  private static final class Session {
+
+    private final User user;
+    private volatile long lastAccess;
+
+    private Session(User user, long lastAccess) {
+      this.user = user;
+      this.lastAccess = lastAccess;
+    }
+  }
+}
@@ -1,25 +1,32 @@
 package io.github.yuricaprini.wordleserver.circle01entities;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * The {@code Stats} class represents the statistics of a user performance in Wordle games.
  * <p>
  * This class tracks the total number of games played, games won, current and maximum win streaks, 
  * guess distribution, and calculates the user score based on their performance.
+ * <p>
+ * The guess distribution is kept in a primitive array indexed by number of guesses, and the score
+ * is kept up to date as games are won, so that reading it takes constant time and allocates
+ * nothing.
+ * <p>
+ * Instances are immutable: adding a game returns new stats, so that they can be shared between
+ * threads without being copied.
  * 
  * @author Yuri Caprini
  */
 public class Stats {
 
   private static final int WIN_REWARD = 10;
-  private int totalGames;
-  private int wonGames;
-  private int currentStreak;
-  private int maxStreak;
-  private HashMap<Integer, Integer> guessDistribution;
-  private Score oldscore;
+  private final int totalGames;
+  private final int wonGames;
+  private final int currentStreak;
+  private final int maxStreak;
+  private final int[] guessDistribution;
+  private final Score oldscore;
+  private final Score score;
 
   /**
    * Constructs a new {@code Stats} object with initial values.
@@ -29,45 +36,85 @@ public class Stats {
     wonGames = 0;
     currentStreak = 0;
     maxStreak = 0;
-    guessDistribution = new HashMap<Integer, Integer>();
-
-    for (int i = 1; i <= Game.MAX_ATTEMPTS; i++) {
-      guessDistribution.put(i, 0);
-    }
-
-    oldscore = getScore();
+    guessDistribution = new int[Game.MAX_ATTEMPTS];
+    score = new Score(0);
+    oldscore = score;
   }
 
   private Stats(int totalGames, int wonGames, int currentStreak, int maxStreak,
-      HashMap<Integer, Integer> guessDistribution, Score oldScore) {
+      int[] guessDistribution, Score oldScore, Score score) {
     this.totalGames = totalGames;
     this.wonGames = wonGames;
     this.currentStreak = currentStreak;
     this.maxStreak = maxStreak;
     this.guessDistribution = guessDistribution;
     this.oldscore = oldScore;
+    this.score = score;
   }
 
   /**
-   * Updates the statistics when a game is won.
+   * Restores a {@code Stats} object with the specified values.
+   *
+   * @param totalGames the total number of games played.
+   * @param wonGames the number of games won.
+   * @param currentStreak the current win streak.
+   * @param maxStreak the maximum win streak achieved.
+   * @param guessDistribution the number of games won with {@code i+1} guesses, for each {@code i}.
+   * @param oldScore the score calculated before the last game won.
+   * @return the restored stats.
+   * @throws NullPointerException if {@code guessDistribution == null || oldScore == null}.
+   * @throws IllegalArgumentException if {@code guessDistribution.length != }
+   *         {@value Game#MAX_ATTEMPTS}.
+   */
+  public static Stats restore(int totalGames, int wonGames, int currentStreak, int maxStreak,
+      int[] guessDistribution, Score oldScore) {
+
+    if (Objects.requireNonNull(guessDistribution).length != Game.MAX_ATTEMPTS)
+      throw new IllegalArgumentException();
+
+    int sum = 0;
+    for (int i = 0; i < guessDistribution.length; i++)
+      sum += pointsFor(i + 1) * guessDistribution[i];
+
+    return new Stats(totalGames, wonGames, currentStreak, maxStreak, guessDistribution.clone(),
+        Objects.requireNonNull(oldScore), new Score(sum));
+  }
+
+  /**
+   * Gets the number of games won.
+   *
+   * @return the number of games won.
+   */
+  public int getWon() {
+    return wonGames;
+  }
+
+  /**
+   * Gets the statistics updated with a game won.
    *
    * @param guesses the number of guesses made in the winning game.
+   * @return the updated stats; these stats are left unchanged.
+   * @throws IllegalArgumentException if {@code guesses < 1 || guesses > }
+   *         {@value Game#MAX_ATTEMPTS}.
    */
-  public void addGameWon(int guesses) {
-    totalGames++;
-    wonGames++;
-    currentStreak++;
-    maxStreak = Math.max(maxStreak, currentStreak);
-    oldscore = getScore();
-    guessDistribution.put(guesses, guessDistribution.getOrDefault(guesses, 0) + 1);
+  public Stats withGameWon(int guesses) {
+    if (guesses < 1 || guesses > Game.MAX_ATTEMPTS)
+      throw new IllegalArgumentException();
+
+    int[] newGuessDistribution = guessDistribution.clone();
+    newGuessDistribution[guesses - 1]++;
+    return new Stats(totalGames + 1, wonGames + 1, currentStreak + 1,
+        Math.max(maxStreak, currentStreak + 1), newGuessDistribution, score,
+        new Score(score.getValue() + pointsFor(guesses)));
   }
 
   /**
-   * Updates the statistics when a game is lost.
+   * Gets the statistics updated with a game lost.
+   *
+   * @return the updated stats; these stats are left unchanged.
    */
-  public void addGameLost() {
-    totalGames++;
-    currentStreak = 0;
+  public Stats withGameLost() {
+    return new Stats(totalGames + 1, wonGames, 0, maxStreak, guessDistribution, oldscore, score);
   }
 
   /**
@@ -112,10 +159,24 @@ public class Stats {
   /**
    * Gets the distribution of guesses made in games.
    *
-   * @return a map representing the distribution of guesses.
+   * @return the number of games won with {@code i+1} guesses, for each {@code i}.
+   */
+  public int[] getGuessDistribution() {
+    return guessDistribution.clone();
+  }
+
+  /**
+   * Gets the number of games won with the specified number of guesses.
+   *
+   * @param guesses the number of guesses.
+   * @return the number of games won with {@code guesses} guesses.
+   * @throws IllegalArgumentException if {@code guesses < 1 || guesses > }
+   *         {@value Game#MAX_ATTEMPTS}.
    */
-  public Map<Integer, Integer> getGuessDistribution() {
-    return guessDistribution;
+  public int getGuessCount(int guesses) {
+    if (guesses < 1 || guesses > Game.MAX_ATTEMPTS)
+      throw new IllegalArgumentException();
+    return guessDistribution[guesses - 1];
   }
 
   /**
@@ -133,22 +194,17 @@ public class Stats {
    * @return the actual user score.
    */
   public Score getScore() {
-    int sum = 0;
-
-    for (Map.Entry<Integer, Integer> entry : guessDistribution.entrySet()) {
-      sum += ((Game.MAX_ATTEMPTS - entry.getKey()) + WIN_REWARD) * entry.getValue();
-    }
-
-    return new Score(sum);
+    return score;
   }
 
   /**
-   * Creates a copy of the {@code Stats} object.
+   * Private helper method to get the points a game won with the specified number of guesses is
+   * worth.
    *
-   * @return a copy of the {@code Stats} object.
+   * @param guesses the number of guesses made in the winning game.
+   * @return the points the game is worth.
    */
-  public Stats getCopy() {
-    return new Stats(totalGames, wonGames, currentStreak, maxStreak,
-        new HashMap<Integer, Integer>(guessDistribution), oldscore);
+  private static int pointsFor(int guesses) {
+    return (Game.MAX_ATTEMPTS - guesses) + WIN_REWARD;
   }
 }
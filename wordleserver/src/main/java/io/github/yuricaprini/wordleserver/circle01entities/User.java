@@ -2,7 +2,6 @@ package io.github.yuricaprini.wordleserver.circle01entities;
 
 import java.util.Objects;
 import org.javatuples.Pair;
-import org.javatuples.Triplet;
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.GameAlreadyPlayedException;
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.GameNotStartedException;
 
@@ -29,10 +28,28 @@ public class User {
 
     this.username = Objects.requireNonNull(username);
     this.password = Objects.requireNonNull(password);
-    this.lastGame = new Game(SecretWord.getCopy());
+    this.lastGame = new Game(SecretWord.getCurrent());
     this.stats = new Stats();
   }
 
+  /**
+   * Restores a {@code User} with the specified username, password, last game and stats.
+   *
+   * @param username the username of the restored user.
+   * @param password the password of the restored user.
+   * @param lastGame the last game of the restored user.
+   * @param stats the stats of the restored user.
+   * @return the restored user.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   */
+  public static User restore(Username username, Password password, Game lastGame, Stats stats) {
+    User restored = new User(username, password);
+    restored.lastGame = Objects.requireNonNull(lastGame);
+    restored.stats = Objects.requireNonNull(stats);
+
+    return restored;
+  }
+
   /**
    * Gets this user username.
    * 
@@ -63,8 +80,8 @@ public class User {
   */
   public synchronized Clue[] requestsNewGame() throws GameAlreadyPlayedException {
 
-    SecretWord currentWord = SecretWord.getCopy();
-    if (lastGame.getSecretWord().equals(currentWord))
+    SecretWord currentWord = SecretWord.getCurrent();
+    if (lastGame.getSecretWord().isSameAs(currentWord))
 
       if (!lastGame.isOver()) { // game is in progress or not started for the current word
         lastGame.markAsStarted();
@@ -75,7 +92,7 @@ public class User {
     else {// secret word refreshed
 
       if (!lastGame.isOver()) // game is in progress for the old word is lost
-        stats.addGameLost();
+        stats = stats.withGameLost();
 
       lastGame = new Game(currentWord);
       lastGame.markAsStarted();
@@ -89,12 +106,13 @@ public class User {
   * there are no more attempts (game lost) the stats are updated properly.
   *
   * @param word the user guess.
-  * @return A triplet containing clues, the secret word (if game is over), and user statistics(if * game is over).
+  * @return the outcome of the attempt: its clue and the game history, plus the secret word and a
+  * the user statistics if the game is over. The history and the statistics are shared, not copied.
   * @throws GameAlreadyPlayedException if the user has already played a game for the current secret
   * word.
   * @throws GameNotStartedException if the user attempts to guess before starting a game.
   */
-  public synchronized Triplet<Clue[], SecretWord, Stats> attemptsToGuess(Word word)
+  public synchronized GuessOutcome attemptsToGuess(Word word)
       throws GameAlreadyPlayedException, GameNotStartedException {
 
     if (!lastGame.isStarted())
@@ -106,25 +124,33 @@ public class User {
     lastGame.addClue(new Clue(word, lastGame.getSecretWord()));
 
     if (lastGame.isWon())
-      stats.addGameWon(lastGame.getAttempts());
+      stats = stats.withGameWon(lastGame.getAttempts());
 
     if (lastGame.isLost())
-      stats.addGameLost();
+      stats = stats.withGameLost();
 
     if (lastGame.isOver())
-      return new Triplet<Clue[], SecretWord, Stats>(lastGame.getCluesCopy(),
-          lastGame.getSecretWordCopy(), stats.getCopy());
+      return new GuessOutcome(lastGame.getHistory(), lastGame.getSecretWordCopy(), stats);
 
-    return new Triplet<Clue[], SecretWord, Stats>(lastGame.getCluesCopy(), null, null);
+    return new GuessOutcome(lastGame.getHistory(), null, null);
   }
 
   /**
   * Gets the user's game statistics.
   *
-  * @return A copy of the user's game statistics.
+  * @return the user's game statistics, which are immutable and therefore shared, not copied.
   */
   public synchronized Stats getStats() {
-    return stats.getCopy();
+    return stats;
+  }
+
+  /**
+  * Gets a copy of the user's last game, either in progress or completed.
+  *
+  * @return a copy of the user's last game.
+  */
+  public synchronized Game getLastGameCopy() {
+    return Game.restore(lastGame.getSecretWord(), lastGame.getCluesCopy(), lastGame.isStarted());
   }
 
   /**
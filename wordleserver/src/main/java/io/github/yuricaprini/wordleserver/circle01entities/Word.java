@@ -12,6 +12,7 @@ public class Word {
 
   public static final int FIXED_LEN = 10;
   protected String value;
+  private transient volatile LetterIndex letterIndex;
 
   /**
   * Constructs a new {@code Word} with the specified string value.
@@ -35,6 +36,21 @@ public class Word {
     return value;
   }
 
+  /**
+   * Gets the letter index of this word, building it if the value of this word has changed since
+   * the last time it was built.
+   *
+   * @return the letter index of this word.
+   */
+  LetterIndex getLetterIndex() {
+    LetterIndex index = letterIndex;
+    if (index == null || index.value != value) {
+      index = new LetterIndex(value);
+      letterIndex = index;
+    }
+    return index;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -48,4 +64,62 @@ public class Word {
     Word otherWord = (Word) obj;
     return value.equals(otherWord.value);
   }
+
+  /**
+   * A {@code LetterIndex} is a precomputed representation of the letters of a word: a 26-bit mask
+   * of the letters from {@code 'a'} to {@code 'z'} it contains and the number of occurrences of
+   * each of them, packed in 4 bits per letter (letters {@code 'a'} to {@code 'p'} in
+   * {@code lowCounts}, the others in {@code highCounts}).
+   */
+  static final class LetterIndex {
+
+    static final int LETTERS = 26;
+    private static final int LOW_LETTERS = 16;
+
+    final String value;
+    final int mask;
+    final long lowCounts;
+    final long highCounts;
+    final boolean lettersOnly;
+
+    private LetterIndex(String value) {
+      int mask = 0;
+      long lowCounts = 0;
+      long highCounts = 0;
+      boolean lettersOnly = true;
+
+      for (int i = 0; i < value.length(); i++) {
+        int letter = value.charAt(i) - 'a';
+        if (letter < 0 || letter >= LETTERS) {
+          lettersOnly = false;
+          continue;
+        }
+        mask |= 1 << letter;
+        if (letter < LOW_LETTERS)
+          lowCounts += 1L << (letter << 2);
+        else
+          highCounts += 1L << ((letter - LOW_LETTERS) << 2);
+      }
+
+      this.value = value;
+      this.mask = mask;
+      this.lowCounts = lowCounts;
+      this.highCounts = highCounts;
+      this.lettersOnly = lettersOnly;
+    }
+
+    /**
+     * Returns the shift of the 4-bit count of {@code letter} in its packed counts.
+     */
+    static int countShift(int letter) {
+      return (letter < LOW_LETTERS ? letter : letter - LOW_LETTERS) << 2;
+    }
+
+    /**
+     * Returns {@code true} if the count of {@code letter} is packed in {@code lowCounts}.
+     */
+    static boolean isLow(int letter) {
+      return letter < LOW_LETTERS;
+    }
+  }
 }
@@ -10,4 +10,21 @@ public interface EntityRepository {
 
   Iterator<User> loadAll() throws Exception;
 
+  /**
+   * Records that {@code user} has been changed by {@code mutation}. When this method returns, the
+   * change survives a crash of the server, unless this repository only persists users with
+   * {@link #pushAll(Iterator)}.
+   *
+   * @param mutation the kind of change made to the user.
+   * @param user the changed user.
+   * @throws IOException if an I/O error occurs while recording the change.
+   */
+  void append(Mutation mutation, User user) throws IOException;
+
+  /**
+   * The kinds of change made to a user which are recorded by {@link #append(Mutation, User)}.
+   */
+  enum Mutation {
+    REGISTRATION, GAME_STARTED, CLUE_ADDED, STATS_CHANGED
+  }
 }
@@ -47,11 +47,25 @@ public interface RegisteredUserUseCase {
   public interface Factory {
 
     /**
-     * Creates a new instance of {@code RegisteredUserUseCase} based on the specified request type.
+     * Creates a new instance of {@code RegisteredUserUseCase} based on the specified request type,
+     * which creates its responses with the specified factory.
      * 
      * @param request the type of Wordle request for which the use case is created.
+     * @param responseFactory the factory of the responses, in the wire format of the client.
      * @return a new instance of {@code RegisteredUserUseCase}
      */
-    public RegisteredUserUseCase createUseCase(WordleRequest.Type request);
+    public RegisteredUserUseCase createUseCase(WordleRequest.Type request,
+        WordleResponse.Factory responseFactory);
+
+    /**
+     * Tells whether the use case created for the specified request type may block, for instance
+     * waiting for a mutation to be made durable. By default no use case blocks.
+     *
+     * @param request the type of Wordle request.
+     * @return {@code true} if the use case may block, {@code false} otherwise.
+     */
+    public default boolean mayBlock(WordleRequest.Type request) {
+      return false;
+    }
   }
 }
@@ -8,4 +8,8 @@ public interface SecretWordRepository {
 
   String getRandom() throws IOException;
 
+  int size() throws IOException;
+
+  String get(int index) throws IOException;
+
 }
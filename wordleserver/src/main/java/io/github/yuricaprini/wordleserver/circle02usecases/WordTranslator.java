@@ -2,6 +2,24 @@ package io.github.yuricaprini.wordleserver.circle02usecases;
 
 public interface WordTranslator {
 
+  /**
+   * Translates the specified word.
+   *
+   * @param string the word to translate.
+   * @return the translation of the word, or {@code null} if it is not available.
+   */
   String translate(String string);
 
+  /**
+   * Translates the specified word, waiting at most the specified time for a translation which is
+   * not available right away. By default, the translation is not waited for.
+   *
+   * @param string the word to translate.
+   * @param timeoutMillis the maximum time to wait, in milliseconds.
+   * @return the translation of the word, or {@code null} if it is not available in time.
+   */
+  default String translate(String string, long timeoutMillis) {
+    return translate(string);
+  }
+
 }
@@ -0,0 +1,77 @@
+package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
+
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
+import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
+import io.github.yuricaprini.wordleserver.circle01entities.Sessions;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+
+/**
+ * The {@code Authenticator} class resolves the authentication tokens of the requests to the
+ * users they authenticate. Two kinds of tokens are accepted:
+ * <ul>
+ * <li> session tokens, opaque session IDs issued by {@link Login} in session mode, resolved
+ *      through {@link Sessions} straight to the user;
+ * <li> signed tokens, resolved by validating them and looking up the registered user with the
+ *      username they carry.
+ * </ul>
+ * Session IDs never contain a dot, while signed tokens always do.
+ */
+public class Authenticator {
+
+  private Authenticator() {}
+
+  /**
+   * Returns the user authenticated by the specified token.
+   *
+   * @param authToken the authentication token.
+   * @return the user authenticated by {@code authToken}.
+   * @throws InvalidTokenException if {@code authToken} is {@code null}, invalid or expired, or if
+   * it does not refer to a registered user.
+   */
+  public static User authenticate(AuthToken authToken) throws InvalidTokenException {
+
+    if (authToken == null || authToken.toString() == null)
+      throw new InvalidTokenException();
+
+    User user;
+    if (isSessionToken(authToken))
+      user = Sessions.getInstance().getBy(authToken.toString());
+    else
+      try {
+        user = RegisteredUsers.getInstance().getBy(new Username(authToken.validate()));
+      } catch (RuntimeException e) { // the username carried is not valid
+        throw new InvalidTokenException();
+      }
+
+    if (user == null)
+      throw new InvalidTokenException();
+
+    return user;
+  }
+
+  /**
+   * Ends the validity of the specified token, if it is a session token. Signed tokens cannot be
+   * revoked: they are just checked to be valid and stay so until they expire.
+   *
+   * @param authToken the authentication token.
+   * @throws InvalidTokenException if {@code authToken} is {@code null}, invalid or expired, or if
+   * it does not refer to a registered user.
+   */
+  public static void revoke(AuthToken authToken) throws InvalidTokenException {
+
+    if (authToken != null && authToken.toString() != null && isSessionToken(authToken)) {
+      if (!Sessions.getInstance().close(authToken.toString()))
+        throw new InvalidTokenException();
+    } else
+      authenticate(authToken);
+  }
+
+  /**
+   * Private helper method to check whether the specified token is a session token.
+   */
+  private static boolean isSessionToken(AuthToken authToken) {
+    return authToken.toString().indexOf('.') < 0;
+  }
+}
@@ -1,8 +1,9 @@
 package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.javatuples.Pair;
-import org.javatuples.Triplet;
 import io.github.yuricaprini.wordleprotocol.dtos.ClueDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.GameStateDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
@@ -11,6 +12,8 @@ import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.StatsDTO;
 import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
 import io.github.yuricaprini.wordleserver.circle01entities.Clue;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.GuessOutcome;
 import io.github.yuricaprini.wordleserver.circle01entities.Score;
 import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
 import io.github.yuricaprini.wordleserver.circle01entities.Stats;
@@ -23,11 +26,17 @@ public class EntityDTOMapper {
   public static StatsDTO statsToDTO(Stats stats) {
     if (stats == null)
       return null;
+
+    Map<Integer, Integer> guessDistribution =
+        new HashMap<Integer, Integer>(2 * Game.MAX_ATTEMPTS);
+    for (int guesses = 1; guesses <= Game.MAX_ATTEMPTS; guesses++)
+      guessDistribution.put(guesses, stats.getGuessCount(guesses));
+
     return StatsDTO.newInstance(stats.getPlayed(), stats.getWinPercentage(),
-        stats.getCurrentStreak(), stats.getMaxStreak(), stats.getGuessDistribution());
+        stats.getCurrentStreak(), stats.getMaxStreak(), guessDistribution);
   }
 
-  public static PlayerDTO[] playersToDTOs(ArrayList<Pair<Username, Score>> players) {
+  public static PlayerDTO[] playersToDTOs(List<Pair<Username, Score>> players) {
     if (players.size() == 0)
       return null;
 
@@ -79,12 +88,31 @@ public class EntityDTOMapper {
     return new Word(wordDTO.getWord());
   }
 
-  public static GameStateDTO gameStateToDTO(Triplet<Clue[], SecretWord, Stats> gameState) {
+  public static GameStateDTO gameStateToDTO(GuessOutcome guessOutcome) {
 
-    ClueDTO[] clueDTOs = cluesToDTO(gameState.getValue0());
-    SecretWordDTO secretWordDTO = secretWordToDTO(gameState.getValue1());
-    StatsDTO statsDTO = statsToDTO(gameState.getValue2());
+    ClueDTO[] clueDTOs = historyToDTO(guessOutcome.getHistory());
+    SecretWordDTO secretWordDTO = secretWordToDTO(guessOutcome.getSecretWord());
+    StatsDTO statsDTO = statsToDTO(guessOutcome.getStats());
 
     return GameStateDTO.newInstance(clueDTOs, secretWordDTO, statsDTO);
   }
+
+  /**
+  * Converts a game history to a {@link ClueDTO} array, oldest clue first, reading the clues
+  * straight from the history.
+  *
+  * @param history the history to be converted.
+  * @return a {@code ClueDTO} array or {@code null} if {@code history} is empty.
+  */
+  public static ClueDTO[] historyToDTO(Game.History history) {
+    if (history.size() == 0)
+      return null;
+
+    ClueDTO[] clueDTOs = new ClueDTO[history.size()];
+    for (Game.History h = history; h.size() > 0; h = h.getPrevious()) {
+      Clue clue = h.getLast();
+      clueDTOs[h.size() - 1] = ClueDTO.newInstance(clue.getWord().getValue(), clue.getWordColors());
+    }
+    return clueDTOs;
+  }
 }
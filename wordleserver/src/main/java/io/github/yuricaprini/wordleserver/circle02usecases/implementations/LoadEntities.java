@@ -1,14 +1,29 @@
 package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import io.github.yuricaprini.wordleserver.circle01entities.Ranking;
 import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.exceptions.AlreadyRegisteredUserException;
 import io.github.yuricaprini.wordleserver.circle02usecases.AdminUseCase;
 import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
 
+/**
+ * A {@code LoadEntities} loads the stored users into {@link RegisteredUsers} and {@link Ranking}.
+ * <p>
+ * Users are read from the repository one at a time by the calling thread and inserted in chunks by
+ * a pool of threads, one per processor. The number of chunks read but not inserted yet is bounded,
+ * so that the peak heap stays close to the final live set.
+ */
 public class LoadEntities implements AdminUseCase {
 
+  private static final int CHUNK_SIZE = 4096;
+
   private EntityRepository entityRepository;
 
   public LoadEntities(EntityRepository entityRepository) {
@@ -19,12 +34,42 @@ public class LoadEntities implements AdminUseCase {
   public boolean execute() throws Exception {
     Iterator<User> loadedUsers = this.entityRepository.loadAll();
 
-    while (loadedUsers.hasNext()) {
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    ExecutorService inserters = Executors.newFixedThreadPool(parallelism);
+    Semaphore pendingChunks = new Semaphore(parallelism * 2);
+    ArrayList<Future<?>> insertions = new ArrayList<Future<?>>();
+
+    try {
+      while (loadedUsers.hasNext()) {
+
+        ArrayList<User> chunk = new ArrayList<User>(CHUNK_SIZE);
+        while (chunk.size() < CHUNK_SIZE && loadedUsers.hasNext())
+          chunk.add(loadedUsers.next());
+
+        pendingChunks.acquire();
+        insertions.add(inserters.submit(() -> {
+          try {
+            insert(chunk);
+          } finally {
+            pendingChunks.release();
+          }
+          return null;
+        }));
+      }
+
+      for (Future<?> insertion : insertions)
+        insertion.get(); // rethrows insertion failures
 
-      User loadedUser = loadedUsers.next();
+    } finally {
+      inserters.shutdownNow();
+    }
+    return true;
+  }
+
+  private static void insert(ArrayList<User> chunk) throws AlreadyRegisteredUserException {
+    for (User loadedUser : chunk) {
       RegisteredUsers.getInstance().add(loadedUser);
       Ranking.getInstance().add(loadedUser.getUsername(), loadedUser.getStats().getScore());
     }
-    return true;
   }
 }
@@ -6,6 +6,7 @@ import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
 import io.github.yuricaprini.wordleserver.circle01entities.Password;
 import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
+import io.github.yuricaprini.wordleserver.circle01entities.Sessions;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
 import io.github.yuricaprini.wordleserver.circle01entities.Username;
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.NoDigitPasswordException;
@@ -30,7 +31,7 @@ import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase
  *      <li> 1. RegisteredUser enters username and password in order to log in to Wordle.
  *      <li> 2. System validates the entered data.
  *      <li> 3. If validation is successful, the user is logged in, and an authentication token is 
- *              generated.
+ *              generated: a signed token or, in session mode, the ID of a newly opened session.
  *      <li> 4. System returns a successful login response with the generated authentication token.
  *    </ul>
  * <li>Postconditions: RegisteredUser is successfully logged in.
@@ -72,14 +73,27 @@ import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase
 public class Login implements RegisteredUserUseCase {
 
   WordleResponse.Factory responseFactory;
+  private boolean sessionMode;
 
   /**
-   * Constructs a new Login use case with the provided response factory.
+   * Constructs a new Login use case with the provided response factory, issuing signed tokens.
    *
    * @param responseFactory the factory for creating responses to the login attempt.
    */
   public Login(WordleResponse.Factory responseFactory) {
+    this(responseFactory, false);
+  }
+
+  /**
+   * Constructs a new Login use case with the provided response factory.
+   *
+   * @param responseFactory the factory for creating responses to the login attempt.
+   * @param sessionMode {@code true} to issue session IDs as authentication tokens, {@code false}
+   * to issue signed tokens.
+   */
+  public Login(WordleResponse.Factory responseFactory, boolean sessionMode) {
     this.responseFactory = responseFactory;
+    this.sessionMode = sessionMode;
   }
 
   /**
@@ -100,7 +114,8 @@ public class Login implements RegisteredUserUseCase {
         return responseFactory.createLoginNO(
             user == null ? ErrorCode.NOT_REGISTERED_USER : ErrorCode.INVALID_CREDENTIALS);
 
-      AuthToken authToken = AuthToken.newIstance(username.toString());
+      AuthToken authToken = sessionMode ? AuthToken.wrap(Sessions.getInstance().open(user))
+          : AuthToken.newIstance(username.toString());
 
       return responseFactory.createLoginOK(authToken);
 
@@ -0,0 +1,64 @@
+package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
+
+import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
+import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
+
+/**
+ * A {@code Logout} is a {@link RegisteredUserUseCase} characterized by the following narrative:
+ * <ul>
+ * <li>Description: RegisteredUser logs out from Wordle.
+ * <li>Primary actor: RegisteredUser
+ * <li>Secondary actors: none
+ * <li>Preconditions: RegisteredUser is logged in.
+ * <li>Main sequence of events:
+ *    <ul>
+ *      <li> 1. RegisteredUser asks to log out, providing its authentication token.
+ *      <li> 2. System validates the authentication token.
+ *      <li> 3. If validation is successful, the session of the RegisteredUser is closed, and its
+ *              authentication token is no longer accepted.
+ *      <li> 4. System returns a successful logout response.
+ *    </ul>
+ * <li>Postconditions: RegisteredUser is logged out.
+ * <li>Alternative sequences of events:
+ *    <ul>
+ *      <li> 2.a The authentication token is invalid or expired: System returns appropriate error
+ *               response, and use case ends.
+ *      <li> 3.a The authentication token is a signed token: it cannot be revoked and stays valid
+ *               until it expires, System returns a successful logout response.
+ *    </ul>
+ * </ul>
+ */
+public class Logout implements RegisteredUserUseCase {
+
+  private WordleResponse.Factory responseFactory;
+
+  /**
+   * Constructs a new Logout use case with the provided response factory.
+   *
+   * @param responseFactory the factory for creating responses to the logout attempt.
+   */
+  public Logout(WordleResponse.Factory responseFactory) {
+    this.responseFactory = responseFactory;
+  }
+
+  /**
+   * Executes the Logout use case narrative.
+   *
+   * @param request the request containing the authentication token to revoke.
+   * @return the response indicating the outcome of the logout attempt.
+   */
+  @Override
+  public WordleResponse execute(WordleRequest request) {
+    try {
+      Authenticator.revoke(request.getAuthToken());
+
+      return responseFactory.createLogoutOK();
+
+    } catch (InvalidTokenException e) {
+      return responseFactory.createLogoutNO(ErrorCode.INVALID_AUTHTOKEN);
+    }
+  }
+}
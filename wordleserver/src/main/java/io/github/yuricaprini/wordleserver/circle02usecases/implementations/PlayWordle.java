@@ -6,10 +6,10 @@ import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
 import io.github.yuricaprini.wordleserver.circle01entities.Clue;
-import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
-import io.github.yuricaprini.wordleserver.circle01entities.Username;
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.GameAlreadyPlayedException;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository.Mutation;
 import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
 
 /**
@@ -41,14 +41,17 @@ import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase
 public class PlayWordle implements RegisteredUserUseCase {
 
   WordleResponse.Factory responseFactory;
+  EntityRepository entityRepository;
 
   /**
-   * Constructs a new PlayWordle use case with the provided response factory.
+   * Constructs a new PlayWordle use case with the provided response factory and entity repository.
    *
    * @param responseFactory the factory for creating responses resulting from PlayWordle execution.
+   * @param entityRepository the repository recording the started games.
    */
-  public PlayWordle(WordleResponse.Factory responseFactory) {
+  public PlayWordle(WordleResponse.Factory responseFactory, EntityRepository entityRepository) {
     this.responseFactory = responseFactory;
+    this.entityRepository = entityRepository;
   }
 
   /**
@@ -60,14 +63,14 @@ public class PlayWordle implements RegisteredUserUseCase {
    * @return the response indicating the outcome of the PlayWordle narrative execution.
    */
   @Override
-  public WordleResponse execute(WordleRequest request) {
+  public WordleResponse execute(WordleRequest request) throws Exception {
 
     try {
 
-      String userID = request.getAuthToken().validate();
-      User user = RegisteredUsers.getInstance().getBy(new Username(userID));
+      User user = Authenticator.authenticate(request.getAuthToken());
 
       Clue[] clues = user.requestsNewGame();
+      entityRepository.append(Mutation.GAME_STARTED, user);
 
       return responseFactory.createPlayWordleOK(cluesToDTO(clues));
 
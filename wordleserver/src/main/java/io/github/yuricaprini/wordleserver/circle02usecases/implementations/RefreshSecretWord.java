@@ -1,29 +1,150 @@
 package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
 
+import java.util.concurrent.ConcurrentHashMap;
 import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
 import io.github.yuricaprini.wordleserver.circle02usecases.SecretWordRepository;
 import io.github.yuricaprini.wordleserver.circle02usecases.TimeUseCase;
 import io.github.yuricaprini.wordleserver.circle02usecases.WordTranslator;
 
+/**
+ * {@code RefreshSecretWord} publishes new secret words, each one identified by its number.
+ * <p>
+ * The word with a given number is either picked at random or, if a seed is given, derived from
+ * the seed and the number only: servers sharing the seed and the vocabulary agree on the word of
+ * every number. Words can be prepared, that is picked and translated, ahead of their publication,
+ * so that publishing them does not wait for the translation. A word which has not been prepared,
+ * as the first one published after a start, waits for its translation at most
+ * {@value #TRANSLATION_TIMEOUT} milliseconds. A word whose translation is not available when it
+ * is published is published with {@value #NO_TRANSLATION} as translation.
+ */
 public class RefreshSecretWord implements TimeUseCase {
 
+  public static final String NO_TRANSLATION = "*** NONE ***";
+  public static final long TRANSLATION_TIMEOUT = 5000;
+
   private SecretWordRepository secretWordRepo;
   private WordTranslator wordTranslator;
+  private Long seed;
+  private ConcurrentHashMap<Integer, SecretWord> preparedWords;
 
+  /**
+   * Constructs a new {@code RefreshSecretWord} which picks the secret words at random.
+   *
+   * @param secretWordRepo the repository of the words which can be picked.
+   * @param wordTranslator the translator of the picked words.
+   */
   public RefreshSecretWord(SecretWordRepository secretWordRepo, WordTranslator wordTranslator) {
+    this(secretWordRepo, wordTranslator, null);
+  }
+
+  /**
+   * Constructs a new {@code RefreshSecretWord} which derives the secret words from the specified
+   * seed.
+   *
+   * @param secretWordRepo the repository of the words which can be picked.
+   * @param wordTranslator the translator of the picked words.
+   * @param seed the seed of the sequence of secret words, {@code null} to pick them at random.
+   */
+  public RefreshSecretWord(SecretWordRepository secretWordRepo, WordTranslator wordTranslator,
+      Long seed) {
     this.secretWordRepo = secretWordRepo;
     this.wordTranslator = wordTranslator;
+    this.seed = seed;
+    this.preparedWords = new ConcurrentHashMap<Integer, SecretWord>();
   }
 
+  /**
+   * Publishes the secret word numbered after the current one.
+   */
   @Override
   public boolean execute() throws Exception {
+    return publish(SecretWord.getCurrent().getNumber() + 1);
+  }
+
+  /**
+   * Publishes the secret word with the specified number, preparing it first if it has not been
+   * prepared yet, in which case its translation is waited for a bounded time. The words prepared
+   * for this number or for earlier ones are discarded.
+   *
+   * @param number the number of the secret word.
+   * @return {@code true} if a secret word has been published, {@code false} if the vocabulary is
+   *         empty.
+   * @throws Exception if the secret word cannot be picked.
+   */
+  public boolean publish(int number) throws Exception {
 
-    String secretWord = secretWordRepo.getRandom();
-    String translation = wordTranslator.translate(secretWord);
+    SecretWord secretWord = preparedWords.remove(number);
+    boolean isPrepared = secretWord != null;
+    if (!isPrepared)
+      secretWord = pick(number);
+    preparedWords.keySet().removeIf(prepared -> prepared <= number);
 
-    SecretWord.setNew(secretWord, translation);
-    System.out.println(">>> secret word: " + secretWord + " <<<"); //useful to manual test
+    if (secretWord == null)
+      return false;
+
+    String value = secretWord.getValue();
+    String translation = secretWord.getTranslation();
+    if (translation == null) // not available when picked, maybe now
+      translation = isPrepared ? wordTranslator.translate(value)
+          : wordTranslator.translate(value, TRANSLATION_TIMEOUT);
+    SecretWord.setNew(value, number, translation != null ? translation : NO_TRANSLATION);
+    System.out.println(">>> secret word: " + value + " <<<"); //useful to manual test
 
     return true;
   }
+
+  /**
+   * Prepares the secret word with the specified number, unless it has already been prepared or
+   * published.
+   *
+   * @param number the number of the secret word.
+   * @throws Exception if the secret word cannot be picked.
+   */
+  public void prepare(int number) throws Exception {
+
+    if (number <= SecretWord.getCurrent().getNumber() || preparedWords.containsKey(number))
+      return;
+
+    SecretWord secretWord = pick(number);
+    if (secretWord != null)
+      preparedWords.putIfAbsent(number, secretWord);
+  }
+
+  /**
+   * Private helper method to pick and translate the secret word with the specified number.
+   *
+   * @param number the number of the secret word.
+   * @return the secret word, not yet published and possibly without translation, or {@code null}
+   *         if the vocabulary is empty.
+   * @throws Exception if the secret word cannot be picked.
+   */
+  private SecretWord pick(int number) throws Exception {
+
+    String value;
+    if (seed == null)
+      value = secretWordRepo.getRandom();
+    else {
+      int size = secretWordRepo.size();
+      value = size == 0 ? null : secretWordRepo.get((int) Long.remainderUnsigned(
+          mix(seed + number * 0x9E3779B97F4A7C15L), size));
+    }
+
+    if (value == null)
+      return null;
+
+    return SecretWord.restore(value, number, wordTranslator.translate(value));
+  }
+
+  /**
+   * Private helper method to scramble the bits of the specified value, so that consecutive values
+   * are mapped to unrelated ones (the SplitMix64 finalizer).
+   *
+   * @param value the value to scramble.
+   * @return the scrambled value.
+   */
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
+  }
 }
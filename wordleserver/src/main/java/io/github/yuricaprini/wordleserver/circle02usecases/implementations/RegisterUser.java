@@ -1,5 +1,6 @@
 package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
 
+import java.io.IOException;
 import java.rmi.RemoteException;
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.UserRegistrationRemoteService;
 import io.github.yuricaprini.wordleserver.circle01entities.Password;
@@ -17,6 +18,8 @@ import io.github.yuricaprini.wordleserver.circle01entities.exceptions.TooLongPas
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.TooLongUsernameException;
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.TooShortPasswordException;
 import io.github.yuricaprini.wordleserver.circle01entities.exceptions.TooShortUsernameException;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository.Mutation;
 
 /**
  * A {@code RegisterUser} is a Wordle use case characterized by the following narrative:
@@ -59,6 +62,18 @@ import io.github.yuricaprini.wordleserver.circle01entities.exceptions.TooShortUs
  */
 public class RegisterUser implements UserRegistrationRemoteService {
 
+  private EntityRepository entityRepository;
+
+  /**
+   * Constructs a new RegisterUser use case which records the registered users in the provided
+   * repository.
+   *
+   * @param entityRepository the repository recording the registered users.
+   */
+  public RegisterUser(EntityRepository entityRepository) {
+    this.entityRepository = entityRepository;
+  }
+
   /**
    * {@inheritDoc}
    * <p>
@@ -69,7 +84,14 @@ public class RegisterUser implements UserRegistrationRemoteService {
     try {
       Username Username = new Username(username);
 
-      RegisteredUsers.getInstance().add(new User(Username, new Password(password)));
+      User user = new User(Username, new Password(password));
+      RegisteredUsers.getInstance().add(user); // reserves the username
+      try {
+        entityRepository.append(Mutation.REGISTRATION, user);
+      } catch (IOException e) { // the registration would not survive a restart
+        RegisteredUsers.getInstance().remove(user);
+        throw e;
+      }
       Ranking.getInstance().add(Username, new Score(0));
 
     } catch (AlreadyRegisteredUserException e) {
@@ -90,6 +112,8 @@ public class RegisterUser implements UserRegistrationRemoteService {
       return RegistrationOutcome.PASSWORD_NO_DIGIT;
     } catch (NoUppercasePasswordException e) {
       return RegistrationOutcome.PASSWORD_NO_UC;
+    } catch (IOException e) {
+      throw new RemoteException("unable to record the registration", e);
     }
     return RegistrationOutcome.OK;
   }
@@ -7,7 +7,6 @@ import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
 import io.github.yuricaprini.wordleserver.circle01entities.Clue;
-import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
 import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
 import io.github.yuricaprini.wordleserver.circle01entities.Username;
@@ -28,9 +27,8 @@ public class Share implements RegisteredUserUseCase {
   public WordleResponse execute(WordleRequest request) {
 
     try {
-      String userID = request.getAuthToken().validate();
-      Username username = new Username(userID);
-      User user = RegisteredUsers.getInstance().getBy(username);
+      User user = Authenticator.authenticate(request.getAuthToken());
+      Username username = user.getUsername();
 
       Pair<SecretWord, Clue[]> result = user.getGameResult();
       if (result != null) {
@@ -1,20 +1,30 @@
 package io.github.yuricaprini.wordleserver.circle02usecases.implementations;
 
 import static io.github.yuricaprini.wordleserver.circle02usecases.implementations.EntityDTOMapper.playersToDTOs;
-import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.dtos.RankingCursorDTO;
 import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
 import io.github.yuricaprini.wordleserver.circle01entities.Ranking;
-import io.github.yuricaprini.wordleserver.circle01entities.Score;
 import io.github.yuricaprini.wordleserver.circle01entities.Username;
 import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
 
 public class ShowMeRanking implements RegisteredUserUseCase {
 
+  /**
+   * The worst-case size in bytes of a player in an HTTP ranking page: the JSON object
+   * {@code {"name":"...","score":-2147483648},} of a name whose characters are all escaped as
+   * six-character unicode escapes.
+   */
+  private static final int MAX_PLAYER_SIZE = 33 + 6 * Username.MAX_LEN;
+  /** The size in bytes reserved to the rest of a ranking page: status line, headers, cursor. */
+  private static final int PAGE_OVERHEAD = 256;
+  /** The maximum number of players in a page, so that any page fits in a response. */
+  public static final int MAX_PAGEDIM = (WordleResponse.MAX_SIZE - PAGE_OVERHEAD) / MAX_PLAYER_SIZE;
+
   private WordleResponse.Factory responseFactory;
-  private final int PAGEDIM = 10;
+  private final int DEFAULT_PAGEDIM = 10;
 
   public ShowMeRanking(WordleResponse.Factory responseFactory) {
     this.responseFactory = responseFactory;
@@ -23,15 +33,19 @@ public class ShowMeRanking implements RegisteredUserUseCase {
   @Override
   public WordleResponse execute(WordleRequest request) {
     try {
-      request.getAuthToken().validate();
-      PlayerDTO playerDTO = request.getPlayerDTO();
-      if (playerDTO == null) {
-        return responseFactory
-            .createShowMeRankingOK(playersToDTOs(Ranking.getInstance().getBottomUp(PAGEDIM)));
-      } else
-        return responseFactory.createShowMeRankingOK(
-            playersToDTOs(Ranking.getInstance().getBottomUp(new Username(playerDTO.getName()),
-                new Score(playerDTO.getScore()), PAGEDIM)));
+      Authenticator.authenticate(request.getAuthToken());
+      RankingCursorDTO rankingCursorDTO = request.getRankingCursorDTO();
+      if (rankingCursorDTO == null)
+        rankingCursorDTO = RankingCursorDTO.newInstance(null, false, DEFAULT_PAGEDIM);
+
+      int pageDim = rankingCursorDTO.getPageSize() < 1 ? DEFAULT_PAGEDIM
+          : Math.min(rankingCursorDTO.getPageSize(), MAX_PAGEDIM);
+
+      Ranking.Page page = Ranking.getInstance().getPage(rankingCursorDTO.getCursor(),
+          rankingCursorDTO.isDescending(), pageDim);
+
+      return responseFactory.createShowMeRankingOK(playersToDTOs(page.getPlayers()),
+          page.getNextCursor());
 
     } catch (InvalidTokenException e) {
       return responseFactory.createShowMeRankingNO(ErrorCode.INVALID_AUTHTOKEN);
@@ -6,9 +6,7 @@ import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse.ErrorCode;
-import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
-import io.github.yuricaprini.wordleserver.circle01entities.Username;
 import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
 
 public class ShowMeStats implements RegisteredUserUseCase {
@@ -22,8 +20,7 @@ public class ShowMeStats implements RegisteredUserUseCase {
   @Override
   public WordleResponse execute(WordleRequest request) {
     try {
-      String userID = request.getAuthToken().validate();
-      User user = RegisteredUsers.getInstance().getBy(new Username(userID));
+      User user = Authenticator.authenticate(request.getAuthToken());
 
       return responseFactory.createShowMeStatsOK(statsToDTO(user.getStats()));
 
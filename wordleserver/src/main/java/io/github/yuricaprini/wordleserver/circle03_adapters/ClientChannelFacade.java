@@ -2,12 +2,18 @@ package io.github.yuricaprini.wordleserver.circle03_adapters;
 
 import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
 import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 
 /**
  * The {@code ClientChannelFacade} interface offers a streamlined interface for accessing input and * output data on the client channel.
  */
 public interface ClientChannelFacade {
 
+  /**
+   * The number of bytes queued in the {@link OutputQueue} beyond which the output is backlogged.
+   */
+  public static final int MAX_QUEUED_OUTPUT = 8 * WordleResponse.MAX_SIZE;
+
   /**
    * Returns the {@link InputQueue} containing the client channel input data.
    * 
@@ -21,4 +27,42 @@ public interface ClientChannelFacade {
    * @return the {@code OutputQueue} containing the client channel output data.
    */
   public OutputQueue getOutputQueue();
+
+  /**
+   * Returns {@code true} if the client is not reading the responses as fast as it is sending
+   * requests, that is if the {@link OutputQueue} holds at least {@value #MAX_QUEUED_OUTPUT} bytes.
+   * No further request should be fulfilled, nor input read, until the queue drains.
+   *
+   * @return {@code true} if the output of the client channel is backlogged.
+   */
+  public default boolean isOutputBacklogged() {
+    return getOutputQueue().size() >= MAX_QUEUED_OUTPUT;
+  }
+
+  /**
+   * Returns {@code true} if the requests of the client may be fulfilled by use cases which block,
+   * {@code false} if the thread fulfilling them serves other clients meanwhile. By default
+   * blocking is allowed.
+   *
+   * @return {@code true} if fulfilling a request may block.
+   */
+  public default boolean isBlockingAllowed() {
+    return true;
+  }
+
+  /**
+   * Defers the fulfillment of the current request, whose use case may block, until blocking is
+   * allowed. It must be called only if {@link #isBlockingAllowed()} returns {@code false}.
+   *
+   * @throws UnsupportedOperationException if blocking is always allowed.
+   */
+  public default void deferBlockingRequest() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Asks for the client channel to be closed once all the data in its {@link OutputQueue} has been
+   * written. No further input is read from the channel.
+   */
+  public void closeAfterWriting();
 }
@@ -7,8 +7,10 @@ package io.github.yuricaprini.wordleserver.circle03_adapters;
 public interface ClientRequestHandler {
 
   /**
-   * Parses the input data from the specified {@code clientChannelFacade}, routing the incoming 
-   * client requests.
+   * Parses the input data from the specified {@code clientChannelFacade}, routing all the complete
+   * incoming client requests and queueing their responses in order. A request asking to close the
+   * connection is the last one handled. Once the output is backlogged, the remaining requests are
+   * left in the input until a later call.
    *
    * @param clientChannelFacade the client channel facade providing access to the communication 
    * channel with the client.
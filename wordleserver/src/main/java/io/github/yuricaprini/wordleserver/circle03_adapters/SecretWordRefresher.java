@@ -2,5 +2,7 @@ package io.github.yuricaprini.wordleserver.circle03_adapters;
 
 public interface SecretWordRefresher {
 
-  void refresh() throws Exception;
+  void refresh(int number) throws Exception;
+
+  void prepare(int number) throws Exception;
 }
@@ -0,0 +1,341 @@
+package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import io.github.yuricaprini.wordleserver.circle01entities.Clue;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.Password;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle01entities.Word;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+
+/**
+ * A {@code BinaryEntityRepositoryAdapter} is an {@link EntityRepository} which stores all the users
+ * in a versioned binary file, written through a {@link FileChannel} and read back through
+ * {@link MappedByteBuffer} windows, one user at a time while iterating.
+ * <p>
+ * The file starts with a header made of the {@code WDLU} magic number, the format version and the
+ * number of users, followed by one record per user. Each record starts with its length and holds,
+ * in order:
+ * <ul>
+ * <li>the username and the password, as length-prefixed UTF-8 bytes;
+ * <li>the stats counters (played, won, current streak, max streak, old score);
+ * <li>the {@value Game#MAX_ATTEMPTS} slots of the guess distribution;
+ * <li>the secret word of the last game (number, value and translation), its started flag and the
+ * attempted words of its clues, from which the clues are recomputed on loading.
+ * </ul>
+ * All integers are 32-bit big-endian. A missing translation is stored as an empty one.
+ */
+public class BinaryEntityRepositoryAdapter implements EntityRepository {
+
+  private static final int MAGIC = 0x57444C55; // "WDLU"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final long MAX_WINDOW_SIZE = 1 << 26;
+
+  private Path path;
+  private long windowSize;
+
+  public BinaryEntityRepositoryAdapter(String fileName) {
+    this(fileName, MAX_WINDOW_SIZE);
+  }
+
+  /**
+   * Constructs a new {@code BinaryEntityRepositoryAdapter} which maps the users file in windows of
+   * at most {@code windowSize} bytes while loading, or larger if a single record needs it.
+   *
+   * @param fileName the name of the users file.
+   * @param windowSize the maximum size of the windows mapped while loading.
+   * @throws IllegalArgumentException if {@code windowSize <= 0}.
+   */
+  public BinaryEntityRepositoryAdapter(String fileName, long windowSize) {
+    if (windowSize <= 0)
+      throw new IllegalArgumentException();
+
+    this.path = Paths.get(fileName);
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Converts a JSON users file, as written by {@link EntityRepositoryAdapter}, into a binary users
+   * file readable by a {@code BinaryEntityRepositoryAdapter}.
+   *
+   * @param jsonFileName the name of the JSON users file to convert.
+   * @param binaryFileName the name of the binary users file to write.
+   * @throws Exception if the JSON file cannot be read or the binary file cannot be written.
+   */
+  public static void convert(String jsonFileName, String binaryFileName) throws Exception {
+    new BinaryEntityRepositoryAdapter(binaryFileName)
+        .pushAll(new EntityRepositoryAdapter(jsonFileName).loadAll());
+  }
+
+  @Override
+  public Iterator<User> loadAll() throws Exception {
+    if (!Files.exists(path))
+      return Collections.unmodifiableCollection(new ArrayList<User>()).iterator();
+
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      while (header.hasRemaining() && channel.read(header) != -1);
+      header.flip();
+
+      if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC)
+        throw new IOException("not a users file: " + path);
+      if (header.getInt() != VERSION)
+        throw new IOException("unsupported users file version: " + path);
+
+      return new UserRecordIterator(channel, header.getInt(), windowSize);
+
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The users are written to a temporary file which then replaces the current one, each user being
+   * copied under its own monitor.
+   */
+  @Override
+  public void pushAll(Iterator<User> iterator) throws IOException {
+    Path tempPath = Paths.get(path + ".temp");
+
+    try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(0); // count is patched at the end
+
+      int count = 0;
+      while (iterator.hasNext()) {
+        byte[] record = encode(iterator.next());
+
+        if (buffer.remaining() < Integer.BYTES + record.length)
+          flush(buffer, channel);
+
+        if (buffer.remaining() < Integer.BYTES + record.length) { // larger than the buffer
+          ByteBuffer largeRecord = ByteBuffer.allocate(Integer.BYTES + record.length);
+          largeRecord.putInt(record.length).put(record).flip();
+          while (largeRecord.hasRemaining())
+            channel.write(largeRecord);
+        } else
+          buffer.putInt(record.length).put(record);
+
+        count++;
+      }
+      flush(buffer, channel);
+
+      ByteBuffer countBuffer = ByteBuffer.allocate(Integer.BYTES).putInt(count);
+      countBuffer.flip();
+      channel.write(countBuffer, 2 * Integer.BYTES);
+      channel.force(false);
+    }
+
+    Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Override
+  public void append(Mutation mutation, User user) {
+    // nothing to do, users are persisted only by pushAll
+  }
+
+  private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining())
+      channel.write(buffer);
+    buffer.clear();
+  }
+
+  private static byte[] encode(User user) {
+    Stats stats;
+    Game lastGame;
+    synchronized (user) { // users can be changed while the snapshot is written
+      stats = user.getStats();
+      lastGame = user.getLastGameCopy();
+    }
+
+    byte[] username = user.getUsername().toString().getBytes(StandardCharsets.UTF_8);
+    byte[] password = user.getPassword().toString().getBytes(StandardCharsets.UTF_8);
+    SecretWord secretWord = lastGame.getSecretWord();
+    byte[] secretWordValue = secretWord.getValue().getBytes(StandardCharsets.UTF_8);
+    byte[] translation = secretWord.getTranslation() == null ? new byte[0]
+        : secretWord.getTranslation().getBytes(StandardCharsets.UTF_8);
+    Clue[] clues = lastGame.getCluesCopy();
+
+    int size = 2 * Integer.BYTES + username.length + password.length
+        + (5 + Game.MAX_ATTEMPTS) * Integer.BYTES
+        + 3 * Integer.BYTES + secretWordValue.length + translation.length + 1
+        + Integer.BYTES;
+    byte[][] attempts = new byte[clues.length][];
+    for (int i = 0; i < clues.length; i++) {
+      attempts[i] = clues[i].getWord().getValue().getBytes(StandardCharsets.UTF_8);
+      size += Integer.BYTES + attempts[i].length;
+    }
+
+    ByteBuffer record = ByteBuffer.allocate(size);
+    putBytes(record, username);
+    putBytes(record, password);
+
+    record.putInt(stats.getPlayed()).putInt(stats.getWon()).putInt(stats.getCurrentStreak())
+        .putInt(stats.getMaxStreak()).putInt(stats.getOldScore().getValue());
+    for (int guesses = 1; guesses <= Game.MAX_ATTEMPTS; guesses++)
+      record.putInt(stats.getGuessCount(guesses));
+
+    record.putInt(secretWord.getNumber());
+    putBytes(record, secretWordValue);
+    putBytes(record, translation);
+    record.put((byte) (lastGame.isStarted() ? 1 : 0));
+    record.putInt(attempts.length);
+    for (byte[] attempt : attempts)
+      putBytes(record, attempt);
+
+    return record.array();
+  }
+
+  private static User decode(ByteBuffer record) throws Exception {
+    Username username = new Username(getString(record));
+    Password password = new Password(getString(record));
+
+    int played = record.getInt();
+    int won = record.getInt();
+    int currentStreak = record.getInt();
+    int maxStreak = record.getInt();
+    Score oldScore = new Score(record.getInt());
+    int[] distribution = new int[Game.MAX_ATTEMPTS];
+    for (int i = 0; i < distribution.length; i++)
+      distribution[i] = record.getInt();
+
+    int secretWordNumber = record.getInt();
+    String secretWordValue = getString(record);
+    String translation = getString(record);
+    SecretWord secretWord = SecretWord.restore(secretWordValue, secretWordNumber,
+        translation.isEmpty() ? null : translation);
+    boolean isStarted = record.get() != 0;
+    Clue[] clues = new Clue[record.getInt()];
+    for (int i = 0; i < clues.length; i++)
+      clues[i] = new Clue(new Word(getString(record)), secretWord);
+
+    return User.restore(username, password, Game.restore(secretWord, clues, isStarted),
+        Stats.restore(played, won, currentStreak, maxStreak, distribution, oldScore));
+  }
+
+  private static void putBytes(ByteBuffer record, byte[] bytes) {
+    record.putInt(bytes.length).put(bytes);
+  }
+
+  private static String getString(ByteBuffer record) {
+    byte[] bytes = new byte[record.getInt()];
+    record.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A {@code UserRecordIterator} decodes the user records one at a time, mapping the file in
+   * windows of bounded size, each one starting at a record boundary.
+   * The file is closed once all the records have been read or a reading error occurs.
+   */
+  private static class UserRecordIterator implements Iterator<User> {
+
+    private FileChannel channel;
+    private int remainingRecords;
+    private long windowSize;
+    private long windowPosition;
+    private MappedByteBuffer window;
+
+    private UserRecordIterator(FileChannel channel, int count, long windowSize) {
+      this.channel = channel;
+      this.remainingRecords = count;
+      this.windowSize = windowSize;
+      this.windowPosition = HEADER_SIZE;
+      this.window = null;
+
+      if (count == 0)
+        close();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remainingRecords > 0;
+    }
+
+    @Override
+    public User next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      try {
+        ensureMapped(Integer.BYTES);
+        int length = window.getInt(window.position());
+        ensureMapped(Integer.BYTES + length);
+
+        window.position(window.position() + Integer.BYTES);
+        ByteBuffer record = window.slice();
+        record.limit(length);
+        window.position(window.position() + length);
+
+        if (--remainingRecords == 0)
+          close();
+        return decode(record);
+
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException(e);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      } catch (Exception e) { // invalid password
+        close();
+        throw new IllegalStateException("invalid user record", e);
+      }
+    }
+
+    /**
+     * Ensures that at least {@code bytes} bytes following the current record boundary are mapped,
+     * mapping a new window starting from there if needed.
+     */
+    private void ensureMapped(int bytes) throws IOException {
+      if (window != null && window.remaining() >= bytes)
+        return;
+
+      if (window != null)
+        windowPosition += window.position();
+
+      long size = Math.min(Math.max(windowSize, bytes), channel.size() - windowPosition);
+      if (size < bytes)
+        throw new IOException("truncated users file");
+
+      window = channel.map(FileChannel.MapMode.READ_ONLY, windowPosition, size);
+    }
+
+    private void close() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+      remainingRecords = 0;
+    }
+  }
+}
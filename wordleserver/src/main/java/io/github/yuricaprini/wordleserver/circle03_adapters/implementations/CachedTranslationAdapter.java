@@ -0,0 +1,178 @@
+package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import io.github.yuricaprini.wordleserver.circle02usecases.WordTranslator;
+
+/**
+ * A {@code CachedTranslationAdapter} is a {@link WordTranslator} which remembers the translations
+ * made by another translator, so that every word is translated at most once.
+ * <p>
+ * Translating never waits: a word which has not been translated yet is handed to a background
+ * thread, which translates it with the other translator and caches its translation, and
+ * {@code null} is returned meanwhile, unless the caller agrees to wait for it a bounded time.
+ * Translating the upcoming words ahead of time warms the cache, so that their translations are
+ * ready when needed.
+ * <p>
+ * If a file is given, the cache is loaded from it on construction and every new translation is
+ * appended to it, one {@code word<TAB>translation} line each: translations survive restarts, and
+ * the file can be filled in advance to act as a local dictionary.
+ */
+public class CachedTranslationAdapter implements WordTranslator {
+
+  private final WordTranslator translator;
+  private final String fileName;
+  private final ConcurrentHashMap<String, String> translations;
+  private final ConcurrentHashMap<String, Future<?>> pendingTranslations;
+  private final ExecutorService translatorThread;
+
+  /**
+   * Constructs a new {@code CachedTranslationAdapter}, loading the translations stored in the
+   * specified file, if it exists.
+   *
+   * @param translator the translator of the words not in the cache.
+   * @param fileName the name of the file storing the cache, {@code null} to keep it only in memory.
+   * @throws NullPointerException if {@code translator == null}.
+   * @throws IOException if the file exists but cannot be read.
+   */
+  public CachedTranslationAdapter(WordTranslator translator, String fileName) throws IOException {
+    this.translator = Objects.requireNonNull(translator);
+    this.fileName = fileName;
+    this.translations = new ConcurrentHashMap<String, String>();
+    this.pendingTranslations = new ConcurrentHashMap<String, Future<?>>();
+    this.translatorThread = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "Translator");
+      thread.setDaemon(true); // an unfinished translation must not hold up the shutdown
+      return thread;
+    });
+
+    if (fileName != null)
+      load();
+  }
+
+  /**
+   * Returns the cached translation of the specified word. If the word is not in the cache yet, its
+   * translation is started in background and {@code null} is returned.
+   *
+   * @param word the word to translate.
+   * @return the translation of {@code word}, or {@code null} if it is not available yet.
+   */
+  @Override
+  public String translate(String word) {
+
+    String translation = translations.get(word);
+    if (translation == null)
+      translateInBackground(word);
+
+    return translation;
+  }
+
+  /**
+   * Returns the cached translation of the specified word. If the word is not in the cache yet, its
+   * translation is started in background and waited for at most {@code timeoutMillis}
+   * milliseconds.
+   *
+   * @param word the word to translate.
+   * @param timeoutMillis the maximum time to wait, in milliseconds.
+   * @return the translation of {@code word}, or {@code null} if it is not available in time.
+   */
+  @Override
+  public String translate(String word, long timeoutMillis) {
+
+    String translation = translations.get(word);
+    if (translation != null)
+      return translation;
+
+    try {
+      translateInBackground(word).get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // not available in time
+    }
+    return translations.get(word);
+  }
+
+  /**
+   * Private helper method to start the translation of the specified word in background, unless it
+   * has already been started.
+   *
+   * @param word the word to translate.
+   * @return the pending translation of {@code word}, done once it is cached, if available.
+   */
+  private Future<?> translateInBackground(String word) {
+
+    FutureTask<Void> translation = new FutureTask<Void>(() -> {
+      try {
+        String translated = translator.translate(word);
+        if (translated != null && translations.putIfAbsent(word, translated) == null)
+          store(word, translated);
+      } finally {
+        pendingTranslations.remove(word);
+      }
+    }, null);
+
+    Future<?> pending = pendingTranslations.putIfAbsent(word, translation);
+    if (pending != null)
+      return pending;
+
+    translatorThread.execute(translation);
+    return translation;
+  }
+
+  /**
+   * Private helper method to load the translations stored in the file of this cache.
+   *
+   * @throws IOException if the file exists but cannot be read.
+   */
+  private void load() throws IOException {
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(new FileInputStream(fileName), StandardCharsets.UTF_8))) {
+
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int separator = line.indexOf('\t');
+        if (separator > 0) // malformed lines are ignored
+          translations.put(line.substring(0, separator), line.substring(separator + 1));
+      }
+    } catch (FileNotFoundException e) {
+      // nothing cached yet
+    }
+  }
+
+  /**
+   * Private helper method to append a translation to the file of this cache, if any. A
+   * translation which cannot be stored stays in memory only.
+   *
+   * @param word the translated word.
+   * @param translation the translation of {@code word}.
+   */
+  private void store(String word, String translation) {
+    if (fileName == null)
+      return;
+
+    String line = word + '\t' + translation.replaceAll("[\t\r\n]", " ") + '\n';
+    try (Writer writer =
+        new OutputStreamWriter(new FileOutputStream(fileName, true), StandardCharsets.UTF_8)) {
+      writer.write(line);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
 
+import java.util.Map;
 import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
 import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
@@ -10,38 +12,79 @@ import io.github.yuricaprini.wordleserver.circle03_adapters.ClientRequestHandler
 /**
  * The {@code CommunicationAdapter} class acts as a mediator between the application layer and the 
  * business layer, translating input data coming from a {@link ClientChannelFacade} into 
- * {@link WordleRequest} and routing them to the appropriate {@link RegisteredUserUseCase}.
+ * {@link WordleRequest} and routing them to the appropriate {@link RegisteredUserUseCase}, which
+ * answers in the wire format of the client.
  */
 public class ClientRequestAdapter implements ClientRequestHandler {
 
   private RegisteredUserUseCase.Factory useCaseFactory;
+  private Map<WireFormat, WordleRequest.Factory> requestFactories;
+  private Map<WireFormat, WordleResponse.Factory> responseFactories;
   private WordleRequest.Factory requestFactory;
+  private WordleResponse.Factory responseFactory;
   private WordleRequest currentRequest;
 
   /**
    * Constructs a new {@code CommunicationAdapter} with the specified {@code useCaseFactory}, and 
-   * {@code requestFactory}.
+   * the request and response factories of every supported {@link WireFormat}. The wire format of
+   * the client is detected from the first bytes it sends.
    * 
    * @param useCaseFactory the factory for creating registered user use cases.
-   * @param requestFactory the factory for creating wordle requests.
-   * @throws NullPointerException if {@code useCaseFactory == null || requestFactory == null}.
+   * @param requestFactories the factories for creating wordle requests, by wire format.
+   * @param responseFactories the factories for creating wordle responses, by wire format.
+   * @throws NullPointerException if {@code useCaseFactory == null || requestFactories == null ||
+   * responseFactories == null}.
    */
   public ClientRequestAdapter(RegisteredUserUseCase.Factory useCaseFactory,
-      WordleRequest.Factory requestFactory) {
+      Map<WireFormat, WordleRequest.Factory> requestFactories,
+      Map<WireFormat, WordleResponse.Factory> responseFactories) {
 
     this.useCaseFactory = Objects.requireNonNull(useCaseFactory);
-    this.requestFactory = Objects.requireNonNull(requestFactory);
-    this.currentRequest = requestFactory.createEmptyRequest();
+    this.requestFactories = Objects.requireNonNull(requestFactories);
+    this.responseFactories = Objects.requireNonNull(responseFactories);
+    this.requestFactory = null;
+    this.responseFactory = null;
+    this.currentRequest = null;
   }
 
   @Override
   public void handleRequest(ClientChannelFacade clientChannelFacade) throws Exception {
 
-    if (currentRequest.populateFrom(clientChannelFacade.getInputQueue())) {
-      RegisteredUserUseCase usecase = useCaseFactory.createUseCase(currentRequest.getType());
-      WordleResponse response = usecase.execute(currentRequest);
-      response.serializeTo(clientChannelFacade.getOutputQueue());
+    if (currentRequest == null) {
+      WireFormat wireFormat = WireFormat.detectFrom(clientChannelFacade.getInputQueue());
+      if (wireFormat == null)
+        return;
+
+      requestFactory = Objects.requireNonNull(requestFactories.get(wireFormat));
+      responseFactory = Objects.requireNonNull(responseFactories.get(wireFormat));
+      currentRequest = requestFactory.createEmptyRequest();
+    }
+
+    // pipelined requests are fulfilled in one pass, their responses being written as a batch, as
+    // long as the client keeps up with reading them; a request deferred by the previous pass is
+    // already populated
+    while (!clientChannelFacade.isOutputBacklogged() && (currentRequest.isFullyPopulated()
+        || currentRequest.populateFrom(clientChannelFacade.getInputQueue()))) {
+
+      if (!clientChannelFacade.isBlockingAllowed()
+          && useCaseFactory.mayBlock(currentRequest.getType())) {
+        clientChannelFacade.deferBlockingRequest();
+        break;
+      }
+
+      // the last response announces that the connection is closed after it
+      boolean isKeepAlive = currentRequest.isKeepAlive();
+      RegisteredUserUseCase usecase =
+          useCaseFactory.createUseCase(currentRequest.getType(), responseFactory);
+      usecase.execute(currentRequest).serializeTo(clientChannelFacade.getOutputQueue(),
+          !isKeepAlive);
+
       currentRequest = requestFactory.createEmptyRequest();
+
+      if (!isKeepAlive) {
+        clientChannelFacade.closeAfterWriting();
+        break;
+      }
     }
 
   }
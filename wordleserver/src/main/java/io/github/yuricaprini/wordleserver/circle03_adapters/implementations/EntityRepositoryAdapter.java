@@ -1,39 +1,70 @@
 package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
 import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
 
+/**
+ * An {@code EntityRepositoryAdapter} is an {@link EntityRepository} which stores all the users as a
+ * compact JSON array, one user per line, and loads them back as a stream: users are deserialized
+ * one at a time while iterating, so the whole array is never materialized.
+ */
 public class EntityRepositoryAdapter implements EntityRepository {
 
+  private static final int BUFFER_SIZE = 1 << 16;
+
   private String filename;
   private Gson gson;
 
   public EntityRepositoryAdapter(String fileName) {
     this.filename = fileName;
-    this.gson = new GsonBuilder().setPrettyPrinting().create();
+    this.gson =
+        new GsonBuilder().registerTypeAdapter(Stats.class, new StatsTypeAdapter()).create();
   }
 
   @Override
   public Iterator<User> loadAll() throws Exception {
-    try (Reader reader = new FileReader(filename)) {
-      User[] users = gson.fromJson(reader, User[].class);
-      return Collections.unmodifiableCollection(Arrays.asList(users)).iterator();
+    JsonReader reader;
+    try {
+      reader = new JsonReader(new BufferedReader(
+          new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8),
+          BUFFER_SIZE));
     } catch (FileNotFoundException e) {
       return Collections.unmodifiableCollection(new ArrayList<User>()).iterator();
     }
+
+    try {
+      if (reader.peek() == JsonToken.END_DOCUMENT) { // empty file
+        reader.close();
+        return Collections.unmodifiableCollection(new ArrayList<User>()).iterator();
+      }
+      reader.beginArray();
+    } catch (IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+
+    return new UserStreamIterator(reader);
   }
 
   @Override
@@ -41,12 +72,16 @@ public class EntityRepositoryAdapter implements EntityRepository {
     String tempFileName = filename + ".temp";
     deleteFile(tempFileName);
 
-    try (Writer tempWriter = new FileWriter(tempFileName)) {
+    try (Writer tempWriter = new BufferedWriter(new OutputStreamWriter(
+        new FileOutputStream(tempFileName), StandardCharsets.UTF_8), BUFFER_SIZE)) {
       tempWriter.write("[\n");
 
       while (iterator.hasNext()) {
         User user = iterator.next();
-        String json = gson.toJson(user);
+        String json;
+        synchronized (user) { // users can be changed while the snapshot is written
+          json = gson.toJson(user);
+        }
         tempWriter.write(json);
 
         if (iterator.hasNext()) {
@@ -60,6 +95,11 @@ public class EntityRepositoryAdapter implements EntityRepository {
     replaceFile(tempFileName);
   }
 
+  @Override
+  public void append(Mutation mutation, User user) {
+    // nothing to do, users are persisted only by pushAll
+  }
+
   private void deleteFile(String filePath) {
     File fileToDelete = new File(filePath);
     if (fileToDelete.exists())
@@ -76,4 +116,57 @@ public class EntityRepositoryAdapter implements EntityRepository {
     tempFile.renameTo(originalFile);
   }
 
+  /**
+   * A {@code UserStreamIterator} deserializes the users of a JSON array one at a time, closing the
+   * underlying reader once the array has been fully read or a reading error occurs.
+   */
+  private class UserStreamIterator implements Iterator<User> {
+
+    private JsonReader reader;
+
+    private UserStreamIterator(JsonReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (reader == null)
+        return false;
+
+      try {
+        if (reader.hasNext())
+          return true;
+
+        reader.endArray();
+        close();
+        return false;
+
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public User next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      try {
+        return gson.fromJson(reader, User.class);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    private void close() {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+      reader = null;
+    }
+  }
 }
@@ -0,0 +1,279 @@
+package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+
+/**
+ * A {@code JournalEntityRepositoryAdapter} is an {@link EntityRepository} which, besides a snapshot
+ * of all the users written by {@link #pushAll(Iterator)}, keeps a write-ahead journal where each
+ * mutation is appended as a compact JSON line holding the mutation kind and the resulting user.
+ * <p>
+ * Appended records are made durable in group-commit batches: while a thread is forcing a batch to
+ * disk, the records appended by other threads pile up and are written and forced all together by
+ * the next one, so that a single {@code fsync} covers many mutations. If a batch cannot be written,
+ * every append of the batch fails, and the part of the batch which may have been written is
+ * truncated away.
+ * <p>
+ * Loading replays the journal on top of the snapshot, the last record of each user winning. A
+ * record torn by a crash ends the replay.
+ */
+public class JournalEntityRepositoryAdapter implements EntityRepository {
+
+  private EntityRepository snapshotRepository;
+  private Path snapshotPath;
+  private Path journalPath;
+  private Path rotatedJournalPath;
+  private Gson gson;
+
+  private final Object pendingLock;
+  private StringBuilder pendingRecords;
+  private long appendedSeq;
+
+  private final Object commitLock;
+  private volatile long durableSeq;
+  private long lostSeq;
+  private FileChannel journalChannel;
+
+  public JournalEntityRepositoryAdapter(String snapshotFileName, String journalFileName) {
+    this(new EntityRepositoryAdapter(snapshotFileName), snapshotFileName, journalFileName);
+  }
+
+  public JournalEntityRepositoryAdapter(EntityRepository snapshotRepository,
+      String snapshotFileName, String journalFileName) {
+    this.snapshotRepository = snapshotRepository;
+    this.snapshotPath = Paths.get(snapshotFileName);
+    this.journalPath = Paths.get(journalFileName);
+    this.rotatedJournalPath = Paths.get(journalFileName + ".old");
+    this.gson =
+        new GsonBuilder().registerTypeAdapter(Stats.class, new StatsTypeAdapter()).create();
+
+    this.pendingLock = new Object();
+    this.pendingRecords = new StringBuilder();
+    this.appendedSeq = 0;
+
+    this.commitLock = new Object();
+    this.durableSeq = 0;
+    this.lostSeq = 0;
+    this.journalChannel = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The journal, which is bounded by the snapshot interval, is read up front; the snapshot is then
+   * streamed, each snapshot user being replaced by its last journaled state, if any. The users
+   * registered after the snapshot follow.
+   */
+  @Override
+  public Iterator<User> loadAll() throws Exception {
+    Map<Username, User> journaledUsers = new LinkedHashMap<Username, User>();
+
+    if (isRotatedJournalNewer())
+      replay(rotatedJournalPath, journaledUsers);
+    replay(journalPath, journaledUsers);
+
+    return new ReplayingIterator(snapshotRepository.loadAll(), journaledUsers);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The journal is rotated before writing the snapshot and the rotated journal is deleted once the
+   * snapshot is in place, so that mutations appended meanwhile are never lost and the journal to
+   * replay on restart never grows beyond the mutations of a snapshot interval. Each user is copied
+   * under its own monitor, so the snapshot is consistent once the journal is replayed on it,
+   * without pausing the mutations of the other users. If no mutation has been appended since the
+   * last snapshot, nothing is written.
+   */
+  @Override
+  public void pushAll(Iterator<User> iterator) throws IOException {
+
+    synchronized (commitLock) {
+      commitPending();
+
+      if (journalChannel == null && !Files.exists(journalPath)
+          && !Files.exists(rotatedJournalPath) && Files.exists(snapshotPath))
+        return; // the snapshot is up to date
+
+      if (journalChannel != null) {
+        journalChannel.close();
+        journalChannel = null;
+      }
+
+      if (!isRotatedJournalNewer()) // already covered by the snapshot
+        Files.deleteIfExists(rotatedJournalPath);
+
+      if (Files.exists(journalPath)) {
+        if (Files.exists(rotatedJournalPath)) { // a previous pushAll didn't complete
+          Files.write(rotatedJournalPath, Files.readAllBytes(journalPath),
+              StandardOpenOption.APPEND);
+          Files.delete(journalPath);
+        } else
+          Files.move(journalPath, rotatedJournalPath);
+      }
+    }
+
+    snapshotRepository.pushAll(iterator);
+    Files.deleteIfExists(rotatedJournalPath);
+  }
+
+  @Override
+  public void append(Mutation mutation, User user) throws IOException {
+    long seq;
+
+    synchronized (user) { // records of the same user are appended in mutation order
+      String record = gson.toJson(new Record(mutation, user));
+      synchronized (pendingLock) {
+        pendingRecords.append(record).append('\n');
+        seq = ++appendedSeq;
+      }
+    }
+
+    synchronized (commitLock) {
+      if (durableSeq < seq) { // otherwise committed by the batch of another thread
+        if (seq <= lostSeq) // in the batch of another thread, which failed
+          throw new IOException("Journal batch not written");
+        commitPending();
+      }
+    }
+  }
+
+  /**
+   * Writes all the pending records to the journal and forces them to disk. Must be called holding
+   * {@code commitLock}.
+   */
+  private void commitPending() throws IOException {
+    String batch;
+    long batchSeq;
+
+    synchronized (pendingLock) {
+      if (pendingRecords.length() == 0)
+        return;
+      batch = pendingRecords.toString();
+      batchSeq = appendedSeq;
+      pendingRecords.setLength(0);
+    }
+
+    if (journalChannel == null)
+      journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+    long journalSize = journalChannel.size();
+    try {
+      ByteBuffer buffer = StandardCharsets.UTF_8.encode(batch);
+      while (buffer.hasRemaining())
+        journalChannel.write(buffer);
+      journalChannel.force(false);
+
+    } catch (IOException e) {
+      lostSeq = batchSeq;
+      try { // a torn batch would end the replay of the records appended after it
+        journalChannel.truncate(journalSize);
+      } catch (IOException truncateException) {
+        e.addSuppressed(truncateException);
+      }
+      throw e;
+    }
+
+    durableSeq = batchSeq;
+  }
+
+  /**
+   * A rotated journal newer than the snapshot means that the last {@code pushAll} crashed before
+   * replacing the snapshot, so its records still have to be replayed.
+   */
+  private boolean isRotatedJournalNewer() throws IOException {
+    if (!Files.exists(rotatedJournalPath))
+      return false;
+
+    return !Files.exists(snapshotPath) || Files.getLastModifiedTime(snapshotPath)
+        .compareTo(Files.getLastModifiedTime(rotatedJournalPath)) <= 0;
+  }
+
+  private void replay(Path path, Map<Username, User> users) throws IOException {
+    if (!Files.exists(path))
+      return;
+
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Record record;
+        try {
+          record = gson.fromJson(line, Record.class);
+        } catch (JsonParseException e) { // torn record, written while crashing
+          break;
+        }
+        if (record == null || record.user == null)
+          break;
+        users.put(record.user.getUsername(), record.user);
+      }
+    }
+  }
+
+  private static class Record {
+
+    private Mutation mutation;
+    private User user;
+
+    private Record(Mutation mutation, User user) {
+      this.mutation = mutation;
+      this.user = user;
+    }
+  }
+
+  /**
+   * A {@code ReplayingIterator} iterates over the snapshot users, replacing each of them by its
+   * journaled state if any, and then over the journaled users not in the snapshot.
+   */
+  private static class ReplayingIterator implements Iterator<User> {
+
+    private Iterator<User> snapshotUsers;
+    private Map<Username, User> journaledUsers;
+    private Iterator<User> remainingJournaledUsers;
+
+    private ReplayingIterator(Iterator<User> snapshotUsers, Map<Username, User> journaledUsers) {
+      this.snapshotUsers = snapshotUsers;
+      this.journaledUsers = journaledUsers;
+      this.remainingJournaledUsers = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (remainingJournaledUsers == null && !snapshotUsers.hasNext())
+        remainingJournaledUsers = journaledUsers.values().iterator();
+
+      return remainingJournaledUsers == null || remainingJournaledUsers.hasNext();
+    }
+
+    @Override
+    public User next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      if (remainingJournaledUsers != null)
+        return remainingJournaledUsers.next();
+
+      User snapshotUser = snapshotUsers.next();
+      User journaledUser = journaledUsers.remove(snapshotUser.getUsername());
+      return journaledUser != null ? journaledUser : snapshotUser;
+    }
+  }
+}
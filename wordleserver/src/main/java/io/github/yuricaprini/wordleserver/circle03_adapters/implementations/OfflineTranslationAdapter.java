@@ -0,0 +1,17 @@
+package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
+
+import io.github.yuricaprini.wordleserver.circle02usecases.WordTranslator;
+
+/**
+ * An {@code OfflineTranslationAdapter} is a {@link WordTranslator} standing in for a remote one
+ * when the server runs offline: it never translates anything, so that only the translations
+ * already known, for instance the ones in the file of a {@link CachedTranslationAdapter}, are
+ * used.
+ */
+public class OfflineTranslationAdapter implements WordTranslator {
+
+  @Override
+  public String translate(String word) {
+    return null;
+  }
+}
@@ -1,18 +1,23 @@
 package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
 
-import io.github.yuricaprini.wordleserver.circle02usecases.TimeUseCase;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.RefreshSecretWord;
 import io.github.yuricaprini.wordleserver.circle03_adapters.SecretWordRefresher;
 
 public class RefreshRequestAdapter implements SecretWordRefresher {
 
-  private TimeUseCase refreshSecretWordUseCase;
+  private RefreshSecretWord refreshSecretWordUseCase;
 
-  public RefreshRequestAdapter(TimeUseCase refreshSecretWordUseCase) {
+  public RefreshRequestAdapter(RefreshSecretWord refreshSecretWordUseCase) {
     this.refreshSecretWordUseCase = refreshSecretWordUseCase;
   }
 
   @Override
-  public void refresh() throws Exception {
-    refreshSecretWordUseCase.execute();
+  public void refresh(int number) throws Exception {
+    refreshSecretWordUseCase.publish(number);
+  }
+
+  @Override
+  public void prepare(int number) throws Exception {
+    refreshSecretWordUseCase.prepare(number);
   }
 }
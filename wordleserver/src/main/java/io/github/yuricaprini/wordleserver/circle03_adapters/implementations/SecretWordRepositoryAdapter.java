@@ -3,17 +3,35 @@ package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import io.github.yuricaprini.wordleserver.circle01entities.Word;
 import io.github.yuricaprini.wordleserver.circle02usecases.SecretWordRepository;
 
+/**
+ * A {@code SecretWordRepositoryAdapter} is a {@link SecretWordRepository} backed by the vocabulary
+ * in the {@code words.txt} resource.
+ * <p>
+ * The vocabulary is kept as a sorted array of fixed-size ASCII entries of {@value #ENTRY_LEN}
+ * bytes each, packed one after the other: membership is checked by a binary search comparing the
+ * characters of the word with the bytes of the entries, and a random word is picked in constant
+ * time. Vocabulary lines which are not made of exactly {@value #ENTRY_LEN} ASCII characters are
+ * ignored, since they cannot be words.
+ */
 public class SecretWordRepositoryAdapter implements SecretWordRepository {
 
   private static final String DEFAULT_VOCABULARY_FILENAME = "words.txt";
+  private static final int ENTRY_LEN = Word.FIXED_LEN;
+  private static final char MAX_ASCII = 0x7F;
   private static volatile SecretWordRepository instance;
   private static volatile boolean loaded;
 
-  private HashSet<String> vocabulary;
+  private byte[] vocabulary;
+  private int size;
 
 
   public static SecretWordRepository getInstance() {
@@ -27,38 +45,88 @@ public class SecretWordRepositoryAdapter implements SecretWordRepository {
   }
 
   private SecretWordRepositoryAdapter() {
-    this.vocabulary = new HashSet<String>();
+    this.vocabulary = new byte[0];
+    this.size = 0;
     loaded = false;
   }
 
   @Override
   public boolean contains(String word) throws IOException {
     open();
-    return this.vocabulary.contains(Objects.requireNonNull(word));
+    if (Objects.requireNonNull(word).length() != ENTRY_LEN)
+      return false;
+
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compareEntry(middle, word);
+      if (comparison < 0)
+        low = middle + 1;
+      else if (comparison > 0)
+        high = middle - 1;
+      else
+        return true;
+    }
+    return false;
   }
 
   @Override
   public String getRandom() throws IOException {
     open();
-    int randomIndex = (int) (Math.floor(Math.random() * vocabulary.size()));
-    int currentIndex = 0;
-    String randomWord = null;
-
-    for (String word : vocabulary) {
-      randomWord = word;
-      if (currentIndex == randomIndex)
-        break;
-      currentIndex++;
-    }
+    if (size == 0)
+      return null;
+
+    return new String(vocabulary, ThreadLocalRandom.current().nextInt(size) * ENTRY_LEN,
+        ENTRY_LEN, StandardCharsets.US_ASCII);
+  }
+
+  @Override
+  public int size() throws IOException {
+    open();
+    return size;
+  }
+
+  /**
+   * Gets the word at the specified index of the vocabulary. Words are indexed in alphabetical
+   * order, so the same vocabulary file always yields the same word for the same index.
+   *
+   * @param index the index of the word.
+   * @return the word at {@code index}.
+   * @throws IOException if the vocabulary cannot be loaded.
+   * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}.
+   */
+  @Override
+  public String get(int index) throws IOException {
+    open();
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException();
+
+    return new String(vocabulary, index * ENTRY_LEN, ENTRY_LEN, StandardCharsets.US_ASCII);
+  }
 
-    return randomWord;
+  /**
+   * Private helper method to compare the entry at the specified index with a word of
+   * {@value #ENTRY_LEN} characters.
+   *
+   * @return a negative number, zero or a positive number if the entry is respectively lower,
+   * equal or greater than the word.
+   */
+  private int compareEntry(int index, String word) {
+    int offset = index * ENTRY_LEN;
+    for (int i = 0; i < ENTRY_LEN; i++) {
+      int difference = (vocabulary[offset + i] & 0xFF) - word.charAt(i);
+      if (difference != 0)
+        return difference;
+    }
+    return 0;
   }
 
   private boolean open() throws IOException {
     if (!loaded) { //double check locking: ensures lock and load  only one time.
       synchronized (SecretWordRepositoryAdapter.class) {
         if (!loaded) {
-          this.vocabulary = loadVocabulary();
+          loadVocabulary();
           loaded = true;
         }
       }
@@ -66,16 +134,45 @@ public class SecretWordRepositoryAdapter implements SecretWordRepository {
     return true;
   }
 
-  private HashSet<String> loadVocabulary() throws IOException {
+  private void loadVocabulary() throws IOException {
+    ArrayList<String> words = new ArrayList<String>();
     try (BufferedReader reader = new BufferedReader(new InputStreamReader(Thread.currentThread()
-        .getContextClassLoader().getResourceAsStream(DEFAULT_VOCABULARY_FILENAME)));) {
+        .getContextClassLoader().getResourceAsStream(DEFAULT_VOCABULARY_FILENAME),
+        StandardCharsets.UTF_8));) {
 
       String line;
-      HashSet<String> hashSet = new HashSet<String>();
       while ((line = reader.readLine()) != null) {
-        hashSet.add(line.trim());
+        String word = line.trim();
+        if (isEntry(word))
+          words.add(word);
       }
-      return hashSet;
     }
+
+    Collections.sort(words); // ASCII strings sort as their bytes do
+
+    byte[] packed = new byte[words.size() * ENTRY_LEN];
+    int count = 0;
+    String previous = null;
+    for (String word : words) {
+      if (word.equals(previous))
+        continue;
+      for (int i = 0; i < ENTRY_LEN; i++)
+        packed[count * ENTRY_LEN + i] = (byte) word.charAt(i);
+      count++;
+      previous = word;
+    }
+
+    this.vocabulary =
+        count == words.size() ? packed : Arrays.copyOf(packed, count * ENTRY_LEN);
+    this.size = count;
+  }
+
+  private static boolean isEntry(String word) {
+    if (word.length() != ENTRY_LEN)
+      return false;
+    for (int i = 0; i < ENTRY_LEN; i++)
+      if (word.charAt(i) > MAX_ASCII)
+        return false;
+    return true;
   }
 }
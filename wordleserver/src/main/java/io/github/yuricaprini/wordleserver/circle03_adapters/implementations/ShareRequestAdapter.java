@@ -3,9 +3,8 @@ package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
 import java.net.DatagramPacket;
 import java.net.InetAddress;
 import java.net.MulticastSocket;
-import java.nio.charset.StandardCharsets;
-import com.google.gson.Gson;
 import io.github.yuricaprini.wordleprotocol.dtos.SharedGameResultDTO;
+import io.github.yuricaprini.wordleprotocol.json.JsonCodec;
 import io.github.yuricaprini.wordleserver.circle02usecases.GameResultSharer;
 
 public class ShareRequestAdapter implements GameResultSharer {
@@ -23,7 +22,7 @@ public class ShareRequestAdapter implements GameResultSharer {
 
     try (MulticastSocket multicastSocket = new MulticastSocket()) {
 
-      byte[] data = new Gson().toJson(sharedGameResultDTO).getBytes(StandardCharsets.UTF_8);
+      byte[] data = JsonCodec.toJsonBytes(sharedGameResultDTO);
       InetAddress multicastGroup = InetAddress.getByName(multicastAddr);
       DatagramPacket packet = new DatagramPacket(data, data.length, multicastGroup, multicastPort);
       multicastSocket.send(packet);
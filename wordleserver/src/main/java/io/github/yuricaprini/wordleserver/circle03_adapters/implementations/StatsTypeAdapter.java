@@ -0,0 +1,157 @@
+package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
+
+import java.io.IOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+
+/**
+ * A {@code StatsTypeAdapter} converts {@link Stats} to and from the JSON layout the users have
+ * always been stored with, where the guess distribution is an object keyed by number of guesses:
+ * <pre>
+ * {"totalGames":3,"wonGames":2,"currentStreak":1,"maxStreak":2,
+ *  "guessDistribution":{"1":0,"2":1,...,"12":0},"oldscore":{"value":20}}
+ * </pre>
+ * A guess distribution stored as a plain array is read as well. Missing numbers of guesses count
+ * as zero, and unknown members are skipped.
+ */
+final class StatsTypeAdapter extends TypeAdapter<Stats> {
+
+  @Override
+  public void write(JsonWriter out, Stats stats) throws IOException {
+    if (stats == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginObject();
+    out.name("totalGames").value(stats.getPlayed());
+    out.name("wonGames").value(stats.getWon());
+    out.name("currentStreak").value(stats.getCurrentStreak());
+    out.name("maxStreak").value(stats.getMaxStreak());
+    out.name("guessDistribution").beginObject();
+    for (int guesses = 1; guesses <= Game.MAX_ATTEMPTS; guesses++)
+      out.name(Integer.toString(guesses)).value(stats.getGuessCount(guesses));
+    out.endObject();
+    out.name("oldscore").beginObject().name("value").value(stats.getOldScore().getValue());
+    out.endObject();
+    out.endObject();
+  }
+
+  @Override
+  public Stats read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    int totalGames = 0;
+    int wonGames = 0;
+    int currentStreak = 0;
+    int maxStreak = 0;
+    int[] guessDistribution = new int[Game.MAX_ATTEMPTS];
+    int oldScore = 0;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        continue;
+      }
+
+      switch (name) {
+        case "totalGames":
+          totalGames = in.nextInt();
+          break;
+        case "wonGames":
+          wonGames = in.nextInt();
+          break;
+        case "currentStreak":
+          currentStreak = in.nextInt();
+          break;
+        case "maxStreak":
+          maxStreak = in.nextInt();
+          break;
+        case "guessDistribution":
+          readGuessDistribution(in, guessDistribution);
+          break;
+        case "oldscore":
+          oldScore = readScore(in);
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+
+    return Stats.restore(totalGames, wonGames, currentStreak, maxStreak, guessDistribution,
+        new Score(oldScore));
+  }
+
+  /**
+   * Private helper method to read a guess distribution, either as an object keyed by number of
+   * guesses or as an array.
+   *
+   * @param in the reader.
+   * @param guessDistribution where to store the number of games won with {@code i+1} guesses, for
+   *        each {@code i}.
+   * @throws IOException if an I/O error occurs or the guess distribution is malformed.
+   */
+  private static void readGuessDistribution(JsonReader in, int[] guessDistribution)
+      throws IOException {
+
+    if (in.peek() == JsonToken.BEGIN_ARRAY) {
+      in.beginArray();
+      for (int i = 0; in.hasNext(); i++) {
+        if (i >= guessDistribution.length)
+          throw new JsonSyntaxException("Too many guesses at " + in.getPath());
+        guessDistribution[i] = in.nextInt();
+      }
+      in.endArray();
+      return;
+    }
+
+    in.beginObject();
+    while (in.hasNext()) {
+      String key = in.nextName();
+      int guesses;
+      try {
+        guesses = Integer.parseInt(key);
+      } catch (NumberFormatException e) {
+        throw new JsonSyntaxException(e);
+      }
+      if (guesses < 1 || guesses > guessDistribution.length)
+        throw new JsonSyntaxException("Illegal number of guesses " + key + " at " + in.getPath());
+      guessDistribution[guesses - 1] = in.nextInt();
+    }
+    in.endObject();
+  }
+
+  /**
+   * Private helper method to read a score.
+   *
+   * @param in the reader.
+   * @return the value of the score.
+   * @throws IOException if an I/O error occurs.
+   */
+  private static int readScore(JsonReader in) throws IOException {
+    int value = 0;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      if (in.nextName().equals("value"))
+        value = in.nextInt();
+      else
+        in.skipValue();
+    }
+    in.endObject();
+
+    return value;
+  }
+}
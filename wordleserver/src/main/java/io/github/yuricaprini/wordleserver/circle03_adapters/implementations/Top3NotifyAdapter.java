@@ -1,20 +1,32 @@
 package io.github.yuricaprini.wordleserver.circle03_adapters.implementations;
 
 import java.rmi.RemoteException;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
 import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
 import io.github.yuricaprini.wordleprotocol.exceptions.InvalidTokenException;
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.Top3NotificationRemoteService;
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.Top3NotifyEventRemote;
 import io.github.yuricaprini.wordleserver.circle02usecases.Top3Notifier;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.Authenticator;
 
+/**
+ * A {@code Top3NotifyAdapter} notifies the subscribed clients of the changes of the top 3 through
+ * their remote callbacks.
+ * <p>
+ * Notifying never waits for the callbacks: they are invoked by a dedicated thread, so that a slow
+ * or unreachable client does not hold up the thread which changed the top 3. Only the latest top 3
+ * is delivered when several changes pile up during a delivery.
+ */
 public class Top3NotifyAdapter implements Top3NotificationRemoteService, Top3Notifier {
 
   private static volatile Top3NotifyAdapter instance;
-  private List<Top3NotifyEventRemote> clientsRemote;
+  private CopyOnWriteArrayList<Top3NotifyEventRemote> clientsRemote;
+  private AtomicReference<PlayerDTO[]> pendingTop3;
+  private ExecutorService notifierThread;
 
   public static Top3NotifyAdapter getInstance() {
     if (instance == null) {
@@ -27,33 +39,46 @@ public class Top3NotifyAdapter implements Top3NotificationRemoteService, Top3Not
   }
 
   private Top3NotifyAdapter() {
-    this.clientsRemote = new ArrayList<Top3NotifyEventRemote>();
+    this.clientsRemote = new CopyOnWriteArrayList<Top3NotifyEventRemote>();
+    this.pendingTop3 = new AtomicReference<PlayerDTO[]>();
+    this.notifierThread = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "Top3Notifier");
+      thread.setDaemon(true); // an unfinished delivery must not hold up the shutdown
+      return thread;
+    });
   }
 
   @Override
-  public synchronized void notify(PlayerDTO[] top3) {
-    Iterator<Top3NotifyEventRemote> iterator = clientsRemote.iterator();
-    while (iterator.hasNext()) {
-      Top3NotifyEventRemote clientRemote = iterator.next();
+  public void notify(PlayerDTO[] top3) {
+    if (pendingTop3.getAndSet(top3) == null) // otherwise the pending delivery sends this one
+      notifierThread.execute(this::deliver);
+  }
+
+  /**
+   * Private helper method to deliver the latest top 3 to every subscribed client, unsubscribing the
+   * unreachable ones.
+   */
+  private void deliver() {
+    PlayerDTO[] top3 = pendingTop3.getAndSet(null);
+    for (Top3NotifyEventRemote clientRemote : clientsRemote) { // iterates over a snapshot
       try {
         clientRemote.notify(top3);
       } catch (RemoteException e) {
-        iterator.remove();
+        clientsRemote.remove(clientRemote);
       }
     }
   }
 
   @Override
-  public synchronized void subscribe(Top3NotifyEventRemote clientRemote, AuthToken token)
+  public void subscribe(Top3NotifyEventRemote clientRemote, AuthToken token)
       throws RemoteException, InvalidTokenException {
 
-    token.validate();
-    if (!clientsRemote.contains(clientRemote))
-      clientsRemote.add(clientRemote);
+    Authenticator.authenticate(token);
+    clientsRemote.addIfAbsent(clientRemote);
   }
 
   @Override
-  public synchronized void unsubscribe(Top3NotifyEventRemote stub) {
+  public void unsubscribe(Top3NotifyEventRemote stub) {
     clientsRemote.remove(stub);
   }
 }
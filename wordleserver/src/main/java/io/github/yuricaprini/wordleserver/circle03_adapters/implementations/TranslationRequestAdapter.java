@@ -22,7 +22,7 @@ public class TranslationRequestAdapter implements WordTranslator {
       return jsonResponse.getAsJsonObject("responseData").get("translatedText").getAsString();
 
     } catch (Exception e) {
-      return "*** NONE ***";
+      return null;
     }
   }
 
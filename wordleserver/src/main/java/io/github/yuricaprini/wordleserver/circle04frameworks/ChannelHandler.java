@@ -141,6 +141,28 @@ public abstract class ChannelHandler implements Callable<ChannelHandler> {
    */
   protected abstract void die();
 
+  /**
+   * Sets whether this channel handler may block during its next executions. A dispatcher executing
+   * handlers on threads which serve other channels meanwhile forbids it, and hands the handlers
+   * which have deferred some blocking work off to threads allowed to block. By default blocking is
+   * allowed, and this method does nothing.
+   *
+   * @param isBlockingAllowed {@code true} if this channel handler may block, {@code false}
+   * otherwise.
+   */
+  public void setBlockingAllowed(boolean isBlockingAllowed) {}
+
+  /**
+   * Returns {@code true} if the last execution of this channel handler deferred some work because
+   * it may block while blocking was not allowed. The work is done by the next execution allowed to
+   * block, which should not perform I/O operations on the channel. By default no work is deferred.
+   *
+   * @return {@code true} if some blocking work has been deferred, {@code false} otherwise.
+   */
+  public boolean hasDeferredBlockingWork() {
+    return false;
+  }
+
   /**
    * Abstract factory for {@code ChannelHandler} objects
    * 
@@ -0,0 +1,36 @@
+package io.github.yuricaprini.wordleserver.circle04frameworks;
+
+import java.nio.channels.SocketChannel;
+
+/**
+ * A {@code ConnectionHandler} is a {@link Runnable} which serves a single blocking 
+ * {@link SocketChannel} for its entire life-cycle, performing blocking reads and writes on it 
+ * according to the application business rules.
+ * <p>
+ * Differently from a {@link ChannelHandler}, a connection handler is not driven by the readiness
+ * of its channel: it owns the thread running it until the communication on the channel ceases or
+ * an error occurs, then it closes the channel and terminates.
+ * 
+ * @author Yuri Caprini
+ */
+public interface ConnectionHandler extends Runnable {
+
+  /**
+   * Abstract factory for {@code ConnectionHandler} objects
+   * 
+   * @author Yuri Caprini
+   *
+   */
+  public interface Factory {
+
+    /**
+     * Creates a new instance of {@code ConnectionHandler}
+     * 
+     * @param channel the channel served by this connection handler.
+     * @throws NullPointerException if {@code channel==null}
+     * @throws IllegalArgumentException if {@code channel} is in non-blocking mode
+     * @return a new istance of {@code ConnectionHandler}
+     */
+    public ConnectionHandler getNewConnectionHandler(SocketChannel channel);
+  }
+}
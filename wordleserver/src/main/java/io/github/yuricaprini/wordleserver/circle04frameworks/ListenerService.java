@@ -50,6 +50,28 @@ public abstract class ListenerService implements Service {
     this.handlerFactory = Objects.requireNonNull(handlerFactory);
   }
 
+  /**
+   * Abstract {@code ListenerService} constructor for listeners which serve the established client 
+   * channels by themselves, instead of registering them to a dispatcher. Each newly constructed 
+   * listener must have at least a {@code listeningChannel} to listen for incoming client 
+   * connection requests.
+   * 
+   * @param listeningChannel the listening channel used by the newly created listener service.
+   * 
+   * @throws NullPointerException if {@code listeningChannel==null}  
+   * @throws IllegalArgumentException if {@code listeningChannel} is not open or in non-blocking
+   *         mode.
+   */
+  protected ListenerService(ServerSocketChannel listeningChannel) {
+
+    if (!Objects.requireNonNull(listeningChannel).isOpen() || !listeningChannel.isBlocking())
+      throw new IllegalArgumentException();
+
+    this.listeningChannel = listeningChannel;
+    this.registrationFacade = null;
+    this.handlerFactory = null;
+  }
+
   /**
    * Performs an infinite loop, continuosly listening for new connection requests from clients.
    * <p>
@@ -4,10 +4,25 @@ import io.github.yuricaprini.wordleserver.circle05configurations.Service;
 
 public abstract class PersistenceService implements Service {
 
+  private Long snapshotInterval;
+
   private boolean isUpAndRunning;
   private boolean isOnShutdown;
   private boolean isTerminated;
 
+  /**
+   * Constructs a new {@code PersistenceService} which stores the status every
+   * {@code snapshotInterval} minutes while running, besides storing it on shutdown. A snapshot
+   * which fails is reported and retried at the next one, the status being stored on shutdown
+   * anyway.
+   *
+   * @param snapshotInterval the minutes between two snapshots of the status, {@code null} or not
+   *        positive to store the status only on shutdown.
+   */
+  public PersistenceService(Long snapshotInterval) {
+    this.snapshotInterval = snapshotInterval;
+  }
+
   @Override
   public Service call() throws Exception {
 
@@ -17,7 +32,15 @@ public abstract class PersistenceService implements Service {
 
     notifyAllIsUpAndRunning();
 
-    waitIsOnShutdown();
+    if (snapshotInterval != null && snapshotInterval > 0)
+      while (!waitIsOnShutdown(snapshotInterval * 60 * 1000))
+        try {
+          storeStatus();
+        } catch (Exception e) {
+          e.printStackTrace();
+        }
+    else
+      waitIsOnShutdown(0);
 
     storeStatus();
 
@@ -48,6 +71,13 @@ public abstract class PersistenceService implements Service {
 
   protected abstract void loadStatus() throws Exception;
 
+  /**
+   * Stores the status, both on shutdown and, periodically, while the server is running. It's
+   * executed by the persistence thread, so it must not stop the other services from changing the
+   * status meanwhile.
+   *
+   * @throws Exception if the status cannot be stored.
+   */
   protected abstract void storeStatus() throws Exception;
 
   private void initState() {
@@ -86,11 +116,22 @@ public abstract class PersistenceService implements Service {
     }
   }
 
-  private void waitIsOnShutdown() throws InterruptedException {
+  /**
+   * Waits until this service is on shutdown or {@code timeout} milliseconds have elapsed.
+   *
+   * @param timeout the maximum milliseconds to wait, {@code 0} to wait without a time limit.
+   * @return {@code true} if this service is on shutdown, {@code false} if the time has elapsed.
+   */
+  private boolean waitIsOnShutdown(long timeout) throws InterruptedException {
     synchronized (this) {
+      long deadline = System.currentTimeMillis() + timeout;
       while (!isOnShutdown) {
-        this.wait();
+        long remaining = deadline - System.currentTimeMillis();
+        if (timeout > 0 && remaining <= 0)
+          return false;
+        this.wait(timeout > 0 ? remaining : 0);
       }
+      return true;
     }
   }
 
@@ -1,16 +1,39 @@
 package io.github.yuricaprini.wordleserver.circle04frameworks;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import io.github.yuricaprini.wordleserver.circle05configurations.Service;
 
 public abstract class SecretWordRefresherService implements Service {
 
   private Long secretWordRefreshInterval;
+  private int preparedSecretWords;
+  private ScheduledExecutorService scheduler;
 
   private Thread currentThread;
   private boolean isUpAndRunning;
 
-  public SecretWordRefresherService(Long secretWordRefreshInterval) {
+  /**
+   * Constructs a new {@code SecretWordRefresherService} which refreshes the secret word at every
+   * multiple of {@code secretWordRefreshInterval} minutes since the epoch, the secret word
+   * refreshed at the {@code n}-th multiple being number {@code n}. The secret words of the next
+   * {@code preparedSecretWords} refreshes are prepared in advance, as soon as the previous one has
+   * been refreshed.
+   *
+   * @param secretWordRefreshInterval the minutes between two refreshes of the secret word.
+   * @param preparedSecretWords how many secret words to prepare in advance.
+   * @throws IllegalArgumentException if {@code secretWordRefreshInterval <= 0 ||}
+   *         {@code preparedSecretWords < 0}.
+   */
+  public SecretWordRefresherService(Long secretWordRefreshInterval, int preparedSecretWords) {
+    if (secretWordRefreshInterval <= 0 || preparedSecretWords < 0)
+      throw new IllegalArgumentException();
+
     this.secretWordRefreshInterval = secretWordRefreshInterval;
+    this.preparedSecretWords = preparedSecretWords;
+    this.scheduler = Executors.newScheduledThreadPool(2); // one refreshes while one prepares
   }
 
   @Override
@@ -18,19 +41,18 @@ public abstract class SecretWordRefresherService implements Service {
 
     initState();
 
-    this.refreshSecretWord();
+    int number = numberAt(System.currentTimeMillis());
+    this.refreshSecretWord(number);
 
     notifyAllIsUpAndRunning();
 
-    while (!Thread.interrupted()) {
-
-      try {
-        Thread.sleep(secretWordRefreshInterval * 60 * 1000);
-      } catch (InterruptedException e) {
-        break;
-      }
+    scheduleRefresh(number + 1);
+    schedulePreparation(number);
 
-      this.refreshSecretWord();
+    try {
+      while (!scheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS));
+    } catch (InterruptedException e) {
+      scheduler.shutdownNow();
     }
 
     return this;
@@ -43,7 +65,7 @@ public abstract class SecretWordRefresherService implements Service {
 
   @Override
   public void shutdown() {
-    currentThread.interrupt();
+    scheduler.shutdownNow();
   }
 
   @Override
@@ -56,7 +78,9 @@ public abstract class SecretWordRefresherService implements Service {
     currentThread.join();
   }
 
-  protected abstract void refreshSecretWord() throws Exception;
+  protected abstract void refreshSecretWord(int number) throws Exception;
+
+  protected abstract void prepareSecretWord(int number) throws Exception;
 
   private void initState() {
     this.currentThread = Thread.currentThread();
@@ -77,4 +101,76 @@ public abstract class SecretWordRefresherService implements Service {
       this.notifyAll();
     }
   }
+
+  /**
+   * Schedules the refresh of the secret word with the specified number, at the start of its
+   * interval.
+   *
+   * @param number the number of the secret word.
+   */
+  private void scheduleRefresh(int number) {
+    long delay = startOf(number) - System.currentTimeMillis();
+    try {
+      scheduler.schedule(() -> refresh(number), Math.max(delay, 0), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // on shutdown
+    }
+  }
+
+  /**
+   * Refreshes the secret word with the specified number, or with the number of the current
+   * interval if it is late, then schedules the next refresh and the preparation of the following
+   * secret words. Does nothing but rescheduling if it is early, since the scheduler does not follow
+   * the wall clock.
+   *
+   * @param number the number of the secret word.
+   */
+  private void refresh(int number) {
+    long now = System.currentTimeMillis();
+    if (now < startOf(number)) {
+      scheduleRefresh(number);
+      return;
+    }
+
+    int current = Math.max(number, numberAt(now));
+    try {
+      refreshSecretWord(current);
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+
+    scheduleRefresh(current + 1);
+    schedulePreparation(current);
+  }
+
+  /**
+   * Schedules the preparation of the secret words following the one with the specified number.
+   *
+   * @param number the number of the last refreshed secret word.
+   */
+  private void schedulePreparation(int number) {
+    if (preparedSecretWords == 0)
+      return;
+
+    try {
+      scheduler.execute(() -> {
+        for (int i = 1; i <= preparedSecretWords && !Thread.currentThread().isInterrupted(); i++)
+          try {
+            prepareSecretWord(number + i);
+          } catch (Exception e) {
+            e.printStackTrace();
+          }
+      });
+    } catch (RejectedExecutionException e) {
+      // on shutdown
+    }
+  }
+
+  private int numberAt(long time) {
+    return (int) (time / (secretWordRefreshInterval * 60 * 1000));
+  }
+
+  private long startOf(int number) {
+    return number * secretWordRefreshInterval * 60 * 1000;
+  }
 }
@@ -7,7 +7,8 @@ public class BasicPersistenceService extends PersistenceService {
 
   private ServerStatus serverStatus;
 
-  public BasicPersistenceService(ServerStatus serverStatus) {
+  public BasicPersistenceService(Long snapshotInterval, ServerStatus serverStatus) {
+    super(snapshotInterval);
     this.serverStatus = serverStatus;
   }
 
@@ -7,15 +7,20 @@ public class BasicSecretWordRefresherService extends SecretWordRefresherService
 
   private SecretWordRefresher secretWordRefresher;
 
-  public BasicSecretWordRefresherService(Long secretWordRefreshInterval,
+  public BasicSecretWordRefresherService(Long secretWordRefreshInterval, int preparedSecretWords,
       SecretWordRefresher secretWordRefresher) {
 
-    super(secretWordRefreshInterval);
+    super(secretWordRefreshInterval, preparedSecretWords);
     this.secretWordRefresher = secretWordRefresher;
   }
 
   @Override
-  protected void refreshSecretWord() throws Exception {
-    secretWordRefresher.refresh();
+  protected void refreshSecretWord(int number) throws Exception {
+    secretWordRefresher.refresh(number);
+  }
+
+  @Override
+  protected void prepareSecretWord(int number) throws Exception {
+    secretWordRefresher.prepare(number);
   }
 }
@@ -28,6 +28,9 @@ public class ClientChannelHandler extends ChannelHandler implements ClientChanne
   private SocketChannel clientChannel;
   private ClientRequestHandler requestHandler;
   private boolean shutDownByClient;
+  private boolean closeRequested;
+  private boolean blockingAllowed;
+  private boolean blockingRequestDeferred;
   private boolean dead;
 
   /**
@@ -51,31 +54,40 @@ public class ClientChannelHandler extends ChannelHandler implements ClientChanne
     this.clientChannel = (SocketChannel) Objects.requireNonNull(channel);
     this.requestHandler = Objects.requireNonNull(requestHandler);
     this.shutDownByClient = false;
+    this.closeRequested = false;
+    this.blockingAllowed = true;
+    this.blockingRequestDeferred = false;
     this.dead = false;
   }
 
   @Override
   public void handleChannel() throws IOException {
 
+    blockingRequestDeferred = false;
+
     if (isChannelReadyToWrite())
       outputQueue.drainTo(clientChannel);
 
-    if (isChannelReadyToRead())
+    if (isChannelReadyToRead() && !closeRequested)
       if (inputQueue.fillFrom(clientChannel) == -1)
         shutDownByClient = true;
 
     try {
-      requestHandler.handleRequest(this);
+      if (!closeRequested)
+        requestHandler.handleRequest(this);
     } catch (Exception e) { // bad request or too large request or unlikely exceptions
       e.printStackTrace();
       this.die();
     }
 
-    setChannelInterestedToRead(!shutDownByClient);
+    // a backlogged client is not read until its responses drain, the requests already read being
+    // fulfilled on the following writes
+    setChannelInterestedToRead(!shutDownByClient && !closeRequested && !isOutputBacklogged());
 
     setChannelInterestedToWrite(!outputQueue.isEmpty());
 
-    if (shutDownByClient && outputQueue.isEmpty()) // nothing to read and nothing to write
+    if ((shutDownByClient || closeRequested) && outputQueue.isEmpty()
+        && !blockingRequestDeferred) // nothing more to do
       this.die();
   }
 
@@ -102,6 +114,8 @@ public class ClientChannelHandler extends ChannelHandler implements ClientChanne
   @Override
   protected void die() {
     this.dead = true;
+    this.inputQueue.clear();
+    this.outputQueue.clear();
     System.out.println("*** Client " + clientChannel.socket().getInetAddress() + ":"
         + clientChannel.socket().getPort() + " disconnected ***");
   }
@@ -121,6 +135,31 @@ public class ClientChannelHandler extends ChannelHandler implements ClientChanne
     return outputQueue;
   }
 
+  @Override
+  public void setBlockingAllowed(boolean isBlockingAllowed) {
+    this.blockingAllowed = isBlockingAllowed;
+  }
+
+  @Override
+  public boolean hasDeferredBlockingWork() {
+    return this.blockingRequestDeferred;
+  }
+
+  @Override
+  public boolean isBlockingAllowed() {
+    return this.blockingAllowed;
+  }
+
+  @Override
+  public void deferBlockingRequest() {
+    this.blockingRequestDeferred = true;
+  }
+
+  @Override
+  public void closeAfterWriting() {
+    this.closeRequested = true;
+  }
+
   /**
    * Checks the handled channel {@code ready-operation set} to know if it's ready to write.
    * 
@@ -0,0 +1,107 @@
+package io.github.yuricaprini.wordleserver.circle04frameworks.implementations;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleserver.circle03_adapters.ClientChannelFacade;
+import io.github.yuricaprini.wordleserver.circle03_adapters.ClientRequestHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ConnectionHandler;
+
+/**
+ * A {@code ClientConnectionHandler} is an implementation of {@code ConnectionHandler} which serves
+ * the blocking channel resulting from the acceptance of a connection request made by a Wordle 
+ * client.
+ * <p>
+ * It repeatedly blocks reading from its channel, makes use of a {@link ClientRequestHandler} to 
+ * parse and fullfill the incoming requests, then blocks until the responses have been completely
+ * written, until the client shuts down the connection or asks to close it.
+ * 
+ * @author Yuri Caprini
+ */
+public class ClientConnectionHandler implements ConnectionHandler, ClientChannelFacade {
+
+  private InputQueue inputQueue;
+  private OutputQueue outputQueue;
+  private SocketChannel clientChannel;
+  private ClientRequestHandler requestHandler;
+  private boolean closeRequested;
+
+  /**
+  * Constructs a new {@code ClientConnectionHandler}.
+  * 
+  * @param channel          the client channel served by this client connection handler.
+  * @param requestHandler   the handler used to fulfill incoming requests from {@code channel}.
+  * @param inputQueue       the queue for managing incoming data.
+  * @param outputQueue      the queue for managing outgoing data.
+  *
+  * @throws NullPointerException if {@code channel==null || requestHandler==null || 
+  * inputQueue == null || outputQueue == null} 
+  * @throws IllegalArgumentException if {@code channel} is in non-blocking mode
+  */
+  public ClientConnectionHandler(SocketChannel channel, ClientRequestHandler requestHandler,
+      InputQueue inputQueue, OutputQueue outputQueue) {
+
+    if (!Objects.requireNonNull(channel).isBlocking())
+      throw new IllegalArgumentException();
+
+    this.clientChannel = channel;
+    this.requestHandler = Objects.requireNonNull(requestHandler);
+    this.inputQueue = Objects.requireNonNull(inputQueue);
+    this.outputQueue = Objects.requireNonNull(outputQueue);
+    this.closeRequested = false;
+  }
+
+  @Override
+  public void run() {
+
+    try {
+      while (!Thread.currentThread().isInterrupted() && !closeRequested) {
+
+        if (inputQueue.fillFrom(clientChannel) == -1) // shut down by client
+          break;
+
+        // every complete request already buffered is fulfilled before reading again, a batch at a
+        // time if the responses would pile up
+        boolean isBatchWritten;
+        do {
+          requestHandler.handleRequest(this);
+          isBatchWritten = !outputQueue.isEmpty();
+
+          while (!outputQueue.isEmpty())
+            outputQueue.drainTo(clientChannel);
+        } while (isBatchWritten && !closeRequested);
+      }
+
+    } catch (Exception e) { // bad request or too large request or I/O errors
+      e.printStackTrace();
+
+    } finally {
+      inputQueue.clear();
+      outputQueue.clear();
+      System.out.println("*** Client " + clientChannel.socket().getInetAddress() + ":"
+          + clientChannel.socket().getPort() + " disconnected ***");
+      try {
+        clientChannel.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+  }
+
+  @Override
+  public InputQueue getInputQueue() {
+    return inputQueue;
+  }
+
+  @Override
+  public OutputQueue getOutputQueue() {
+    return outputQueue;
+  }
+
+  @Override
+  public void closeAfterWriting() {
+    this.closeRequested = true;
+  }
+}
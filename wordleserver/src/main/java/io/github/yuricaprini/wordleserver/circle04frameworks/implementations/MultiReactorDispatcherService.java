@@ -0,0 +1,355 @@
+package io.github.yuricaprini.wordleserver.circle04frameworks.implementations;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ChannelHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.DispatcherService;
+
+/**
+ * A {@code MultiReactorDispatcherService} is an implementation of {@code DispatcherService} which
+ * multiplexes the registered channels over several reactors, each one owning its own
+ * {@link Selector} and running its own selection loop on a dedicated thread.
+ * <p>
+ * At registration time each channel is bound to a single reactor, chosen according to a
+ * {@link BalancingPolicy}, and it stays there for its entire life-cycle. Channel handlers are
+ * executed inline by the thread of the reactor owning their channel, so that no hand-off to a
+ * thread pool, and no selector wakeup, is needed to resume the selection of a channel after its
+ * handler has terminated. While a handler runs, the other channels of its reactor wait: handlers
+ * are therefore not allowed to block on a reactor. A handler which has work that may block, such
+ * as a request waiting for the journal {@code fsync}, defers it: its channel is then taken out of
+ * selection and the handler is executed again by the given {@code workerThreads}, after which it
+ * is posted back to its reactor, which resumes the selection of the channel.
+ * <p>
+ * The first reactor runs on the dispatcher thread itself, the other ones run on the threads of the
+ * given {@code reactorThreads} executor. If a reactor fails, its channels are closed and the
+ * failure ends the dispatcher, as a failure of the first reactor does.
+ *
+ * @author Yuri Caprini
+ */
+public class MultiReactorDispatcherService extends DispatcherService {
+
+  /**
+   * The policy used to choose the reactor a newly registered channel is bound to.
+   */
+  public enum BalancingPolicy {
+    /** Channels are bound to reactors in turn. */
+    ROUND_ROBIN,
+    /** Channels are bound to the reactor currently handling the fewest channels. */
+    LEAST_LOADED
+  }
+
+  private Reactor[] reactors;
+  private ExecutorService reactorThreads;
+  private ExecutorService workerThreads;
+  private BalancingPolicy balancingPolicy;
+  private AtomicInteger nextReactor;
+  private boolean areReactorsStarted;
+
+  /**
+   * Constructs a new {@code MultiReactorDispatcherService} which will multiplex the channels
+   * registered to it with the given {@code selectors}, one per reactor, will run the reactors
+   * after the first one with the specified {@code reactorThreads}, will run the handlers which may
+   * block with the specified {@code workerThreads} and will bind channels to reactors according to
+   * the given {@code balancingPolicy}.
+   *
+   * @param selectors the selectors used by the reactors of this dispatcher, one per reactor.
+   * @param reactorThreads the executor used to run the reactors after the first one; it must be
+   *        able to run {@code selectors.length - 1} tasks concurrently. It can be {@code null} if
+   *        there is a single reactor.
+   * @param workerThreads the executor used to run the handlers which have deferred some blocking
+   *        work.
+   * @param balancingPolicy the policy used to bind newly registered channels to reactors.
+   * @throws NullPointerException if {@code selectors==null || workerThreads==null ||}
+   *         {@code balancingPolicy==null}, if
+   *         {@code reactorThreads==null} while there are several reactors or if any of the
+   *         {@code selectors} is {@code null}.
+   * @throws IllegalArgumentException if {@code selectors} is empty or any of them is not open.
+   */
+  public MultiReactorDispatcherService(Selector[] selectors, ExecutorService reactorThreads,
+      ExecutorService workerThreads, BalancingPolicy balancingPolicy) {
+
+    super(firstOf(selectors));
+
+    this.workerThreads = Objects.requireNonNull(workerThreads);
+    this.reactors = new Reactor[selectors.length];
+    for (int i = 0; i < selectors.length; i++) {
+      if (!Objects.requireNonNull(selectors[i]).isOpen())
+        throw new IllegalArgumentException();
+      this.reactors[i] = new Reactor(selectors[i], workerThreads);
+    }
+
+    this.reactorThreads =
+        selectors.length > 1 ? Objects.requireNonNull(reactorThreads) : reactorThreads;
+    this.balancingPolicy = Objects.requireNonNull(balancingPolicy);
+    this.nextReactor = new AtomicInteger(0);
+    this.areReactorsStarted = false;
+  }
+
+  @Override
+  protected void dispatch() throws IOException {
+
+    if (!areReactorsStarted) {
+      for (int i = 1; i < reactors.length; i++) {
+        Reactor reactor = reactors[i];
+        reactorThreads.execute(() -> {
+          reactor.run();
+          reactors[0].selector.wakeup(); // lets the dispatcher notice if the reactor failed
+        });
+      }
+      areReactorsStarted = true;
+    }
+
+    reactors[0].select();
+
+    for (int i = 1; i < reactors.length; i++)
+      if (reactors[i].failure != null)
+        throw new IOException("Reactor " + i + " failed", reactors[i].failure);
+  }
+
+  @Override
+  protected void cleanup() throws IOException, InterruptedException {
+
+    // the channels of a reactor are only touched by its own thread: the other reactors close
+    // theirs when their loop ends, the first one is run by this thread
+    if (this.reactorThreads != null) {
+      this.reactorThreads.shutdownNow(); // interrupts the reactors, waking them up from selection
+      if (!this.reactorThreads.awaitTermination(5, TimeUnit.SECONDS))
+        System.err.println("Reactors still running, their selectors are closed under them");
+    }
+
+    reactors[0].closeChannels();
+
+    for (int i = 1; i < reactors.length; i++)
+      reactors[i].selector.close(); // makes a reactor still running fail and close its channels
+
+    this.workerThreads.shutdown(); // leaves a chance to the running handlers to finish
+    if (!this.workerThreads.awaitTermination(5, TimeUnit.SECONDS))
+      this.workerThreads.shutdownNow();
+  }
+
+  @Override
+  public void register(ChannelHandler channelHandler) throws InterruptedException, IOException {
+
+    if (Objects.requireNonNull(channelHandler).getChannel().isBlocking())
+      throw new IllegalArgumentException();
+
+    Reactor reactor = chooseReactor();
+    reactor.load.incrementAndGet();
+    reactor.pendingRegistrations.add(channelHandler); // actual registration is done by the reactor
+    reactor.selector.wakeup();
+  }
+
+  private static Selector firstOf(Selector[] selectors) {
+
+    if (Objects.requireNonNull(selectors).length == 0)
+      throw new IllegalArgumentException();
+
+    return selectors[0];
+  }
+
+  /**
+   * Chooses the reactor a newly registered channel will be bound to, according to the balancing
+   * policy of this dispatcher.
+   *
+   * @return the chosen reactor.
+   */
+  private Reactor chooseReactor() {
+
+    if (balancingPolicy == BalancingPolicy.ROUND_ROBIN)
+      return reactors[Math.floorMod(nextReactor.getAndIncrement(), reactors.length)];
+
+    Reactor leastLoaded = reactors[0];
+    for (int i = 1; i < reactors.length; i++)
+      if (reactors[i].load.get() < leastLoaded.load.get())
+        leastLoaded = reactors[i];
+    return leastLoaded;
+  }
+
+  /**
+   * A {@code Reactor} owns a selector and runs the selection loop for the channels bound to it,
+   * executing their channel handlers inline, except for the work which may block.
+   */
+  private static class Reactor implements Runnable {
+
+    private Selector selector;
+    private ExecutorService workerThreads;
+    private Queue<ChannelHandler> pendingRegistrations;
+    private Queue<ChannelHandler> completedHandoffs;
+    private Set<SelectableChannel> channels;
+    private AtomicInteger load;
+    private volatile Exception failure;
+
+    private Reactor(Selector selector, ExecutorService workerThreads) {
+      this.selector = selector;
+      this.workerThreads = workerThreads;
+      this.pendingRegistrations = new ConcurrentLinkedQueue<ChannelHandler>();
+      this.completedHandoffs = new ConcurrentLinkedQueue<ChannelHandler>();
+      this.channels = new HashSet<SelectableChannel>();
+      this.load = new AtomicInteger(0);
+      this.failure = null;
+    }
+
+    /**
+     * Runs the selection loop until interruption. When the loop ends, the channels bound to this
+     * reactor are closed, since no one would serve them anymore, and its failure, if any, is
+     * recorded.
+     */
+    @Override
+    public void run() {
+      try {
+        while (!Thread.interrupted())
+          this.select();
+      } catch (IOException | RuntimeException e) { // e.g. ClosedSelectorException
+        e.printStackTrace();
+        this.failure = e;
+      } finally {
+        closeChannels();
+      }
+    }
+
+    /**
+     * Performs a round of selection: registers the pending channels and resumes the ones whose
+     * handlers have come back from the worker threads, then executes the handlers of the selected
+     * channels and resumes their selection according to the updated
+     * {@code interest-operation set}, or hands them off if they have deferred some blocking work.
+     *
+     * @throws IOException if an I/O error occurs during selection.
+     */
+    private void select() throws IOException {
+
+      this.selector.select(); // wakes up on wakeup method or interruption
+
+      registerPendingChannels();
+      resumeHandedOffChannels();
+
+      Set<SelectionKey> selectedKeys = this.selector.selectedKeys();
+
+      for (SelectionKey key : selectedKeys) {
+        if (key.isValid()) {
+
+          ChannelHandler channelHandler = (ChannelHandler) key.attachment();
+
+          channelHandler.setChannelReadyOps(key.readyOps());
+          channelHandler.setChannelInterestOps(key.interestOps());
+
+          try {
+            channelHandler.call();
+          } catch (Exception e) {
+            e.printStackTrace();
+          }
+
+          if (!channelHandler.isDead() && channelHandler.hasDeferredBlockingWork())
+            handOff(key, channelHandler);
+          else
+            resumeOrCancel(key, channelHandler);
+        }
+      }
+
+      selectedKeys.clear();
+    }
+
+    private void registerPendingChannels() throws IOException {
+
+      ChannelHandler channelHandler;
+      while ((channelHandler = pendingRegistrations.poll()) != null) {
+        SelectableChannel channel = channelHandler.getChannel();
+        try {
+          channelHandler.setBlockingAllowed(false);
+          SelectionKey key =
+              channel.register(selector, channelHandler.getChannelInterestOps(), channelHandler);
+          channels.add(channel);
+          resumeOrCancel(key, channelHandler);
+        } catch (ClosedChannelException e) { // closed before being served
+          load.decrementAndGet();
+        }
+      }
+    }
+
+    /**
+     * Stops the selection of the channel of the specified handler and executes the handler on a
+     * worker thread, where it is allowed to block; once done, the handler is posted back to this
+     * reactor. The handler performs no I/O operation on the channel meanwhile.
+     *
+     * @param key the selection key of the channel.
+     * @param channelHandler the handler which has deferred some blocking work.
+     */
+    private void handOff(SelectionKey key, ChannelHandler channelHandler) {
+
+      key.interestOps(0);
+      channelHandler.setChannelReadyOps(0);
+      channelHandler.setBlockingAllowed(true);
+      try {
+        workerThreads.execute(() -> {
+          try {
+            channelHandler.call();
+          } catch (Exception e) {
+            e.printStackTrace();
+          } finally {
+            channelHandler.setBlockingAllowed(false);
+            completedHandoffs.add(channelHandler);
+            selector.wakeup();
+          }
+        });
+      } catch (RejectedExecutionException e) { // on shutdown, the channel is closed on cleanup
+        channelHandler.setBlockingAllowed(false);
+      }
+    }
+
+    private void resumeHandedOffChannels() {
+
+      ChannelHandler channelHandler;
+      while ((channelHandler = completedHandoffs.poll()) != null) {
+        SelectionKey key = channelHandler.getChannel().keyFor(selector);
+        if (key != null && key.isValid())
+          resumeOrCancel(key, channelHandler);
+      }
+    }
+
+    private void resumeOrCancel(SelectionKey key, ChannelHandler channelHandler) {
+
+      if (channelHandler.isDead()) {
+        key.cancel();
+        channels.remove(key.channel());
+        load.decrementAndGet();
+        try {
+          key.channel().close();
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      } else
+        key.interestOps(channelHandler.getChannelInterestOps());
+    }
+
+    /**
+     * Closes the channels bound to this reactor, including the ones still waiting to be
+     * registered. Must be called by the thread of this reactor, once its selection loop is over.
+     */
+    private void closeChannels() {
+
+      ChannelHandler channelHandler;
+      while ((channelHandler = pendingRegistrations.poll()) != null)
+        channels.add(channelHandler.getChannel());
+
+      for (SelectableChannel channel : channels)
+        try {
+          channel.close();
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      channels.clear();
+      load.set(0);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.yuricaprini.wordleserver.circle04frameworks.implementations;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ConnectionHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ListenerService;
+
+/**
+ * A {@code ThreadPerConnectionListenerService} is an implementation of {@code ListenerService} 
+ * which, instead of registering the established client channels to a dispatcher, leaves them in 
+ * blocking mode and serves each of them with a {@link ConnectionHandler} running on a thread of
+ * its own.
+ * <p>
+ * Connection threads are created by the given {@link ThreadFactory}: when it creates virtual 
+ * threads, an idle client only costs a parked virtual thread and its input buffer.
+ * <p>
+ * When the listener stops, the connection threads still running are interrupted, which closes
+ * their channels.
+ * 
+ * @author Yuri Caprini
+ */
+public class ThreadPerConnectionListenerService extends ListenerService {
+
+  private ConnectionHandler.Factory connectionHandlerFactory;
+  private ThreadFactory connectionThreadFactory;
+  private Set<Thread> connectionThreads;
+
+  /**
+   * Constructs a new {@code ThreadPerConnectionListenerService} which will listen on the provided
+   * {@code listeningChannel} and will serve each established client channel with a connection
+   * handler created with the given {@code connectionHandlerFactory}, running on a thread created 
+   * with the given {@code connectionThreadFactory}.
+   * 
+   * @param listeningChannel the listening channel used by the newly created listener service.
+   * @param connectionHandlerFactory the factory used to create connection handlers.
+   * @param connectionThreadFactory the factory used to create connection threads.
+   * 
+   * @throws NullPointerException if {@code listeningChannel==null || 
+   *         connectionHandlerFactory == null || connectionThreadFactory == null}  
+   * @throws IllegalArgumentException if {@code listeningChannel} is not open or in non-blocking
+   *         mode.
+   */
+  public ThreadPerConnectionListenerService(ServerSocketChannel listeningChannel,
+      ConnectionHandler.Factory connectionHandlerFactory, ThreadFactory connectionThreadFactory) {
+
+    super(listeningChannel);
+    this.connectionHandlerFactory = Objects.requireNonNull(connectionHandlerFactory);
+    this.connectionThreadFactory = Objects.requireNonNull(connectionThreadFactory);
+    this.connectionThreads = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * When the loop ends, the connection threads still running are interrupted.
+   */
+  @Override
+  public ListenerService call() throws Exception {
+    try {
+      return super.call();
+    } finally {
+      for (Thread connectionThread : connectionThreads)
+        connectionThread.interrupt(); // the blocked I/O operations close the channels
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void listen() throws InterruptedException, IOException, Exception {
+
+    SocketChannel channel = this.listeningChannel.accept();
+    ConnectionHandler handler = connectionHandlerFactory.getNewConnectionHandler(channel);
+    Thread connectionThread = connectionThreadFactory.newThread(() -> {
+      try {
+        handler.run();
+      } finally {
+        connectionThreads.remove(Thread.currentThread());
+      }
+    });
+    connectionThreads.add(connectionThread);
+    connectionThread.start();
+
+    System.out.println("*** Client " + channel.socket().getInetAddress() + ":"
+        + channel.socket().getPort() + " connected ***");
+  }
+}
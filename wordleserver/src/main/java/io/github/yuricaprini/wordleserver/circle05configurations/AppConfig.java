@@ -1,26 +1,41 @@
 package io.github.yuricaprini.wordleserver.circle05configurations;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.rmi.Remote;
+import java.util.EnumMap;
 import java.util.Hashtable;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.LinkedBlockingDeque;
 import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.ioutils.BufferPool;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.Top3NotificationRemoteService;
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.UserRegistrationRemoteService;
+import io.github.yuricaprini.wordleserver.circle01entities.Sessions;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
 import io.github.yuricaprini.wordleserver.circle02usecases.GameResultSharer;
 import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
 import io.github.yuricaprini.wordleserver.circle02usecases.SecretWordRepository;
 import io.github.yuricaprini.wordleserver.circle02usecases.Top3Notifier;
+import io.github.yuricaprini.wordleserver.circle02usecases.WordTranslator;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.LoadEntities;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.RefreshSecretWord;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.RegisterUser;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.StoreEntities;
 import io.github.yuricaprini.wordleserver.circle03_adapters.ClientRequestHandler;
 import io.github.yuricaprini.wordleserver.circle03_adapters.SecretWordRefresher;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.BinaryEntityRepositoryAdapter;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.CachedTranslationAdapter;
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.ClientRequestAdapter;
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.EntityRepositoryAdapter;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.JournalEntityRepositoryAdapter;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.OfflineTranslationAdapter;
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.PersistenceRequestAdapter;
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.RefreshRequestAdapter;
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.SecretWordRepositoryAdapter;
@@ -28,6 +43,7 @@ import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.Shar
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.Top3NotifyAdapter;
 import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.TranslationRequestAdapter;
 import io.github.yuricaprini.wordleserver.circle04frameworks.ChannelHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ConnectionHandler;
 import io.github.yuricaprini.wordleserver.circle04frameworks.DispatcherService;
 import io.github.yuricaprini.wordleserver.circle04frameworks.ListenerService;
 import io.github.yuricaprini.wordleserver.circle04frameworks.PersistenceService;
@@ -38,16 +54,39 @@ import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.Bas
 import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.BasicPersistenceService;
 import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.BasicRemoteExposerService;
 import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.BasicSecretWordRefresherService;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.MultiReactorDispatcherService;
 import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.MultithreadedDispatcherService;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.ThreadPerConnectionListenerService;
 import io.github.yuricaprini.wordleserver.circle05configurations.factories.ChannelHandlerServiceFactory;
+import io.github.yuricaprini.wordleserver.circle05configurations.factories.ConnectionHandlerServiceFactory;
 import io.github.yuricaprini.wordleserver.circle05configurations.factories.RegisteredUserUseCaseFactory;
 
 public class AppConfig {
 
+  private static final int DEFAULT_PREPARED_SECRET_WORDS = 1;
+
   private static ServerConfiguration config;
+  private static EntityRepository entityRepository;
+  private static BufferPool bufferPool;
 
   public static void init(ServerConfiguration serverConfiguration) {
     config = serverConfiguration;
+    bufferPool = ProtocolFactoryProvider.newBufferPoolFactory()
+        .createBufferPool(WordleResponse.MAX_SIZE);
+    EntityRepository snapshotRepository =
+        config.usersFileFormat == ServerConfiguration.UsersFileFormat.BINARY
+            ? new BinaryEntityRepositoryAdapter(config.usersFileName)
+            : new EntityRepositoryAdapter(config.usersFileName);
+    entityRepository = config.journalFileName != null
+        ? new JournalEntityRepositoryAdapter(snapshotRepository, config.usersFileName,
+            config.journalFileName)
+        : snapshotRepository;
+    if (config.sessionIdleTimeout != null)
+      Sessions.getInstance().setIdleTimeout(config.sessionIdleTimeout * 60 * 1000);
+  }
+
+  public static boolean isSessionMode() {
+    return config.authTokenMode == ServerConfiguration.AuthTokenMode.SESSION;
   }
 
   public static RegisteredUserUseCase.Factory getNewRegisteredUseCaseFactory() {
@@ -58,13 +97,26 @@ public class AppConfig {
     return new ChannelHandlerServiceFactory();
   }
 
+  public static ConnectionHandler.Factory getNewConnectionHandlerServiceFactory() {
+    return new ConnectionHandlerServiceFactory();
+  }
+
   public static ClientRequestHandler getNewClientRequestHandler() {
-    return new ClientRequestAdapter(getNewRegisteredUseCaseFactory(),
-        ProtocolFactoryProvider.newWordleRequestFactory());
+    EnumMap<WireFormat, WordleRequest.Factory> requestFactories =
+        new EnumMap<WireFormat, WordleRequest.Factory>(WireFormat.class);
+    EnumMap<WireFormat, WordleResponse.Factory> responseFactories =
+        new EnumMap<WireFormat, WordleResponse.Factory>(WireFormat.class);
+    for (WireFormat wireFormat : WireFormat.values()) {
+      requestFactories.put(wireFormat, ProtocolFactoryProvider.newWordleRequestFactory(wireFormat));
+      responseFactories.put(wireFormat,
+          ProtocolFactoryProvider.newWordleResponseFactory(wireFormat));
+    }
+    return new ClientRequestAdapter(getNewRegisteredUseCaseFactory(), requestFactories,
+        responseFactories);
   }
 
   public static UserRegistrationRemoteService getNewUserRegistrationRemoteService() {
-    return new RegisterUser();
+    return new RegisterUser(getEntityRepository());
   }
 
   public static Top3NotificationRemoteService getNewTop3NotificationRemoteService() {
@@ -76,7 +128,24 @@ public class AppConfig {
     return new BasicRemoteExposerService(remoteObjs, registryPort);
   }
 
-  public static DispatcherService getNewDispatcherService(Selector selector) {
+  public static DispatcherService getNewDispatcherService(Selector selector) throws IOException {
+
+    if (config.serverMode == ServerConfiguration.ServerMode.MULTIREACTOR) {
+      int reactorsNum = config.dispatcherReactors != null ? config.dispatcherReactors
+          : Runtime.getRuntime().availableProcessors();
+      Selector[] selectors = new Selector[Math.max(reactorsNum, 1)];
+      selectors[0] = selector;
+      for (int i = 1; i < selectors.length; i++)
+        selectors[i] = Selector.open();
+      MultiReactorDispatcherService.BalancingPolicy balancingPolicy =
+          config.dispatcherBalancingPolicy != null ? config.dispatcherBalancingPolicy
+              : MultiReactorDispatcherService.BalancingPolicy.LEAST_LOADED;
+      return new MultiReactorDispatcherService(selectors,
+          selectors.length > 1 ? Executors.newFixedThreadPool(selectors.length - 1) : null,
+          Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2),
+          balancingPolicy);
+    }
+
     return new MultithreadedDispatcherService(selector,
         Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2),
         new LinkedBlockingDeque<ChannelHandler>());
@@ -88,14 +157,55 @@ public class AppConfig {
         getNewChannelHandlerServiceFactory());
   }
 
+  public static ListenerService getNewThreadPerConnectionListenerService(
+      ServerSocketChannel listeningChannel) {
+    return new ThreadPerConnectionListenerService(listeningChannel,
+        getNewConnectionHandlerServiceFactory(), getNewConnectionThreadFactory());
+  }
+
+  private static ThreadFactory getNewConnectionThreadFactory() {
+    // virtual threads when the running JVM provides them (JDK 21+), daemon platform threads
+    // otherwise: they are looked up reflectively since the server is compiled for Java 8
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+
   public static SecretWordRefresherService getNewSecretWordRefresherService(
-      Long secretWordRefreshTime) {
-    return new BasicSecretWordRefresherService(secretWordRefreshTime, getNewSecretWordRefresher());
+      Long secretWordRefreshTime) throws IOException {
+    int preparedSecretWords = config.preparedSecretWords != null ? config.preparedSecretWords
+        : DEFAULT_PREPARED_SECRET_WORDS;
+    return new BasicSecretWordRefresherService(secretWordRefreshTime, preparedSecretWords,
+        getNewSecretWordRefresher());
   }
 
-  private static SecretWordRefresher getNewSecretWordRefresher() {
+  private static SecretWordRefresher getNewSecretWordRefresher() throws IOException {
     return new RefreshRequestAdapter(new RefreshSecretWord(
-        SecretWordRepositoryAdapter.getInstance(), new TranslationRequestAdapter()));
+        SecretWordRepositoryAdapter.getInstance(), getNewWordTranslator(), config.secretWordSeed));
+  }
+
+  /**
+   * Gets a translator answering from a cache of the translations, stored in the translation cache
+   * file if one is configured, which is filled by the remote translation service or, if the server
+   * runs offline, by nobody.
+   *
+   * @return a new word translator.
+   * @throws IOException if the translation cache file exists but cannot be read.
+   */
+  private static WordTranslator getNewWordTranslator() throws IOException {
+    WordTranslator translator = Boolean.TRUE.equals(config.offlineTranslation)
+        ? new OfflineTranslationAdapter()
+        : new TranslationRequestAdapter();
+    return new CachedTranslationAdapter(translator, config.translationCacheFileName);
   }
 
   public static SecretWordRepository getNewSecretWordRepository() {
@@ -111,8 +221,28 @@ public class AppConfig {
   }
 
   public static PersistenceService getNewPersistenceService() {
-    return new BasicPersistenceService(new PersistenceRequestAdapter(
-        new LoadEntities(new EntityRepositoryAdapter(config.usersFileName)),
-        new StoreEntities(new EntityRepositoryAdapter(config.usersFileName))));
+    return new BasicPersistenceService(config.snapshotInterval,
+        new PersistenceRequestAdapter(new LoadEntities(getEntityRepository()),
+            new StoreEntities(getEntityRepository())));
+  }
+
+  /**
+   * Gets the repository shared by the use cases recording users mutations and by the persistence
+   * service: a journaling one if a journal file is configured, a snapshot-only one otherwise.
+   *
+   * @return the entity repository of the server.
+   */
+  public static EntityRepository getEntityRepository() {
+    return entityRepository;
+  }
+
+  /**
+   * Gets the pool of direct buffers lent to the input and output queues of all the client
+   * connections while they hold bytes. Its buffers can hold a whole request or response.
+   *
+   * @return the buffer pool of the server.
+   */
+  public static BufferPool getBufferPool() {
+    return bufferPool;
   }
 }
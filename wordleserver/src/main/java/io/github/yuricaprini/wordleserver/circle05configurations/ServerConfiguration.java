@@ -1,5 +1,7 @@
 package io.github.yuricaprini.wordleserver.circle05configurations;
 
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.MultiReactorDispatcherService;
+
 /**
   * A {@code ServerConfiguration} contains the parameters needed to configure the server, which
   * will be populated with values ​​loaded from a configuration file.
@@ -9,9 +11,57 @@ public class ServerConfiguration {
   public Integer registryPort;
   public Integer listeningPort;
   public Long secretWordRefreshInterval;
+  public Long secretWordSeed;
+  public Integer preparedSecretWords;
+  public String translationCacheFileName;
+  public Boolean offlineTranslation;
   public String authTokenSecretKey;
   public String multicastGroup;
   public Integer multicastPort;
   public String usersFileName;
+  public UsersFileFormat usersFileFormat;
+  public String journalFileName;
+  public Long snapshotInterval;
+  public ServerMode serverMode;
+  public Integer dispatcherReactors;
+  public MultiReactorDispatcherService.BalancingPolicy dispatcherBalancingPolicy;
+  public AuthTokenMode authTokenMode;
+  public Long sessionIdleTimeout;
+
+  /**
+   * The way the server multiplexes the client channels.
+   */
+  public enum ServerMode {
+    /** A single selector, channel handlers are executed by a thread pool. */
+    MULTITHREADED,
+    /** One selector per reactor, channel handlers are executed inline by reactors. */
+    MULTIREACTOR,
+    /** No selector, each client channel is served by a (virtual, if available) thread. */
+    THREAD_PER_CONNECTION
+  }
+
+  /**
+   * The format of the users file.
+   */
+  public enum UsersFileFormat {
+    /** A compact JSON array, one user per line. */
+    JSON,
+    /** Versioned binary records, loaded through memory mapping. */
+    BINARY
+  }
+
+  /**
+   * The kind of authentication tokens issued at login: {@link #JWT} unless {@link #SESSION} is
+   * explicitly configured.
+   */
+  public enum AuthTokenMode {
+    /** Signed, self-contained tokens, valid until they expire. */
+    JWT,
+    /**
+     * Opaque session IDs, resolved server-side, expiring when idle and revoked at logout. Opt-in:
+     * sessions live in the server memory, so they are lost when the server restarts.
+     */
+    SESSION
+  }
 
 }
@@ -83,14 +83,10 @@ public class ServerMain {
 
     try {
 
-      Selector selector = Selector.open();
       ServerSocketChannel listeningChannel;
       listeningChannel = ServerSocketChannel.open();
       listeningChannel.bind(new InetSocketAddress(serverConfiguration.listeningPort));
 
-      DispatcherService dispatcher = AppConfig.getNewDispatcherService(selector);
-      ListenerService listener = AppConfig.getNewListenerService(listeningChannel, dispatcher);
-
       Hashtable<String, Remote> remoteObjs = new Hashtable<String, Remote>();
       remoteObjs.put(UserRegistrationRemoteService.class.getSimpleName(),
           AppConfig.getNewUserRegistrationRemoteService());
@@ -104,9 +100,20 @@ public class ServerMain {
 
       PersistenceService persistenceService = AppConfig.getNewPersistenceService();
 
-      Server server = new Server.Builder(CLIServerMessages).addService(persistenceService)
-          .addService(secretWordRefresherService).addService(remoteExposer).addService(dispatcher)
-          .addService(listener).build();
+      Server.Builder serverBuilder = new Server.Builder(CLIServerMessages)
+          .addService(persistenceService).addService(secretWordRefresherService)
+          .addService(remoteExposer);
+
+      ListenerService listener;
+      if (serverConfiguration.serverMode == ServerConfiguration.ServerMode.THREAD_PER_CONNECTION)
+        listener = AppConfig.getNewThreadPerConnectionListenerService(listeningChannel);
+      else {
+        DispatcherService dispatcher = AppConfig.getNewDispatcherService(Selector.open());
+        listener = AppConfig.getNewListenerService(listeningChannel, dispatcher);
+        serverBuilder.addService(dispatcher);
+      }
+
+      Server server = serverBuilder.addService(listener).build();
 
       configureShutdownHook(server);
 
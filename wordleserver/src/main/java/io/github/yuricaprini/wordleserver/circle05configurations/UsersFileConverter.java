@@ -0,0 +1,29 @@
+package io.github.yuricaprini.wordleserver.circle05configurations;
+
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.BinaryEntityRepositoryAdapter;
+
+/**
+ * A {@code UsersFileConverter} converts an existing JSON users file into the binary users format,
+ * to be used with {@code "usersFileFormat": "BINARY"} in the server configuration.
+ * <p>
+ * Usage: {@code UsersFileConverter <json users file> <binary users file>}
+ *
+ * @author Yuri Caprini
+ */
+public class UsersFileConverter {
+
+  public static void main(String[] args) {
+
+    if (args.length != 2) {
+      System.err.println("Usage: UsersFileConverter <json users file> <binary users file>");
+      System.exit(1);
+    }
+
+    try {
+      BinaryEntityRepositoryAdapter.convert(args[0], args[1]);
+    } catch (Exception e) {
+      e.printStackTrace();
+      System.exit(1);
+    }
+  }
+}
@@ -12,8 +12,10 @@ public class ChannelHandlerServiceFactory implements ChannelHandler.Factory {
   @Override
   public ChannelHandler getNewChannelHandlerService(SelectableChannel channel) {
     return new ClientChannelHandler(channel, AppConfig.getNewClientRequestHandler(),
-        ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(WordleRequest.MAX_SIZE + 1),
-        ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue());
+        ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(WordleRequest.MAX_SIZE + 1,
+            AppConfig.getBufferPool()),
+        ProtocolFactoryProvider.newOutputQueueFactory()
+            .createOutputQueue(AppConfig.getBufferPool()));
   }
 
 }
@@ -0,0 +1,25 @@
+package io.github.yuricaprini.wordleserver.circle05configurations.factories;
+
+import java.nio.channels.SocketChannel;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ConnectionHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.ClientConnectionHandler;
+import io.github.yuricaprini.wordleserver.circle05configurations.AppConfig;
+
+public class ConnectionHandlerServiceFactory implements ConnectionHandler.Factory {
+
+  /**
+   * Gets a new handler of the specified blocking channel. Its input queue is not pooled: a
+   * connection thread waits for input with its buffer in hand, which would keep a pooled buffer
+   * out of the pool for as long as the client stays idle.
+   */
+  @Override
+  public ConnectionHandler getNewConnectionHandler(SocketChannel channel) {
+    return new ClientConnectionHandler(channel, AppConfig.getNewClientRequestHandler(),
+        ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(WordleRequest.MAX_SIZE + 1),
+        ProtocolFactoryProvider.newOutputQueueFactory()
+            .createOutputQueue(AppConfig.getBufferPool()));
+  }
+
+}
@@ -1,9 +1,10 @@
 package io.github.yuricaprini.wordleserver.circle05configurations.factories;
 
-import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
 import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
 import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.Login;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.Logout;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.PlayWordle;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.ShowMeStats;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.SendWord;
@@ -13,30 +14,47 @@ import io.github.yuricaprini.wordleserver.circle05configurations.AppConfig;
 
 public class RegisteredUserUseCaseFactory implements RegisteredUserUseCase.Factory {
 
+  /**
+   * Tells whether the use case created for the specified request type may block: the ones which
+   * journal a mutation of the user wait for it to be written to disk.
+   */
   @Override
-  public RegisteredUserUseCase createUseCase(WordleRequest.Type requestType) {
+  public boolean mayBlock(WordleRequest.Type requestType) {
+    return requestType == WordleRequest.Type.PLAY_WORDLE
+        || requestType == WordleRequest.Type.SEND_WORD;
+  }
+
+  @Override
+  public RegisteredUserUseCase createUseCase(WordleRequest.Type requestType,
+      WordleResponse.Factory responseFactory) {
 
     switch (requestType) {
 
       case LOGIN:
-        return new Login(ProtocolFactoryProvider.newWordleResponseFactory());
+        return new Login(responseFactory,
+            AppConfig.isSessionMode());
 
       case PLAY_WORDLE:
-        return new PlayWordle(ProtocolFactoryProvider.newWordleResponseFactory());
+        return new PlayWordle(responseFactory,
+            AppConfig.getEntityRepository());
 
       case SEND_WORD:
-        return new SendWord(ProtocolFactoryProvider.newWordleResponseFactory(),
-            AppConfig.getNewSecretWordRepository(), AppConfig.getNewTop3Notifier());
+        return new SendWord(responseFactory,
+            AppConfig.getNewSecretWordRepository(), AppConfig.getNewTop3Notifier(),
+            AppConfig.getEntityRepository());
 
       case SHOWME_STATS:
-        return new ShowMeStats(ProtocolFactoryProvider.newWordleResponseFactory());
+        return new ShowMeStats(responseFactory);
 
       case SHOWME_RANKING:
-        return new ShowMeRanking(ProtocolFactoryProvider.newWordleResponseFactory());
+        return new ShowMeRanking(responseFactory);
 
       case SHARE:
         return new Share(AppConfig.getNewGameResultSharer(),
-            ProtocolFactoryProvider.newWordleResponseFactory());
+            responseFactory);
+
+      case LOGOUT:
+        return new Logout(responseFactory);
     }
     return null; // never reached
   }
@@ -2,12 +2,13 @@ package io.github.yuricaprini.wordleserver.circle05configurations.factories;
 
 import io.github.yuricaprini.wordleprotocol.remoteinterfaces.UserRegistrationRemoteService;
 import io.github.yuricaprini.wordleserver.circle02usecases.implementations.RegisterUser;
+import io.github.yuricaprini.wordleserver.circle05configurations.AppConfig;
 
 public class UserRegistrationRemoteServiceFactory implements UserRegistrationRemoteService.Factory {
 
   @Override
   public UserRegistrationRemoteService createUserRegistrationRemoteService() {
-    return new RegisterUser();
+    return new RegisterUser(AppConfig.getEntityRepository());
   }
 
 }
@@ -0,0 +1,148 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.github.yuricaprini.wordleserver.circle01entities.Clue;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.Password;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle01entities.Word;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.BinaryEntityRepositoryAdapter;
+
+class BinaryEntityRepositoryAdapterTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void loadAllShouldRestoreWhatPushAllWrote() throws Exception {
+    Path file = directory.resolve("users.bin");
+    List<User> users = Arrays.asList(newUser("alice", "ostrica"), newUser("bob01", null));
+
+    new BinaryEntityRepositoryAdapter(file.toString()).pushAll(users.iterator());
+    List<User> loaded = loadAll(new BinaryEntityRepositoryAdapter(file.toString()));
+
+    assertEquals(users.size(), loaded.size());
+    for (int i = 0; i < users.size(); i++)
+      assertSameUser(users.get(i), loaded.get(i));
+    assertNull(loaded.get(1).getLastGameCopy().getSecretWord().getTranslation());
+  }
+
+  @Test
+  void loadAllShouldRemapWindowsAcrossManyUsers() throws Exception {
+    Path file = directory.resolve("users.bin");
+    List<User> users = new ArrayList<User>();
+    for (int i = 0; i < 2000; i++) // more than fit in the write buffer
+      users.add(newUser("user" + i, i % 2 == 0 ? "ostrica" : null));
+
+    new BinaryEntityRepositoryAdapter(file.toString()).pushAll(users.iterator());
+    assertTrue(Files.size(file) > 1 << 16);
+    // windows smaller than the file, and than some records
+    List<User> loaded = loadAll(new BinaryEntityRepositoryAdapter(file.toString(), 100));
+
+    assertEquals(users.size(), loaded.size());
+    for (int i = 0; i < users.size(); i++)
+      assertSameUser(users.get(i), loaded.get(i));
+  }
+
+  @Test
+  void loadAllShouldFailOnATruncatedFile() throws Exception {
+    Path file = directory.resolve("users.bin");
+    new BinaryEntityRepositoryAdapter(file.toString()).pushAll(
+        Arrays.asList(newUser("alice", "ostrica"), newUser("bob01", "ostrica")).iterator());
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 10);
+    }
+
+    Iterator<User> loaded = new BinaryEntityRepositoryAdapter(file.toString()).loadAll();
+
+    assertEquals("alice", loaded.next().getUsername().toString());
+    assertThrows(UncheckedIOException.class, loaded::next);
+    assertFalse(loaded.hasNext());
+  }
+
+  @Test
+  void loadAllShouldRejectAFileWhichIsNotAUsersFile() throws Exception {
+    Path file = directory.resolve("users.json");
+    Files.write(file, "[\n]".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(IOException.class,
+        () -> new BinaryEntityRepositoryAdapter(file.toString()).loadAll());
+  }
+
+  @Test
+  void loadAllShouldFindNoUsersWithoutFile() throws Exception {
+    Path file = directory.resolve("users.bin");
+
+    assertFalse(new BinaryEntityRepositoryAdapter(file.toString()).loadAll().hasNext());
+  }
+
+  static User newUser(String username, String translation) throws Exception {
+    SecretWord secretWord = SecretWord.restore("ostraeacea", 7, translation);
+    Clue[] clues = {new Clue(new Word("abcdefghij"), secretWord),
+        new Clue(new Word("ostraeacea"), secretWord)};
+    int[] guessDistribution = new int[Game.MAX_ATTEMPTS];
+    guessDistribution[1] = 1;
+    guessDistribution[Game.MAX_ATTEMPTS - 1] = 1;
+
+    return User.restore(new Username(username), new Password("Passw0rd"),
+        Game.restore(secretWord, clues, true),
+        Stats.restore(3, 2, 1, 2, guessDistribution, new Score(20)));
+  }
+
+  static List<User> loadAll(EntityRepository repository) throws Exception {
+    List<User> users = new ArrayList<User>();
+    Iterator<User> iterator = repository.loadAll();
+    while (iterator.hasNext())
+      users.add(iterator.next());
+    return users;
+  }
+
+  static void assertSameUser(User expected, User actual) {
+    assertEquals(expected.getUsername(), actual.getUsername());
+    assertEquals(expected.getPassword().toString(), actual.getPassword().toString());
+
+    Stats expectedStats = expected.getStats();
+    Stats actualStats = actual.getStats();
+    assertEquals(expectedStats.getPlayed(), actualStats.getPlayed());
+    assertEquals(expectedStats.getWon(), actualStats.getWon());
+    assertEquals(expectedStats.getCurrentStreak(), actualStats.getCurrentStreak());
+    assertEquals(expectedStats.getMaxStreak(), actualStats.getMaxStreak());
+    assertEquals(expectedStats.getOldScore(), actualStats.getOldScore());
+    assertArrayEquals(expectedStats.getGuessDistribution(), actualStats.getGuessDistribution());
+
+    Game expectedGame = expected.getLastGameCopy();
+    Game actualGame = actual.getLastGameCopy();
+    SecretWord expectedWord = expectedGame.getSecretWord();
+    SecretWord actualWord = actualGame.getSecretWord();
+    assertEquals(expectedWord.getValue(), actualWord.getValue());
+    assertEquals(expectedWord.getNumber(), actualWord.getNumber());
+    assertEquals(expectedWord.getTranslation(), actualWord.getTranslation());
+    assertEquals(expectedGame.isStarted(), actualGame.isStarted());
+
+    Clue[] expectedClues = expectedGame.getCluesCopy();
+    Clue[] actualClues = actualGame.getCluesCopy();
+    assertEquals(expectedClues.length, actualClues.length);
+    for (int i = 0; i < expectedClues.length; i++) {
+      assertEquals(expectedClues[i].getWord(), actualClues[i].getWord());
+      assertEquals(expectedClues[i].getWordColors(), actualClues[i].getWordColors());
+    }
+  }
+}
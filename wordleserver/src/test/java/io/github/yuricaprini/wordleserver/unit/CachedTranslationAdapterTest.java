@@ -0,0 +1,96 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.github.yuricaprini.wordleserver.circle02usecases.WordTranslator;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.CachedTranslationAdapter;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.OfflineTranslationAdapter;
+
+class CachedTranslationAdapterTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void translateShouldNotWaitAndShouldCacheInBackground() throws Exception {
+    Path file = directory.resolve("translations.txt");
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    WordTranslator slow = word -> {
+      calls.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        return null;
+      }
+      return "tra\tduzione";
+    };
+    WordTranslator cache = new CachedTranslationAdapter(slow, file.toString());
+
+    assertNull(cache.translate("accomplish"));
+    assertNull(cache.translate("accomplish")); // already pending
+    release.countDown();
+
+    String translation = awaitTranslation(cache, "accomplish");
+    assertEquals("tra\tduzione", translation);
+    assertEquals(1, calls.get());
+    assertEquals("accomplish\ttra duzione\n",
+        new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+    WordTranslator reloaded =
+        new CachedTranslationAdapter(new OfflineTranslationAdapter(), file.toString());
+    assertEquals("tra duzione", reloaded.translate("accomplish"));
+  }
+
+  @Test
+  void unavailableTranslationsShouldNotBeCached() throws Exception {
+    Path file = directory.resolve("translations.txt");
+    String stored = "abalienate\tabalienare\nmalformed\n";
+    Files.write(file, stored.getBytes(StandardCharsets.UTF_8));
+    CountDownLatch translated = new CountDownLatch(1);
+    WordTranslator cache = new CachedTranslationAdapter(word -> {
+      translated.countDown();
+      return null;
+    }, file.toString());
+
+    assertEquals("abalienare", cache.translate("abalienate"));
+    assertNull(cache.translate("accomplish"));
+    assertTrue(translated.await(5, TimeUnit.SECONDS));
+    assertNull(cache.translate("accomplish"));
+    assertNull(cache.translate("malformed"));
+    assertEquals(stored, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void translateShouldWaitForTheTranslationAtMostTheTimeout() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    WordTranslator cache = new CachedTranslationAdapter(word -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        return null;
+      }
+      return "compiere";
+    }, null);
+
+    assertNull(cache.translate("accomplish", 100)); // timed out
+    release.countDown();
+    assertEquals("compiere", cache.translate("accomplish", 5000));
+    assertEquals("compiere", cache.translate("accomplish"));
+  }
+
+  private static String awaitTranslation(WordTranslator cache, String word) throws Exception {
+    long deadline = System.currentTimeMillis() + 5000;
+    String translation;
+    while ((translation = cache.translate(word)) == null && System.currentTimeMillis() < deadline)
+      Thread.sleep(10);
+    return translation;
+  }
+}
@@ -0,0 +1,184 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.EnumMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+import io.github.yuricaprini.wordleserver.circle02usecases.RegisteredUserUseCase;
+import io.github.yuricaprini.wordleserver.circle03_adapters.ClientChannelFacade;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.ClientRequestAdapter;
+
+class ClientRequestAdapterTest {
+
+  private InputQueue inputQueue;
+  private OutputQueue outputQueue;
+  private ClientChannelFacade facade;
+  private ClientRequestAdapter adapter;
+  private int executedRequests;
+  private boolean blockingAllowed;
+  private boolean blockingRequestDeferred;
+  private WordleResponse.Factory usedResponseFactory;
+  private EnumMap<WireFormat, WordleResponse.Factory> responseFactories;
+
+  @BeforeEach
+  void setUp() {
+    inputQueue =
+        ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(WordleRequest.MAX_SIZE + 1);
+    outputQueue = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    facade = new ClientChannelFacade() {
+
+      @Override
+      public InputQueue getInputQueue() {
+        return inputQueue;
+      }
+
+      @Override
+      public OutputQueue getOutputQueue() {
+        return outputQueue;
+      }
+
+      @Override
+      public boolean isBlockingAllowed() {
+        return blockingAllowed;
+      }
+
+      @Override
+      public void deferBlockingRequest() {
+        blockingRequestDeferred = true;
+      }
+
+      @Override
+      public void closeAfterWriting() {}
+    };
+    blockingAllowed = true;
+    blockingRequestDeferred = false;
+
+    EnumMap<WireFormat, WordleRequest.Factory> requestFactories =
+        new EnumMap<WireFormat, WordleRequest.Factory>(WireFormat.class);
+    responseFactories = new EnumMap<WireFormat, WordleResponse.Factory>(WireFormat.class);
+    for (WireFormat wireFormat : WireFormat.values()) {
+      requestFactories.put(wireFormat, ProtocolFactoryProvider.newWordleRequestFactory(wireFormat));
+      responseFactories.put(wireFormat,
+          ProtocolFactoryProvider.newWordleResponseFactory(wireFormat));
+    }
+    executedRequests = 0;
+    adapter = new ClientRequestAdapter(new RegisteredUserUseCase.Factory() {
+
+      @Override
+      public RegisteredUserUseCase createUseCase(WordleRequest.Type type,
+          WordleResponse.Factory responseFactory) {
+        return request -> {
+          executedRequests++;
+          usedResponseFactory = responseFactory;
+          return responseFactory.createLoginNO(WordleResponse.ErrorCode.INVALID_CREDENTIALS);
+        };
+      }
+
+      @Override
+      public boolean mayBlock(WordleRequest.Type type) {
+        return type == WordleRequest.Type.LOGOUT;
+      }
+    }, requestFactories, responseFactories);
+  }
+
+  @Test
+  void handleRequestShouldFulfillAllPipelinedRequests() throws Exception {
+    receive(3);
+
+    adapter.handleRequest(facade);
+
+    assertEquals(3, executedRequests);
+    assertFalse(outputQueue.isEmpty());
+  }
+
+  @Test
+  void handleRequestShouldLeaveRequestsInInputWhileOutputIsBacklogged() throws Exception {
+    receive(3);
+    outputQueue.enqueue(new byte[ClientChannelFacade.MAX_QUEUED_OUTPUT]);
+    assertTrue(facade.isOutputBacklogged());
+
+    adapter.handleRequest(facade);
+
+    assertEquals(0, executedRequests);
+    assertEquals(ClientChannelFacade.MAX_QUEUED_OUTPUT, outputQueue.size());
+
+    outputQueue.drainTo(Channels.newChannel(new ByteArrayOutputStream())); // the client reads
+    adapter.handleRequest(facade);
+
+    assertEquals(3, executedRequests);
+  }
+
+  @Test
+  void handleRequestShouldAnswerInTheWireFormatOfTheClient() throws Exception {
+    receive(2, WireFormat.BINARY);
+
+    adapter.handleRequest(facade);
+
+    assertEquals(2, executedRequests);
+    assertSame(responseFactories.get(WireFormat.BINARY), usedResponseFactory);
+    OutputQueue expected = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    for (int i = 0; i < 2; i++)
+      usedResponseFactory.createLoginNO(WordleResponse.ErrorCode.INVALID_CREDENTIALS)
+          .serializeTo(expected);
+    assertArrayEquals(drain(expected), drain(outputQueue));
+  }
+
+  @Test
+  void handleRequestShouldDeferRequestsWhichMayBlockUntilBlockingIsAllowed() throws Exception {
+    WordleRequest.Factory requestFactory = ProtocolFactoryProvider.newWordleRequestFactory();
+    AuthToken token = AuthToken.wrap("session");
+    receive(requestFactory.createShowMeStatsRequest(token),
+        requestFactory.createLogoutRequest(token), requestFactory.createShowMeStatsRequest(token));
+    blockingAllowed = false;
+
+    adapter.handleRequest(facade);
+
+    assertEquals(1, executedRequests);
+    assertTrue(blockingRequestDeferred);
+
+    blockingAllowed = true;
+    adapter.handleRequest(facade);
+
+    assertEquals(3, executedRequests);
+  }
+
+  private void receive(int requests) throws Exception {
+    receive(requests, WireFormat.HTTP);
+  }
+
+  private void receive(WordleRequest... requests) throws Exception {
+    OutputQueue client = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    for (WordleRequest request : requests)
+      request.serializeTo(client);
+    inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(drain(client))));
+  }
+
+  private void receive(int requests, WireFormat wireFormat) throws Exception {
+    WordleRequest.Factory requestFactory =
+        ProtocolFactoryProvider.newWordleRequestFactory(wireFormat);
+    OutputQueue client = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    wireFormat.announceTo(client);
+    for (int i = 0; i < requests; i++)
+      requestFactory.createLoginRequest(CredentialsDTO.newInstance("player", "Password1"))
+          .serializeTo(client);
+
+    inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(drain(client))));
+  }
+
+  private static byte[] drain(OutputQueue outputQueue) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    outputQueue.drainTo(Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,61 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle01entities.Clue;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle01entities.Word;
+
+class ClueTest {
+
+  @Test
+  void constructorShouldThrowsExceptionIfNull() {
+    assertThrows(NullPointerException.class, () -> new Clue(null, new Word("abcdefghij")));
+    assertThrows(NullPointerException.class, () -> new Clue(new Word("abcdefghij"), null));
+  }
+
+  @Test
+  void allGreenShouldMatch() {
+    Clue clue = new Clue(new Word("accomplish"), SecretWord.restore("accomplish", 1, null));
+
+    assertTrue(clue.matchAllGreen());
+    assertEquals("++++++++++", clue.getWordColors());
+  }
+
+  @Test
+  void colorsShouldBeComputedPositionByPosition() {
+    Clue clue = new Clue(new Word("abcdefghij"), SecretWord.restore("abjihgfxyz", 1, null));
+
+    assertFalse(clue.matchAllGreen());
+    assertEquals("++XXX?????", clue.getWordColors());
+  }
+
+  @Test
+  void duplicateLettersShouldBeYellowOnlyWhileOccurrencesRemain() {
+    Word secretWord = SecretWord.restore("abalienate", 1, null);
+
+    // three 'a' in the secret word: one is green, so only two of the other three are yellow
+    assertEquals("+?XX?XXXXX", new Clue(new Word("aaxxaxxxax"), secretWord).getWordColors());
+    // the green 'e' consumes one of the two 'e', so only the first other 'e' is yellow
+    assertEquals("?XXXX+XXXX", new Clue(new Word("exexxexxxx"), secretWord).getWordColors());
+  }
+
+  @Test
+  void wordsWithNonLettersShouldBeColoredLikeLetters() {
+    Word secretWord = new Word("ab-1-cdefg");
+
+    assertEquals("XX+++XXXXX", new Clue(new Word("x1-1-xxxxx"), secretWord).getWordColors());
+    assertEquals("??XXXXXXXX", new Clue(new Word("-1xxxxxxxx"), secretWord).getWordColors());
+  }
+
+  @Test
+  void currentSecretWordsShouldFollowNewValues() {
+    SecretWord.setNew("abcdefghij", null);
+    Word first = SecretWord.getCurrent();
+    SecretWord.setNew("jihgfedcba", null);
+    Word second = SecretWord.getCurrent();
+
+    assertTrue(new Clue(new Word("abcdefghij"), first).matchAllGreen());
+    assertEquals("??????????", new Clue(new Word("abcdefghij"), second).getWordColors());
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.EntityRepositoryAdapter;
+
+class EntityRepositoryAdapterTest {
+
+  private static final String LEGACY_USER = "{\"username\":{\"value\":\"username\"},"
+      + "\"password\":{\"value\":\"Passw0rd\"},\"lastGame\":{\"secretWord\":{\"number\":1,"
+      + "\"translation\":\"*** NONE ***\",\"value\":\"ostraeacea\"},\"clues\":[],"
+      + "\"isStarted\":false},\"stats\":{\"totalGames\":3,\"wonGames\":2,\"currentStreak\":1,"
+      + "\"maxStreak\":2,\"guessDistribution\":{\"1\":0,\"2\":1,\"3\":0,\"4\":0,\"5\":0,\"6\":0,"
+      + "\"7\":0,\"8\":0,\"9\":0,\"10\":0,\"11\":0,\"12\":1},\"oldscore\":{\"value\":20}}}";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void loadAllShouldReadTheStoredStatsLayout() throws Exception {
+    Path file = directory.resolve("users.json");
+    Files.write(file, ("[\n" + LEGACY_USER + "\n]").getBytes(StandardCharsets.UTF_8));
+
+    Iterator<User> users = new EntityRepositoryAdapter(file.toString()).loadAll();
+    Stats stats = users.next().getStats();
+
+    assertFalse(users.hasNext());
+    assertEquals(3, stats.getPlayed());
+    assertEquals(2, stats.getWon());
+    assertEquals(1, stats.getGuessCount(2));
+    assertEquals(1, stats.getGuessCount(12));
+    assertEquals(new Score(20), stats.getOldScore());
+    assertEquals(new Score(20 + 10), stats.getScore());
+  }
+
+  @Test
+  void pushAllShouldWriteTheStoredStatsLayout() throws Exception {
+    Path source = directory.resolve("source.json");
+    Files.write(source, ("[\n" + LEGACY_USER + "\n]").getBytes(StandardCharsets.UTF_8));
+    User user = new EntityRepositoryAdapter(source.toString()).loadAll().next();
+
+    Path file = directory.resolve("users.json");
+    new EntityRepositoryAdapter(file.toString())
+        .pushAll(Collections.singletonList(user).iterator());
+
+    String written = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    assertTrue(written.contains(LEGACY_USER.substring(LEGACY_USER.indexOf("\"stats\""))),
+        written);
+  }
+}
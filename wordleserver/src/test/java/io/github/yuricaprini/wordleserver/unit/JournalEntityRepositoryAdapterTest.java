@@ -0,0 +1,182 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.Password;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository.Mutation;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.JournalEntityRepositoryAdapter;
+
+class JournalEntityRepositoryAdapterTest {
+
+  @TempDir
+  Path directory;
+
+  private Path snapshot;
+  private Path journal;
+
+  @BeforeEach
+  void setUp() {
+    snapshot = directory.resolve("users.json");
+    journal = directory.resolve("users.journal");
+  }
+
+  @Test
+  void loadAllShouldReplayTheAppendedMutations() throws Exception {
+    JournalEntityRepositoryAdapter repository = newRepository();
+    repository.append(Mutation.REGISTRATION, newUser("alice"));
+    repository.append(Mutation.REGISTRATION, newUser("bob01"));
+    repository.append(Mutation.STATS_CHANGED, newUser("alice", 5));
+
+    Map<String, User> users = load(newRepository());
+
+    assertEquals(2, users.size());
+    assertEquals(5, users.get("alice").getStats().getPlayed());
+    assertEquals(0, users.get("bob01").getStats().getPlayed());
+  }
+
+  @Test
+  void loadAllShouldReplayTheJournalOnTopOfTheSnapshot() throws Exception {
+    JournalEntityRepositoryAdapter repository = newRepository();
+    repository.append(Mutation.REGISTRATION, newUser("alice"));
+    repository.pushAll(Collections.singletonList(newUser("alice", 1)).iterator());
+    assertFalse(Files.exists(journal));
+
+    repository.append(Mutation.STATS_CHANGED, newUser("alice", 2));
+    repository.append(Mutation.REGISTRATION, newUser("bob01"));
+
+    Map<String, User> users = load(newRepository());
+
+    assertEquals(2, users.size());
+    assertEquals(2, users.get("alice").getStats().getPlayed());
+  }
+
+  @Test
+  void loadAllShouldStopReplayingAtATornRecord() throws Exception {
+    JournalEntityRepositoryAdapter repository = newRepository();
+    repository.append(Mutation.REGISTRATION, newUser("alice"));
+    repository.append(Mutation.REGISTRATION, newUser("bob01"));
+
+    String records = new String(Files.readAllBytes(journal), StandardCharsets.UTF_8);
+    String lastRecord = records.substring(records.indexOf('\n') + 1);
+    Files.write(journal, lastRecord.substring(0, lastRecord.length() / 2)
+        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND); // crashed mid-write
+
+    Map<String, User> users = load(newRepository());
+
+    assertEquals(2, users.size());
+    assertTrue(users.containsKey("alice"));
+    assertTrue(users.containsKey("bob01"));
+  }
+
+  @Test
+  void loadAllShouldReplayTheJournalRotatedByAnUnfinishedSnapshot() throws Exception {
+    JournalEntityRepositoryAdapter repository = newRepository();
+    repository.append(Mutation.REGISTRATION, newUser("alice"));
+    repository.pushAll(Collections.singletonList(newUser("alice")).iterator());
+
+    repository.append(Mutation.STATS_CHANGED, newUser("alice", 3));
+    repository.append(Mutation.REGISTRATION, newUser("bob01"));
+    // crashed after rotating the journal, before replacing the snapshot
+    Path rotated = directory.resolve("users.journal.old");
+    Files.move(journal, rotated);
+    Files.setLastModifiedTime(rotated,
+        FileTime.fromMillis(Files.getLastModifiedTime(snapshot).toMillis() + 1000));
+    newRepository().append(Mutation.REGISTRATION, newUser("carol"));
+
+    Map<String, User> users = load(newRepository());
+
+    assertEquals(3, users.size());
+    assertEquals(3, users.get("alice").getStats().getPlayed());
+    assertTrue(users.containsKey("bob01"));
+    assertTrue(users.containsKey("carol"));
+  }
+
+  @Test
+  void loadAllShouldIgnoreARotatedJournalOlderThanTheSnapshot() throws Exception {
+    JournalEntityRepositoryAdapter repository = newRepository();
+    repository.append(Mutation.REGISTRATION, newUser("alice", 3));
+    byte[] records = Files.readAllBytes(journal);
+    repository.pushAll(Collections.singletonList(newUser("alice", 4)).iterator());
+    // crashed after replacing the snapshot, before deleting the rotated journal
+    Path rotated = directory.resolve("users.journal.old");
+    Files.write(rotated, records);
+    Files.setLastModifiedTime(rotated,
+        FileTime.fromMillis(Files.getLastModifiedTime(snapshot).toMillis() - 1000));
+
+    Map<String, User> users = load(newRepository());
+
+    assertEquals(4, users.get("alice").getStats().getPlayed());
+  }
+
+  @Test
+  void concurrentAppendsShouldAllBeDurable() throws Exception {
+    JournalEntityRepositoryAdapter repository = newRepository();
+    int threads = 8;
+    int appendsPerThread = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> futures = new ArrayList<Future<?>>();
+
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < appendsPerThread; i++)
+          repository.append(Mutation.REGISTRATION, newUser("u" + thread + "_" + i));
+        return null;
+      }));
+    }
+    for (Future<?> future : futures)
+      future.get();
+    executor.shutdown();
+
+    // returned appends are already on disk, whichever thread committed their batch
+    assertEquals(threads * appendsPerThread, Files.readAllLines(journal).size());
+    assertEquals(threads * appendsPerThread, load(newRepository()).size());
+  }
+
+  private JournalEntityRepositoryAdapter newRepository() {
+    return new JournalEntityRepositoryAdapter(snapshot.toString(), journal.toString());
+  }
+
+  private static Map<String, User> load(JournalEntityRepositoryAdapter repository)
+      throws Exception {
+    Map<String, User> users = new HashMap<String, User>();
+    Iterator<User> iterator = repository.loadAll();
+    while (iterator.hasNext()) {
+      User user = iterator.next();
+      assertNull(users.put(user.getUsername().toString(), user));
+    }
+    return users;
+  }
+
+  private static User newUser(String username) throws Exception {
+    return new User(new Username(username), new Password("Passw0rd"));
+  }
+
+  private static User newUser(String username, int played) throws Exception {
+    return User.restore(new Username(username), new Password("Passw0rd"),
+        new Game(SecretWord.getCurrent()),
+        Stats.restore(played, 0, 0, 0, new int[Game.MAX_ATTEMPTS], new Score(0)));
+  }
+}
@@ -0,0 +1,289 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle04frameworks.ChannelHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.MultiReactorDispatcherService;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.MultiReactorDispatcherService.BalancingPolicy;
+
+class MultiReactorDispatcherServiceTest {
+
+  private Selector[] selectors;
+  private ExecutorService dispatcherThread = Executors.newSingleThreadExecutor();
+  private Future<?> dispatcher;
+
+  @AfterEach
+  void stopDispatcher() throws Exception {
+    dispatcher.cancel(true);
+    dispatcherThread.shutdown();
+    assertTrue(dispatcherThread.awaitTermination(10, TimeUnit.SECONDS));
+    selectors[0].close();
+  }
+
+  @Test
+  void roundRobinShouldBindChannelsToReactorsInTurn() throws Exception {
+    MultiReactorDispatcherService service = start(3, BalancingPolicy.ROUND_ROBIN);
+
+    PipeHandler[] handlers = new PipeHandler[6];
+    for (int i = 0; i < handlers.length; i++) {
+      handlers[i] = new PipeHandler();
+      service.register(handlers[i]);
+      handlers[i].sendAndAwaitServed();
+    }
+
+    for (int i = 0; i < handlers.length; i++)
+      assertNotNull(handlers[i].getChannel().keyFor(selectors[i % selectors.length]));
+  }
+
+  @Test
+  void leastLoadedShouldBindChannelsToTheLeastLoadedReactor() throws Exception {
+    MultiReactorDispatcherService service = start(2, BalancingPolicy.LEAST_LOADED);
+
+    PipeHandler first = new PipeHandler();
+    service.register(first);
+    first.sendAndAwaitServed();
+    PipeHandler second = new PipeHandler();
+    service.register(second);
+    second.sendAndAwaitServed();
+    assertNotNull(first.getChannel().keyFor(selectors[0]));
+    assertNotNull(second.getChannel().keyFor(selectors[1]));
+
+    first.closeAndAwaitServed(); // the first reactor is left with no channels
+    long deadline = System.currentTimeMillis() + 10000;
+    while (first.getChannel().isOpen() && System.currentTimeMillis() < deadline)
+      Thread.sleep(10);
+    assertFalse(first.getChannel().isOpen());
+
+    PipeHandler third = new PipeHandler();
+    service.register(third);
+    third.sendAndAwaitServed();
+    assertNotNull(third.getChannel().keyFor(selectors[0]));
+  }
+
+  @Test
+  void handlersShouldRunOnTheThreadOfTheirReactor() throws Exception {
+    MultiReactorDispatcherService service = start(2, BalancingPolicy.ROUND_ROBIN);
+
+    PipeHandler first = new PipeHandler();
+    service.register(first);
+    first.sendAndAwaitServed();
+    PipeHandler second = new PipeHandler();
+    service.register(second);
+    second.sendAndAwaitServed();
+    PipeHandler third = new PipeHandler();
+    service.register(third);
+    third.sendAndAwaitServed();
+
+    assertSame(first.servingThread, third.servingThread);
+    assertNotSame(first.servingThread, second.servingThread);
+  }
+
+  @Test
+  void singleReactorShouldNotNeedReactorThreads() throws Exception {
+    selectors = new Selector[] {Selector.open()};
+    MultiReactorDispatcherService service =
+        new MultiReactorDispatcherService(selectors, null, Executors.newSingleThreadExecutor(),
+            BalancingPolicy.LEAST_LOADED);
+    dispatcher = dispatcherThread.submit(service);
+
+    PipeHandler handler = new PipeHandler();
+    service.register(handler);
+    handler.sendAndAwaitServed();
+    assertNotNull(handler.getChannel().keyFor(selectors[0]));
+  }
+
+  @Test
+  void constructorShouldRequireReactorThreadsForSeveralReactors() throws IOException {
+    selectors = new Selector[] {Selector.open(), Selector.open()};
+    dispatcher = dispatcherThread.submit(() -> null);
+    assertThrows(NullPointerException.class,
+        () -> new MultiReactorDispatcherService(selectors, null,
+            Executors.newSingleThreadExecutor(), BalancingPolicy.LEAST_LOADED));
+    selectors[1].close();
+  }
+
+  @Test
+  void failingReactorShouldCloseItsChannelsAndEndTheDispatcher() throws Exception {
+    MultiReactorDispatcherService service = start(2, BalancingPolicy.ROUND_ROBIN);
+
+    PipeHandler first = new PipeHandler();
+    service.register(first);
+    first.sendAndAwaitServed();
+    PipeHandler second = new PipeHandler();
+    service.register(second);
+    second.sendAndAwaitServed();
+
+    selectors[1].close(); // the second reactor fails on its next selection
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> dispatcher.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof IOException);
+    assertFalse(second.getChannel().isOpen());
+    assertFalse(first.getChannel().isOpen());
+  }
+
+  @Test
+  void stoppedDispatcherShouldCloseTheChannelsOfEveryReactor() throws Exception {
+    MultiReactorDispatcherService service = start(2, BalancingPolicy.ROUND_ROBIN);
+
+    PipeHandler first = new PipeHandler();
+    service.register(first);
+    first.sendAndAwaitServed();
+    PipeHandler second = new PipeHandler();
+    service.register(second);
+    second.sendAndAwaitServed();
+
+    dispatcher.cancel(true); // interrupts the dispatcher, which cleans up
+    dispatcherThread.shutdown();
+    assertTrue(dispatcherThread.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertFalse(first.getChannel().isOpen());
+    assertFalse(second.getChannel().isOpen());
+    assertFalse(selectors[1].isOpen());
+  }
+
+  @Test
+  void blockingWorkShouldBeHandedOffWithoutStallingTheReactor() throws Exception {
+    MultiReactorDispatcherService service = start(1, BalancingPolicy.ROUND_ROBIN);
+
+    PipeHandler blocking = new PipeHandler();
+    CountDownLatch unblock = new CountDownLatch(1);
+    blocking.blockingWork = unblock;
+    service.register(blocking);
+    blocking.send();
+
+    PipeHandler other = new PipeHandler();
+    service.register(other);
+    other.sendAndAwaitServed(); // while the blocking work waits
+
+    unblock.countDown();
+    assertTrue(blocking.served.tryAcquire(10, TimeUnit.SECONDS));
+    assertNotSame(other.servingThread, blocking.servingThread);
+
+    blocking.sendAndAwaitServed(); // the selection of the channel has been resumed
+    assertSame(other.servingThread, blocking.servingThread);
+  }
+
+  private MultiReactorDispatcherService start(int reactors, BalancingPolicy balancingPolicy)
+      throws IOException {
+    selectors = new Selector[reactors];
+    for (int i = 0; i < reactors; i++)
+      selectors[i] = Selector.open();
+    MultiReactorDispatcherService service = new MultiReactorDispatcherService(selectors,
+        reactors > 1 ? Executors.newFixedThreadPool(reactors - 1) : null,
+        Executors.newCachedThreadPool(), balancingPolicy);
+    dispatcher = dispatcherThread.submit(service);
+    return service;
+  }
+
+  /**
+   * A channel handler reading from a pipe, which dies when the pipe is closed.
+   */
+  private static class PipeHandler extends ChannelHandler {
+
+    private final Pipe.SinkChannel sink;
+    private final Semaphore served;
+    private volatile Thread servingThread;
+    private volatile boolean dead;
+    private volatile CountDownLatch blockingWork;
+    private boolean blockingAllowed;
+    private boolean blockingWorkDeferred;
+
+    PipeHandler() throws IOException {
+      this(Pipe.open());
+    }
+
+    private PipeHandler(Pipe pipe) throws IOException {
+      super(pipe.source().configureBlocking(false));
+      this.sink = pipe.sink();
+      this.served = new Semaphore(0);
+      this.channelInterestOps = SelectionKey.OP_READ;
+    }
+
+    void send() throws Exception {
+      sink.write(ByteBuffer.wrap(new byte[] {1}));
+    }
+
+    void sendAndAwaitServed() throws Exception {
+      send();
+      assertTrue(served.tryAcquire(10, TimeUnit.SECONDS));
+    }
+
+    void closeAndAwaitServed() throws Exception {
+      sink.close();
+      assertTrue(served.tryAcquire(10, TimeUnit.SECONDS));
+    }
+
+    @Override
+    public void handleChannel() throws Exception {
+      blockingWorkDeferred = false;
+      if (blockingWork != null && blockingAllowed) { // handed off, blocks without I/O
+        blockingWork.await();
+        blockingWork = null;
+      } else {
+        if (((Pipe.SourceChannel) channel).read(ByteBuffer.allocate(16)) == -1)
+          die();
+        if (blockingWork != null) {
+          blockingWorkDeferred = true;
+          return;
+        }
+      }
+      servingThread = Thread.currentThread();
+      served.release();
+    }
+
+    @Override
+    public void setBlockingAllowed(boolean isBlockingAllowed) {
+      this.blockingAllowed = isBlockingAllowed;
+    }
+
+    @Override
+    public boolean hasDeferredBlockingWork() {
+      return blockingWorkDeferred;
+    }
+
+    @Override
+    public void setChannelReadyOps(int readyOps) {
+      this.channelReadyOps = readyOps;
+    }
+
+    @Override
+    public void setChannelInterestOps(int interestOps) {
+      this.channelInterestOps = interestOps;
+    }
+
+    @Override
+    public int getChannelInterestOps() {
+      return channelInterestOps;
+    }
+
+    @Override
+    public SelectableChannel getChannel() {
+      return channel;
+    }
+
+    @Override
+    public boolean isDead() {
+      return dead;
+    }
+
+    @Override
+    protected void die() {
+      dead = true;
+    }
+  }
+}
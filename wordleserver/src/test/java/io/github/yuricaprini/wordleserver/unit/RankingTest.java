@@ -1,5 +1,9 @@
 package io.github.yuricaprini.wordleserver.unit;
 
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import org.javatuples.Pair;
 import org.junit.jupiter.api.Test;
 import io.github.yuricaprini.wordleserver.circle01entities.Ranking;
 import io.github.yuricaprini.wordleserver.circle01entities.Score;
@@ -54,12 +58,12 @@ class RankingTest {
     ranking.add(new Username("User6"), new Score(90));
 
     // Retrieve users with scores greater than 100
-    ranking.getBottomUp(10);
+    ranking.getPage(null, false, 10);
 
     ranking.update(new Username("User3"), new Score(120), new Score(151));
 
     // Retrieve users with scores greater than 100
-    ranking.getBottomUp(new Username("User3"), new Score(120), 10);
+    ranking.getPage(null, false, 10);
 
     // //Verify the result
     // assertEquals(2, result.size()); // Expecting two users with scores greater than 100
@@ -68,4 +72,132 @@ class RankingTest {
     // assertEquals("User2", result.get(1).getValue0().toString());
     // assertEquals(120, result.get(1).getValue1().getValue());
   }
+
+  @Test
+  void getRankShouldCountOnlyHigherScores() {
+    Ranking ranking = Ranking.getInstance();
+    int baseRank = ranking.getRank(new Score(100003));
+
+    ranking.add(new Username("Rank1"), new Score(100003));
+    ranking.add(new Username("Rank2"), new Score(100002));
+    ranking.add(new Username("Rank3"), new Score(100002));
+
+    assertEquals(baseRank, ranking.getRank(new Score(100003)));
+    assertEquals(baseRank + 1, ranking.getRank(new Score(100002)));
+    assertEquals(baseRank + 3, ranking.getRank(new Score(100001)));
+
+    ranking.update(new Username("Rank3"), new Score(100002), new Score(100004));
+
+    assertEquals(baseRank, ranking.getRank(new Score(100004)));
+    assertEquals(baseRank + 2, ranking.getRank(new Score(100002)));
+  }
+
+  @Test
+  void getPageShouldResumeAfterCursorEvenIfMoved() {
+    Ranking ranking = Ranking.getInstance();
+
+    ranking.add(new Username("Cursor1"), new Score(-200000)); // the bottom of the ranking
+    ranking.add(new Username("Cursor2"), new Score(-200000));
+    ranking.add(new Username("Cursor3"), new Score(-200000));
+    Ranking.Page first = ranking.getPage(null, false, 1);
+    assertEquals("Cursor1", first.getPlayers().get(0).getValue0().toString());
+    ranking.update(new Username("Cursor1"), new Score(-200000), new Score(-199999));
+
+    List<Pair<Username, Score>> page =
+        ranking.getPage(first.getNextCursor(), false, 3).getPlayers();
+
+    assertEquals(3, page.size());
+    assertEquals("Cursor2", page.get(0).getValue0().toString());
+    assertEquals("Cursor3", page.get(1).getValue0().toString());
+    assertEquals("Cursor1", page.get(2).getValue0().toString());
+
+    for (Pair<Username, Score> player : page) // leave the bottom to the other tests
+      ranking.update(player.getValue0(), player.getValue1(), new Score(0));
+  }
+
+  @Test
+  void updateShouldReturnTop3OnlyIfChanged() {
+    Ranking ranking = Ranking.getInstance();
+    int topScore = getTopScore(ranking) + 1;
+
+    ranking.add(new Username("Top1"), new Score(topScore));
+    ranking.add(new Username("Top2"), new Score(topScore));
+    ranking.add(new Username("Top3"), new Score(topScore));
+
+    Ranking.Top top3 =
+        ranking.update(new Username("Top1"), new Score(topScore), new Score(topScore + 1));
+    assertNotNull(top3);
+    assertSame(top3, ranking.getTop());
+    assertEquals("Top1", top3.getPlayers().get(0).getValue0().toString());
+    assertEquals(Ranking.TOP_SIZE, top3.getPlayers().size());
+
+    ranking.add(new Username("Low1"), new Score(0));
+    assertNull(ranking.update(new Username("Low1"), new Score(0), new Score(1)));
+    assertSame(top3, ranking.getTop());
+  }
+
+  @Test
+  void getTopShouldBePublishedWithIncreasingVersions() {
+    Ranking ranking = Ranking.getInstance();
+    long version = ranking.getTop().getVersion();
+
+    ranking.add(new Username("Version1"), new Score(getTopScore(ranking) + 1));
+
+    assertTrue(ranking.getTop().getVersion() > version);
+    assertEquals("Version1", ranking.getTop().getPlayers().get(0).getValue0().toString());
+    assertThrows(UnsupportedOperationException.class,
+        () -> ranking.getTop().getPlayers().clear());
+  }
+
+  @Test
+  void topPublishedByAdditionShouldBeTakenToNotifyOnce() {
+    Ranking ranking = Ranking.getInstance();
+    int topScore = getTopScore(ranking) + 1;
+    ranking.add(new Username("Notify1"), new Score(topScore));
+    ranking.takeTopToNotify();
+
+    Ranking.Top updated =
+        ranking.update(new Username("Notify1"), new Score(topScore), new Score(topScore + 1));
+    ranking.add(new Username("Notify2"), new Score(topScore + 2)); // published by someone else
+
+    Ranking.Top top3 = ranking.takeTopToNotify();
+    assertNotNull(updated);
+    assertSame(ranking.getTop(), top3);
+    assertEquals("Notify2", top3.getPlayers().get(0).getValue0().toString());
+    assertEquals("Notify1", top3.getPlayers().get(1).getValue0().toString());
+    assertNull(ranking.takeTopToNotify());
+  }
+
+  @Test
+  void getPageShouldSeekCursorInBothDirections() {
+    Ranking ranking = Ranking.getInstance();
+    ranking.add(new Username("PageA"), new Score(-1000));
+    ranking.add(new Username("PageB"), new Score(-1000));
+    ranking.add(new Username("PageC"), new Score(-1000));
+    ranking.add(new Username("PageD"), new Score(-999));
+
+    Ranking.Page first = ranking.getPage(null, false, 2);
+    assertEquals("PageA", first.getPlayers().get(0).getValue0().toString());
+    assertEquals("PageB", first.getPlayers().get(1).getValue0().toString());
+    assertNotNull(first.getNextCursor());
+
+    Ranking.Page second = ranking.getPage(first.getNextCursor(), false, 1);
+    assertEquals("PageC", second.getPlayers().get(0).getValue0().toString());
+
+    Ranking.Page back = ranking.getPage(second.getNextCursor(), true, 10);
+    assertEquals(2, back.getPlayers().size());
+    assertEquals("PageB", back.getPlayers().get(0).getValue0().toString());
+    assertEquals("PageA", back.getPlayers().get(1).getValue0().toString());
+    assertNull(back.getNextCursor());
+
+    assertThrows(IllegalArgumentException.class, () -> ranking.getPage("!!", false, 1));
+    assertThrows(IllegalArgumentException.class, () -> ranking.getPage(null, false, 0));
+  }
+
+  private int getTopScore(Ranking ranking) {
+    if (ranking.getTop().getPlayers().isEmpty())
+      return 0;
+
+    return ranking.getTop().getPlayers().get(0).getValue1().getValue();
+  }
 }
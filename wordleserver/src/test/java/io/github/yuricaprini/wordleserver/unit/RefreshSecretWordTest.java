@@ -0,0 +1,87 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle02usecases.SecretWordRepository;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.RefreshSecretWord;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.CachedTranslationAdapter;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.SecretWordRepositoryAdapter;
+
+class RefreshSecretWordTest {
+
+  private final SecretWordRepository repository = SecretWordRepositoryAdapter.getInstance();
+
+  @Test
+  void seededRefreshesShouldAgreeOnTheWordOfEveryNumber() throws Exception {
+    RefreshSecretWord first = new RefreshSecretWord(repository, word -> "first", 42L);
+    RefreshSecretWord second = new RefreshSecretWord(repository, word -> "second", 42L);
+    RefreshSecretWord other = new RefreshSecretWord(repository, word -> "other", 43L);
+
+    int differences = 0;
+    for (int number = 1000; number < 1010; number++) {
+      assertTrue(first.publish(number));
+      String value = SecretWord.getCurrent().getValue();
+      assertEquals(number, SecretWord.getCurrent().getNumber());
+      assertEquals("first", SecretWord.getCurrent().getTranslation());
+      assertTrue(repository.contains(value));
+
+      assertTrue(second.publish(number));
+      assertEquals(value, SecretWord.getCurrent().getValue());
+
+      other.publish(number);
+      if (!value.equals(SecretWord.getCurrent().getValue()))
+        differences++;
+    }
+    assertTrue(differences > 0);
+  }
+
+  @Test
+  void preparedWordsShouldBePublishedWithoutTranslatingThemAgain() throws Exception {
+    AtomicInteger translations = new AtomicInteger();
+    RefreshSecretWord refresh =
+        new RefreshSecretWord(repository, word -> "t" + translations.incrementAndGet(), 7L);
+
+    refresh.publish(2000);
+    refresh.prepare(2001);
+    refresh.prepare(2001);
+    refresh.prepare(2002);
+    refresh.prepare(1999); // already past
+    assertEquals(3, translations.get());
+
+    assertTrue(refresh.publish(2001));
+    assertEquals("t2", SecretWord.getCurrent().getTranslation());
+    assertTrue(refresh.execute()); // the next number, 2002
+    assertEquals(2002, SecretWord.getCurrent().getNumber());
+    assertEquals("t3", SecretWord.getCurrent().getTranslation());
+    assertEquals(3, translations.get());
+
+    refresh.prepare(2004);
+    assertTrue(refresh.publish(2005)); // skips and discards 2004
+    assertTrue(refresh.publish(2004));
+    assertEquals(6, translations.get());
+  }
+
+  @Test
+  void unpreparedWordsShouldWaitForTheirTranslation() throws Exception {
+    RefreshSecretWord refresh = new RefreshSecretWord(repository,
+        new CachedTranslationAdapter(word -> slowly("late"), null), 11L);
+
+    assertTrue(refresh.publish(3000)); // as on start, with an empty cache
+    assertEquals("late", SecretWord.getCurrent().getTranslation());
+
+    refresh.prepare(3001);
+    assertTrue(refresh.publish(3001)); // prepared, but still being translated
+    assertEquals(RefreshSecretWord.NO_TRANSLATION, SecretWord.getCurrent().getTranslation());
+  }
+
+  private static String slowly(String translation) {
+    try {
+      Thread.sleep(200);
+    } catch (InterruptedException e) {
+      return null;
+    }
+    return translation;
+  }
+}
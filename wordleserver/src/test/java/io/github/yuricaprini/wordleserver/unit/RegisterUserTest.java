@@ -0,0 +1,55 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.rmi.RemoteException;
+import java.util.Collections;
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.remoteinterfaces.UserRegistrationRemoteService.RegistrationOutcome;
+import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.RegisterUser;
+
+class RegisterUserTest {
+
+  @Test
+  void registerUserShouldNotRegisterAUserWhoseRegistrationCannotBeRecorded() throws Exception {
+    RegisterUser failing = new RegisterUser(new Repository(true));
+
+    assertThrows(RemoteException.class, () -> failing.registerUser("unrecorded", "Passw0rd"));
+    assertNull(RegisteredUsers.getInstance().getBy(new Username("unrecorded")));
+
+    RegisterUser working = new RegisterUser(new Repository(false));
+    assertEquals(RegistrationOutcome.OK, working.registerUser("unrecorded", "Passw0rd"));
+    assertNotNull(RegisteredUsers.getInstance().getBy(new Username("unrecorded")));
+  }
+
+  /**
+   * A repository whose appends either all fail or all succeed.
+   */
+  private static class Repository implements EntityRepository {
+
+    private final boolean isFailing;
+
+    Repository(boolean isFailing) {
+      this.isFailing = isFailing;
+    }
+
+    @Override
+    public Iterator<User> loadAll() {
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public void pushAll(Iterator<User> iterator) {}
+
+    @Override
+    public void append(Mutation mutation, User user) throws IOException {
+      if (isFailing)
+        throw new IOException("disk full");
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle02usecases.SecretWordRepository;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.SecretWordRepositoryAdapter;
+
+class SecretWordRepositoryAdapterTest {
+
+  private final SecretWordRepository repository = SecretWordRepositoryAdapter.getInstance();
+
+  @Test
+  void containsShouldFindEveryVocabularyWord() throws Exception {
+    assertTrue(repository.contains("abalienate")); // first
+    assertTrue(repository.contains("abaptiston"));
+    assertTrue(repository.contains("accomplish"));
+  }
+
+  @Test
+  void containsShouldRejectWordsNotInVocabulary() throws Exception {
+    assertFalse(repository.contains("aaaaaaaaaa"));
+    assertFalse(repository.contains("zzzzzzzzzz"));
+    assertFalse(repository.contains("abalienat"));
+    assertFalse(repository.contains("abalienatè"));
+    assertFalse(repository.contains(""));
+    assertThrows(NullPointerException.class, () -> repository.contains(null));
+  }
+
+  @Test
+  void getRandomShouldReturnVocabularyWords() throws Exception {
+    for (int i = 0; i < 100; i++)
+      assertTrue(repository.contains(repository.getRandom()));
+  }
+}
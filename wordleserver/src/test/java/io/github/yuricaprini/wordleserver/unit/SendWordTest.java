@@ -0,0 +1,80 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.auth.AuthToken;
+import io.github.yuricaprini.wordleprotocol.dtos.WordDTO;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleserver.circle01entities.Password;
+import io.github.yuricaprini.wordleserver.circle01entities.Ranking;
+import io.github.yuricaprini.wordleserver.circle01entities.RegisteredUsers;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle02usecases.EntityRepository;
+import io.github.yuricaprini.wordleserver.circle02usecases.SecretWordRepository;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.SendWord;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.SecretWordRepositoryAdapter;
+
+class SendWordTest {
+
+  @Test
+  void rankingShouldFollowTheStatsEvenIfTheirChangeCannotBeJournaled() throws Exception {
+    AuthToken.init("superSecretKey", 15 * 60 * 1000);
+    SecretWordRepository repository = SecretWordRepositoryAdapter.getInstance();
+    String secretWord = repository.get(0);
+    SecretWord.setNew(secretWord, "traduzione");
+
+    User user = new User(new Username("nojournal"), new Password("Passw0rd"));
+    RegisteredUsers.getInstance().add(user);
+    Ranking.getInstance().add(user.getUsername(), user.getStats().getScore());
+    user.requestsNewGame();
+
+    SendWord sendWord = new SendWord(ProtocolFactoryProvider.newWordleResponseFactory(),
+        repository, top3 -> {}, new FailingRepository());
+    WordleRequest request = ProtocolFactoryProvider.newWordleRequestFactory().createSendWordRequest(
+        AuthToken.newIstance("nojournal"), WordDTO.newInstance(secretWord));
+
+    assertThrows(IOException.class, () -> sendWord.execute(request));
+
+    Score score = user.getStats().getScore();
+    assertNotEquals(new Score(0), score);
+    assertEquals(score, scoreInRanking(user.getUsername()));
+  }
+
+  private static Score scoreInRanking(Username username) {
+    Score score = null;
+    for (Pair<Username, Score> player : Ranking.getInstance()
+        .getPage(null, true, Integer.MAX_VALUE).getPlayers())
+      if (player.getValue0().equals(username)) {
+        assertNull(score); // listed once
+        score = player.getValue1();
+      }
+    return score;
+  }
+
+  /**
+   * A repository whose appends all fail.
+   */
+  private static class FailingRepository implements EntityRepository {
+
+    @Override
+    public Iterator<User> loadAll() {
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public void pushAll(Iterator<User> iterator) {}
+
+    @Override
+    public void append(Mutation mutation, User user) throws IOException {
+      throw new IOException("disk full");
+    }
+  }
+}
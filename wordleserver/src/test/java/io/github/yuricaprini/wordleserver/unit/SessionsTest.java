@@ -0,0 +1,64 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle01entities.Password;
+import io.github.yuricaprini.wordleserver.circle01entities.Sessions;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+
+class SessionsTest {
+
+  @AfterEach
+  void tearDown() {
+    Sessions.getInstance().setIdleTimeout(Sessions.DEFAULT_IDLE_TIMEOUT);
+  }
+
+  @Test
+  void getInstanceShouldBeOK() {
+    assertSame(Sessions.getInstance(), Sessions.getInstance());
+  }
+
+  @Test
+  void openShouldThrowsExceptionIfUserNull() {
+    assertThrows(NullPointerException.class, () -> Sessions.getInstance().open(null));
+  }
+
+  @Test
+  void getByShouldReturnTheUserOfAnOpenSession() throws Exception {
+    User user = new User(new Username("session1"), new Password("Password1"));
+    String id1 = Sessions.getInstance().open(user);
+    String id2 = Sessions.getInstance().open(user);
+
+    assertNotEquals(id1, id2);
+    assertEquals(-1, id1.indexOf('.'));
+    assertSame(user, Sessions.getInstance().getBy(id1));
+    assertSame(user, Sessions.getInstance().getBy(id2));
+    assertNull(Sessions.getInstance().getBy("unknown"));
+  }
+
+  @Test
+  void closeShouldEndOnlyTheClosedSession() throws Exception {
+    User user = new User(new Username("session2"), new Password("Password1"));
+    String id1 = Sessions.getInstance().open(user);
+    String id2 = Sessions.getInstance().open(user);
+
+    assertTrue(Sessions.getInstance().close(id1));
+    assertFalse(Sessions.getInstance().close(id1));
+    assertNull(Sessions.getInstance().getBy(id1));
+    assertSame(user, Sessions.getInstance().getBy(id2));
+  }
+
+  @Test
+  void getByShouldReturnNullIfSessionIdle() throws Exception {
+    User user = new User(new Username("session3"), new Password("Password1"));
+    String id = Sessions.getInstance().open(user);
+    Sessions.getInstance().setIdleTimeout(0);
+    Thread.sleep(5);
+
+    assertNull(Sessions.getInstance().getBy(id));
+    Sessions.getInstance().setIdleTimeout(Sessions.DEFAULT_IDLE_TIMEOUT);
+    assertNull(Sessions.getInstance().getBy(id));
+  }
+}
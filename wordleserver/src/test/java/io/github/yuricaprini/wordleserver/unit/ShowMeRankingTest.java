@@ -0,0 +1,45 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.dtos.PlayerDTO;
+import io.github.yuricaprini.wordleprotocol.ioutils.InputQueue;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle02usecases.implementations.ShowMeRanking;
+
+class ShowMeRankingTest {
+
+  @Test
+  void fullestPageShouldFitInAResponseInEveryWireFormat() throws Exception {
+    char[] name = new char[Username.MAX_LEN];
+    Arrays.fill(name, '<'); // escaped as a six-character unicode escape
+    PlayerDTO[] players = new PlayerDTO[ShowMeRanking.MAX_PAGEDIM];
+    Arrays.fill(players, PlayerDTO.newInstance(new String(name), Integer.MIN_VALUE));
+    char[] cursor = new char[4 * (Integer.BYTES + 3 * Username.MAX_LEN) / 3 + 1];
+    Arrays.fill(cursor, 'A');
+
+    for (WireFormat wireFormat : WireFormat.values()) {
+      WordleResponse.Factory factory = ProtocolFactoryProvider.newWordleResponseFactory(wireFormat);
+      OutputQueue outputQueue = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+      factory.createShowMeRankingOK(players, new String(cursor)).serializeTo(outputQueue);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      outputQueue.drainTo(Channels.newChannel(bytes));
+      assertTrue(bytes.size() <= WordleResponse.MAX_SIZE, wireFormat + ": " + bytes.size());
+
+      InputQueue inputQueue =
+          ProtocolFactoryProvider.newInputQueueFactory().createInputQueue(bytes.size());
+      inputQueue.fillFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+      WordleResponse response = factory.createEmptyResponse();
+      assertTrue(response.populateFrom(inputQueue));
+      assertEquals(ShowMeRanking.MAX_PAGEDIM, response.getPlayerDTOs().length);
+    }
+  }
+}
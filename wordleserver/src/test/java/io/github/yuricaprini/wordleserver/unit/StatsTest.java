@@ -0,0 +1,66 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
+
+class StatsTest {
+
+  @Test
+  void withGameWonShouldKeepScoreAndOldScoreUpToDate() {
+    Stats stats = new Stats();
+    assertEquals(new Score(0), stats.getScore());
+
+    stats = stats.withGameWon(1);
+    assertEquals(new Score(0), stats.getOldScore());
+    assertEquals(new Score(Game.MAX_ATTEMPTS - 1 + 10), stats.getScore());
+
+    stats = stats.withGameLost().withGameWon(Game.MAX_ATTEMPTS);
+    assertEquals(new Score(Game.MAX_ATTEMPTS - 1 + 10), stats.getOldScore());
+    assertEquals(new Score(Game.MAX_ATTEMPTS - 1 + 10 + 10), stats.getScore());
+    assertEquals(1, stats.getGuessCount(1));
+    assertEquals(1, stats.getGuessCount(Game.MAX_ATTEMPTS));
+    assertEquals(3, stats.getPlayed());
+    assertEquals(67, stats.getWinPercentage());
+  }
+
+  @Test
+  void withGameWonShouldThrowExceptionIfGuessesAreOutOfRange() {
+    Stats stats = new Stats();
+    assertThrows(IllegalArgumentException.class, () -> stats.withGameWon(0));
+    assertThrows(IllegalArgumentException.class, () -> stats.withGameWon(Game.MAX_ATTEMPTS + 1));
+    assertEquals(0, stats.getPlayed());
+  }
+
+  @Test
+  void restoreShouldRecomputeScoreFromDistribution() {
+    int[] distribution = new int[Game.MAX_ATTEMPTS];
+    distribution[1] = 2;
+    distribution[Game.MAX_ATTEMPTS - 1] = 1;
+
+    Stats stats = Stats.restore(4, 3, 3, 3, distribution, new Score(7));
+    distribution[1] = 0;
+
+    assertEquals(new Score(7), stats.getOldScore());
+    assertEquals(new Score(2 * (Game.MAX_ATTEMPTS - 2 + 10) + 10), stats.getScore());
+    assertEquals(2, stats.getGuessCount(2));
+    assertArrayEquals(new int[] {0, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1},
+        stats.getGuessDistribution());
+  }
+
+  @Test
+  void withGameWonShouldLeaveTheOriginalStatsUnchanged() {
+    Stats stats = new Stats();
+
+    Stats updated = stats.withGameWon(3).withGameLost();
+
+    assertEquals(0, stats.getGuessCount(3));
+    assertEquals(new Score(0), stats.getScore());
+    assertEquals(0, stats.getPlayed());
+    assertEquals(1, updated.getGuessCount(3));
+    assertEquals(2, updated.getPlayed());
+    assertEquals(0, updated.getCurrentStreak());
+  }
+}
@@ -0,0 +1,166 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleprotocol.ProtocolFactoryProvider;
+import io.github.yuricaprini.wordleprotocol.dtos.CredentialsDTO;
+import io.github.yuricaprini.wordleprotocol.ioutils.OutputQueue;
+import io.github.yuricaprini.wordleprotocol.messages.WireFormat;
+import io.github.yuricaprini.wordleprotocol.messages.WordleRequest;
+import io.github.yuricaprini.wordleprotocol.messages.WordleResponse;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.ClientRequestAdapter;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.ClientConnectionHandler;
+import io.github.yuricaprini.wordleserver.circle04frameworks.implementations.ThreadPerConnectionListenerService;
+
+class ThreadPerConnectionListenerServiceTest {
+
+  private ServerSocketChannel listeningChannel;
+  private ThreadPerConnectionListenerService listener;
+  private ExecutorService listenerThread;
+  private Future<?> listening;
+  private List<Thread> connectionThreads;
+  private List<SocketChannel> clients;
+
+  @BeforeEach
+  void startListener() throws Exception {
+    listeningChannel = ServerSocketChannel.open().bind(new InetSocketAddress("localhost", 0));
+    connectionThreads = new CopyOnWriteArrayList<Thread>();
+    clients = new CopyOnWriteArrayList<SocketChannel>();
+
+    EnumMap<WireFormat, WordleRequest.Factory> requestFactories =
+        new EnumMap<WireFormat, WordleRequest.Factory>(WireFormat.class);
+    EnumMap<WireFormat, WordleResponse.Factory> responseFactories =
+        new EnumMap<WireFormat, WordleResponse.Factory>(WireFormat.class);
+    for (WireFormat wireFormat : WireFormat.values()) {
+      requestFactories.put(wireFormat, ProtocolFactoryProvider.newWordleRequestFactory(wireFormat));
+      responseFactories.put(wireFormat,
+          ProtocolFactoryProvider.newWordleResponseFactory(wireFormat));
+    }
+
+    listener = new ThreadPerConnectionListenerService(listeningChannel,
+        channel -> new ClientConnectionHandler(channel,
+            new ClientRequestAdapter((type, responseFactory) -> request -> responseFactory
+                .createLoginNO(WordleResponse.ErrorCode.INVALID_CREDENTIALS), requestFactories,
+                responseFactories),
+            ProtocolFactoryProvider.newInputQueueFactory()
+                .createInputQueue(WordleRequest.MAX_SIZE + 1),
+            ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue()),
+        runnable -> {
+          Thread thread = new Thread(runnable);
+          connectionThreads.add(thread);
+          return thread;
+        });
+    listenerThread = Executors.newSingleThreadExecutor();
+    listening = listenerThread.submit(listener);
+    listener.awaitIsUpAndRunning();
+  }
+
+  @AfterEach
+  void stopListener() throws Exception {
+    listener.shutdown();
+    listenerThread.shutdown();
+    assertTrue(listenerThread.awaitTermination(10, TimeUnit.SECONDS));
+    for (SocketChannel client : clients)
+      client.close();
+  }
+
+  @Test
+  void acceptedConnectionsShouldBeServedByThreadsOfTheirOwn() throws Exception {
+    SocketChannel first = connect();
+    SocketChannel second = connect();
+
+    assertArrayEquals(expectedResponses(1), exchange(first, 1));
+    assertArrayEquals(expectedResponses(1), exchange(second, 1));
+    assertEquals(2, connectionThreads.size());
+  }
+
+  @Test
+  void pipelinedRequestsShouldAllBeAnswered() throws Exception {
+    SocketChannel client = connect();
+
+    assertArrayEquals(expectedResponses(3), exchange(client, 3));
+  }
+
+  @Test
+  void connectionShutDownByClientShouldBeClosed() throws Exception {
+    SocketChannel client = connect();
+    assertArrayEquals(expectedResponses(1), exchange(client, 1));
+
+    client.shutdownOutput();
+
+    assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+    awaitConnectionThreadsEnded();
+  }
+
+  @Test
+  void stoppedListenerShouldCloseTheListeningChannelAndTheConnections() throws Exception {
+    SocketChannel client = connect();
+    assertArrayEquals(expectedResponses(1), exchange(client, 1)); // then idle
+
+    listener.shutdown();
+    listening.get(10, TimeUnit.SECONDS);
+
+    assertFalse(listeningChannel.isOpen());
+    assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+    awaitConnectionThreadsEnded();
+  }
+
+  private SocketChannel connect() throws IOException {
+    SocketChannel client = SocketChannel.open(listeningChannel.getLocalAddress());
+    clients.add(client);
+    return client;
+  }
+
+  /**
+   * Sends the specified number of login requests, then reads as many bytes as their responses.
+   */
+  private static byte[] exchange(SocketChannel client, int requests) throws Exception {
+    WordleRequest.Factory requestFactory = ProtocolFactoryProvider.newWordleRequestFactory();
+    OutputQueue outputQueue = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    for (int i = 0; i < requests; i++)
+      requestFactory.createLoginRequest(CredentialsDTO.newInstance("player", "Password1"))
+          .serializeTo(outputQueue);
+    while (!outputQueue.isEmpty())
+      outputQueue.drainTo(client);
+
+    ByteBuffer responses = ByteBuffer.allocate(expectedResponses(requests).length);
+    while (responses.hasRemaining())
+      if (client.read(responses) == -1)
+        break;
+    return responses.array();
+  }
+
+  private static byte[] expectedResponses(int requests) throws Exception {
+    OutputQueue outputQueue = ProtocolFactoryProvider.newOutputQueueFactory().createOutputQueue();
+    for (int i = 0; i < requests; i++)
+      ProtocolFactoryProvider.newWordleResponseFactory()
+          .createLoginNO(WordleResponse.ErrorCode.INVALID_CREDENTIALS).serializeTo(outputQueue);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    outputQueue.drainTo(Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+
+  private void awaitConnectionThreadsEnded() throws InterruptedException {
+    for (Thread connectionThread : connectionThreads) {
+      connectionThread.join(10000);
+      assertFalse(connectionThread.isAlive());
+    }
+  }
+}
@@ -2,9 +2,17 @@ package io.github.yuricaprini.wordleserver.unit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
+import io.github.yuricaprini.wordleserver.circle01entities.Clue;
+import io.github.yuricaprini.wordleserver.circle01entities.Game;
+import io.github.yuricaprini.wordleserver.circle01entities.GuessOutcome;
 import io.github.yuricaprini.wordleserver.circle01entities.Password;
+import io.github.yuricaprini.wordleserver.circle01entities.Score;
+import io.github.yuricaprini.wordleserver.circle01entities.SecretWord;
+import io.github.yuricaprini.wordleserver.circle01entities.Stats;
 import io.github.yuricaprini.wordleserver.circle01entities.User;
 import io.github.yuricaprini.wordleserver.circle01entities.Username;
+import io.github.yuricaprini.wordleserver.circle01entities.Word;
+import io.github.yuricaprini.wordleserver.circle01entities.exceptions.GameAlreadyPlayedException;
 
 class UserTest {
 
@@ -91,5 +99,103 @@ class UserTest {
         "User{username=" + username.toString() + ", password=" + password.toString() + '}';
     assertEquals(expectedString, user.toString());
   }
-}
 
+  @Test
+  void restoreShouldKeepLastGameAndStats() throws Exception {
+    SecretWord secretWord = SecretWord.restore("accomplish", 7, "compiere");
+    Clue[] clues = {new Clue(new Word("abcdefghij"), secretWord),
+        new Clue(new Word("accomplish"), secretWord)};
+    int[] distribution = new int[Game.MAX_ATTEMPTS];
+    distribution[1] = 1;
+
+    User user = User.restore(new Username("username"), new Password("Password1"),
+        Game.restore(secretWord, clues, true),
+        Stats.restore(1, 1, 1, 1, distribution, new Score(0)));
+
+    Game lastGame = user.getLastGameCopy();
+    assertTrue(lastGame.isStarted());
+    assertTrue(lastGame.isWon());
+    assertEquals(7, lastGame.getSecretWord().getNumber());
+    assertEquals(2, lastGame.getAttempts());
+    assertEquals(1, user.getStats().getWon());
+    assertEquals(user.getStats().getScore(), new Score(Game.MAX_ATTEMPTS - 2 + 10));
+    assertThrows(IllegalArgumentException.class,
+        () -> Stats.restore(0, 0, 0, 0, new int[1], new Score(0)));
+  }
+
+  @Test
+  void attemptsToGuessShouldReturnTheNewClueAndAnUnchangingHistory() throws Exception {
+    SecretWord.setNew("accomplish", "compiere");
+    User user = new User(new Username("guesser"), new Password("Password1"));
+    user.requestsNewGame();
+
+    GuessOutcome first = user.attemptsToGuess(new Word("abcdefghij"));
+    GuessOutcome second = user.attemptsToGuess(new Word("accomplish"));
+
+    assertEquals(1, first.getHistory().size());
+    assertFalse(first.isGameOver());
+    assertNull(first.getStats());
+    assertEquals(2, second.getHistory().size());
+    assertSame(first.getClue(), second.getHistory().getPrevious().getLast());
+    assertTrue(second.getClue().matchAllGreen());
+    assertTrue(second.isGameOver());
+    assertEquals("accomplish", second.getSecretWord().getValue());
+    assertEquals(1, second.getStats().getWon());
+    assertSame(second.getStats(), user.getStats());
+  }
+
+  @Test
+  void restoredGameShouldHaveTheHistoryOfItsClues() {
+    SecretWord secretWord = SecretWord.restore("accomplish", 7, "compiere");
+    Clue[] clues = {new Clue(new Word("abcdefghij"), secretWord),
+        new Clue(new Word("accomplish"), secretWord)};
+
+    Game.History history = Game.restore(secretWord, clues, true).getHistory();
+
+    assertEquals(2, history.size());
+    assertSame(clues[1], history.getLast());
+    assertSame(clues[0], history.getPrevious().getLast());
+    assertEquals(0, history.getPrevious().getPrevious().size());
+  }
+
+  @Test
+  void requestsNewGameShouldStartANewGameOnlyWhenANewSecretWordIsPublished() throws Exception {
+    SecretWord.setNew("accomplish", "compiere");
+    SecretWord published = SecretWord.getCurrent();
+    assertSame(published, SecretWord.getCurrent());
+
+    User user = new User(new Username("publisher"), new Password("Password1"));
+    user.requestsNewGame();
+    user.attemptsToGuess(new Word("abcdefghij"));
+    assertEquals(1, user.requestsNewGame().length);
+
+    user.attemptsToGuess(new Word("accomplish"));
+    assertThrows(GameAlreadyPlayedException.class, () -> user.requestsNewGame());
+
+    SecretWord.setNew("accomplish", "compiere"); // same value, new publication
+    assertEquals(published.getEpoch() + 1, SecretWord.getCurrent().getEpoch());
+    assertEquals(published.getNumber() + 1, SecretWord.getCurrent().getNumber());
+    assertEquals(0, user.requestsNewGame().length);
+    assertEquals(0, SecretWord.restore("accomplish", 7, "compiere").getEpoch());
+  }
+
+  @Test
+  void requestsNewGameShouldKeepRestoredGamesOfTheRepublishedSecretWord() throws Exception {
+    SecretWord played = SecretWord.restore("accomplish", 123456, "compiere");
+    Clue[] won = {new Clue(new Word("accomplish"), played)};
+    Clue[] started = {new Clue(new Word("abcdefghij"), played)};
+    User winner = User.restore(new Username("winner"), new Password("Password1"),
+        Game.restore(played, won, true), new Stats());
+    User player = User.restore(new Username("player"), new Password("Password1"),
+        Game.restore(played, started, true), new Stats());
+
+    SecretWord.setNew("accomplish", 123456, "compiere"); // the restart republishes it
+
+    assertThrows(GameAlreadyPlayedException.class, () -> winner.requestsNewGame());
+    assertEquals(1, player.requestsNewGame().length);
+    assertEquals(0, player.getStats().getPlayed());
+
+    SecretWord.setNew("accomplish", 123457, "compiere");
+    assertEquals(0, winner.requestsNewGame().length);
+  }
+}
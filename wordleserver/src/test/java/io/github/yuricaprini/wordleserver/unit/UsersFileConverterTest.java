@@ -0,0 +1,37 @@
+package io.github.yuricaprini.wordleserver.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.github.yuricaprini.wordleserver.circle01entities.User;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.BinaryEntityRepositoryAdapter;
+import io.github.yuricaprini.wordleserver.circle03_adapters.implementations.EntityRepositoryAdapter;
+import io.github.yuricaprini.wordleserver.circle05configurations.UsersFileConverter;
+
+class UsersFileConverterTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void mainShouldConvertEveryUserOfTheJsonFile() throws Exception {
+    Path jsonFile = directory.resolve("users.json");
+    Path binaryFile = directory.resolve("users.bin");
+    List<User> users = new ArrayList<User>();
+    for (int i = 0; i < 1000; i++) // more than fit in the write buffer of the converter
+      users.add(
+          BinaryEntityRepositoryAdapterTest.newUser("user" + i, i % 3 == 0 ? null : "ostrica"));
+    new EntityRepositoryAdapter(jsonFile.toString()).pushAll(users.iterator());
+
+    UsersFileConverter.main(new String[] {jsonFile.toString(), binaryFile.toString()});
+
+    List<User> converted = BinaryEntityRepositoryAdapterTest
+        .loadAll(new BinaryEntityRepositoryAdapter(binaryFile.toString()));
+    assertEquals(users.size(), converted.size());
+    for (int i = 0; i < users.size(); i++)
+      BinaryEntityRepositoryAdapterTest.assertSameUser(users.get(i), converted.get(i));
+  }
+}